@@ -0,0 +1,30 @@
+package io.github.millij.poi;
+
+import io.github.millij.poi.util.CancellationToken;
+import lombok.Getter;
+
+/**
+ * Thrown at the next row of a read or write once its {@link CancellationToken} is cancelled, past
+ * its deadline, or the running thread is interrupted.
+ *
+ * @author Fang Gang
+ */
+public class OperationCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Why the operation was stopped.
+     */
+    public enum Reason {
+        CANCELLED, DEADLINE_EXCEEDED, INTERRUPTED
+    }
+
+    @Getter
+    private final Reason reason;
+
+    public OperationCancelledException(Reason reason) {
+        super(String.format(":: Operation stopped - %s", reason));
+        this.reason = reason;
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.github.millij.poi.ss.binder;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Binder of a sheet bean type, generated at compile time by the {@link SheetBinderProcessor} for
+ * the <code>@Sheet</code> beans and the beans with <code>@SheetColumn</code> fields. Binders
+ * replace the reflection over the bean : the column mapping, the bean creation and the property
+ * reads and writes.
+ *
+ * @param <T> the bean type
+ * @author Fang Gang
+ * @see SheetBinders
+ */
+public interface SheetBinder<T> {
+
+    /**
+     * @return the bean type
+     */
+    Class<T> getBeanType();
+
+    /**
+     * @return the columns of the bean, one per declared (non-static) field.
+     */
+    List<Column> getColumns();
+
+    /**
+     * @return a new bean instance
+     */
+    T newInstance();
+
+    /**
+     * Sets the property of the bean, when the value is an instance of the property type.
+     *
+     * @param bean the bean
+     * @param property name of the property
+     * @param value the value
+     * @return false when the value was not set (other type, null, or no accessible setter), to be
+     *         converted and set by the caller then.
+     */
+    boolean set(T bean, String property, Object value);
+
+    /**
+     * @param bean the bean
+     * @param property name of a {@link Column#isReadable() readable} property
+     * @return the property value
+     * @throws IllegalArgumentException when the property is not readable by the binder.
+     */
+    Object get(T bean, String property);
+
+
+    /**
+     * A column of the bean, as mapped from the field and its <code>@SheetColumn</code>.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    class Column {
+
+        /**
+         * Property name
+         */
+        String property;
+
+        /**
+         * Property type
+         */
+        Class<?> type;
+
+        /**
+         * Name of the column, the field name when not set in the annotation.
+         */
+        String columnName;
+
+        boolean nullable;
+
+        boolean exclusive;
+
+        /**
+         * Whether the field is annotated with <code>@SheetColumn</code>.
+         */
+        boolean annotated;
+
+        /**
+         * Whether {@link SheetBinder#get(Object, String)} can read the property.
+         */
+        boolean readable;
+    }
+
+}
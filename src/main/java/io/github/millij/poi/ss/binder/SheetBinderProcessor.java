@@ -0,0 +1,369 @@
+package io.github.millij.poi.ss.binder;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor generating a {@link SheetBinder} for every bean annotated with
+ * <code>@Sheet</code>, or having <code>@SheetColumn</code> fields, and the
+ * <code>META-INF/services</code> entry listing them.
+ *
+ * <p>
+ * Properties are accessed through the fields when they are not private, or else through their
+ * setters / getters, either declared or generated by lombok (<code>@Data</code>,
+ * <code>@Setter</code>, <code>@Getter</code>). Properties without any are left to the reflection.
+ * Beans which can not be created with a no-arg constructor get no binder.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@SupportedAnnotationTypes({"io.github.millij.poi.ss.model.annotations.Sheet",
+        "io.github.millij.poi.ss.model.annotations.SheetColumn"})
+public class SheetBinderProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + SheetBinder.class.getName();
+
+    private final Set<String> binderNames = new TreeSet<>();
+
+
+    // AbstractProcessor Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeServiceFile();
+            return false;
+        }
+
+        // Beans : @Sheet classes, and the classes of the @SheetColumn fields
+        final Set<TypeElement> beanTypes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Sheet.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                beanTypes.add((TypeElement) element);
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(SheetColumn.class)) {
+            final Element enclosing = element.getEnclosingElement();
+            if (enclosing != null && enclosing.getKind() == ElementKind.CLASS) {
+                beanTypes.add((TypeElement) enclosing);
+            }
+        }
+
+        for (TypeElement beanType : beanTypes) {
+            final String skipReason = this.checkBeanType(beanType);
+            if (skipReason != null) {
+                this.note(beanType, "No sheet binder generated, " + skipReason);
+                continue;
+            }
+
+            try {
+                this.writeBinder(beanType);
+            } catch (IOException ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write the sheet binder : " + ex.getMessage(), beanType);
+            }
+        }
+        return false;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private String checkBeanType(TypeElement beanType) {
+        final Set<Modifier> modifiers = beanType.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            return "abstract or private class";
+        }
+        if (beanType.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            return "inner class";
+        }
+        if (beanType.getNestingKind() == NestingKind.LOCAL || beanType.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local class";
+        }
+        if (!beanType.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(beanType.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && !ctor.getModifiers().contains(Modifier.PRIVATE)) {
+                return null;
+            }
+        }
+        if (hasLombok(beanType, "NoArgsConstructor")) {
+            return null;
+        }
+        return "no accessible no-arg constructor";
+    }
+
+    private void writeBinder(TypeElement beanType) throws IOException {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(beanType);
+        final String pkgName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+        final String binderName = binaryName.replace('$', '_') + SheetBinders.SUFFIX;
+        final String binderSimpleName = binderName.substring(pkgName.isEmpty() ? 0 : pkgName.length() + 1);
+        final String bean = beanType.getQualifiedName().toString();
+
+        // Columns
+        final List<String> columns = new ArrayList<>();
+        final List<String> setters = new ArrayList<>();
+        final List<String> getters = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(beanType.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.asType().getKind() == TypeKind.TYPEVAR) {
+                continue;
+            }
+
+            final String name = field.getSimpleName().toString();
+            final TypeMirror type = processingEnv.getTypeUtils().erasure(field.asType());
+            final String typeName = type.toString();
+            final String boxedName = type.getKind().isPrimitive()
+                    ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+                            .getQualifiedName().toString()
+                    : typeName;
+
+            // Column, as in the ColumnMapping
+            final SheetColumn sc = field.getAnnotation(SheetColumn.class);
+            final boolean annotated = sc != null;
+            final boolean named = annotated && !sc.value().isEmpty();
+            final String getter = this.getterOf(beanType, field);
+            columns.add(String.format("new Column(%s, %s.class, %s, %s, %s, %s, %s)", literal(name), typeName,
+                    literal(named ? sc.value() : name), !named || sc.nullable(), named && sc.exclusive(), annotated,
+                    getter != null));
+
+            // Setter
+            final String setter = this.setterOf(beanType, field);
+            if (setter != null) {
+                setters.add(String.format("            case %s:%n"
+                        + "                if (value instanceof %s) {%n"
+                        + "                    %s;%n"
+                        + "                    return true;%n"
+                        + "                }%n"
+                        + "                return false;%n", literal(name), boxedName,
+                        String.format(setter, "(" + boxedName + ") value")));
+            }
+
+            // Getter
+            if (getter != null) {
+                getters.add(String.format("            case %s:%n"
+                        + "                return %s;%n", literal(name), getter));
+            }
+        }
+
+        // Source
+        final StringBuilder src = new StringBuilder();
+        if (!pkgName.isEmpty()) {
+            src.append("package ").append(pkgName).append(";\n\n");
+        }
+        src.append("import io.github.millij.poi.ss.binder.SheetBinder;\n\n");
+        src.append("import java.util.Arrays;\nimport java.util.Collections;\nimport java.util.List;\n\n");
+        src.append("/**\n * {@link SheetBinder} of {@link ").append(bean).append("}.\n")
+                .append(" * <p>\n * Generated by ").append(SheetBinderProcessor.class.getName())
+                .append(", do not edit.\n */\n");
+        src.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        src.append("public final class ").append(binderSimpleName).append(" implements SheetBinder<").append(bean)
+                .append("> {\n\n");
+        src.append("    private static final List<Column> COLUMNS = Collections.unmodifiableList(Arrays.asList(");
+        for (int i = 0; i < columns.size(); i++) {
+            src.append(i == 0 ? "\n" : ",\n").append("            ").append(columns.get(i));
+        }
+        src.append("));\n\n");
+
+        src.append("    @Override\n    public Class<").append(bean).append("> getBeanType() {\n")
+                .append("        return ").append(bean).append(".class;\n    }\n\n");
+        src.append("    @Override\n    public List<Column> getColumns() {\n        return COLUMNS;\n    }\n\n");
+        src.append("    @Override\n    public ").append(bean).append(" newInstance() {\n")
+                .append("        return new ").append(bean).append("();\n    }\n\n");
+
+        src.append("    @Override\n    public boolean set(").append(bean)
+                .append(" bean, String property, Object value) {\n");
+        src.append("        switch (property) {\n");
+        setters.forEach(src::append);
+        src.append("            default:\n                return false;\n        }\n    }\n\n");
+
+        src.append("    @Override\n    public Object get(").append(bean).append(" bean, String property) {\n");
+        src.append("        switch (property) {\n");
+        getters.forEach(src::append);
+        src.append("            default:\n")
+                .append("                throw new IllegalArgumentException(\"Property not readable - \" + property);\n")
+                .append("        }\n    }\n\n}\n");
+
+        final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(binderName, beanType);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(src.toString());
+        }
+        binderNames.add(binderName);
+    }
+
+    /**
+     * @return the setter statement format (<code>%s</code> for the value), or null when the
+     *         property can not be set.
+     */
+    private String setterOf(TypeElement beanType, VariableElement field) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.FINAL)) {
+            return null;
+        }
+        if (!modifiers.contains(Modifier.PRIVATE)) {
+            return "bean." + field.getSimpleName() + " = %s";
+        }
+
+        final String setterName = "set" + propertyName(field);
+        for (ExecutableElement method : ElementFilter.methodsIn(beanType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setterName) && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                final TypeMirror paramType = method.getParameters().get(0).asType();
+                return processingEnv.getTypeUtils().isSameType(paramType, field.asType())
+                        ? "bean." + setterName + "(%s)" : null;
+            }
+        }
+        return hasLombokAccessor(beanType, field, "Setter") ? "bean." + setterName + "(%s)" : null;
+    }
+
+    /**
+     * @return the getter expression, or null when the property can not be read.
+     */
+    private String getterOf(TypeElement beanType, VariableElement field) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "bean." + field.getSimpleName();
+        }
+
+        final boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        final String getterName = (isBoolean ? "is" : "get") + propertyName(field);
+        for (ExecutableElement method : ElementFilter.methodsIn(beanType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(getterName) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return "bean." + getterName + "()";
+            }
+        }
+        return hasLombokAccessor(beanType, field, "Getter") ? "bean." + getterName + "()" : null;
+    }
+
+    /**
+     * Property name part of the accessors, as lombok names them (<code>boolean isActive</code> has
+     * <code>isActive()</code> and <code>setActive()</code>).
+     */
+    private static String propertyName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is")
+                && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean hasLombokAccessor(TypeElement beanType, VariableElement field, String accessor) {
+        final AnnotationMirror onField = lombok(field, accessor);
+        if (onField != null) {
+            return isAccessible(onField);
+        }
+
+        final AnnotationMirror onType = lombok(beanType, accessor);
+        if (onType != null) {
+            return isAccessible(onType);
+        }
+        return lombok(beanType, "Data") != null;
+    }
+
+    private static boolean hasLombok(Element element, String annotation) {
+        return lombok(element, annotation) != null;
+    }
+
+    private static AnnotationMirror lombok(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals("lombok." + annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccessible(AnnotationMirror accessorAnnotation) {
+        for (ExecutableElement key : accessorAnnotation.getElementValues().keySet()) {
+            if (key.getSimpleName().contentEquals("value")) {
+                final AnnotationValue level = accessorAnnotation.getElementValues().get(key);
+                final String levelName = String.valueOf(level.getValue());
+                return !"PRIVATE".equals(levelName) && !"NONE".equals(levelName);
+            }
+        }
+        return true;
+    }
+
+    private void writeServiceFile() {
+        if (binderNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            final FileObject serviceFile =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String binderName : binderNames) {
+                    writer.write(binderName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + " : " + ex.getMessage());
+        }
+    }
+
+    private void note(Element element, String msg) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, msg, element);
+    }
+
+    private static String literal(String value) {
+        final StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20 || ch > 0x7e) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.millij.poi.ss.binder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link SheetBinder}s. Binders are found through the
+ * <code>META-INF/services</code> entries written by the {@link SheetBinderProcessor}, or else by
+ * their name (<code>&lt;bean class name&gt;_SheetBinder</code>, nested classes with
+ * <code>_</code>). Bean types without a binder are mapped with reflection.
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public final class SheetBinders {
+
+    /**
+     * Suffix of the generated binder class names.
+     */
+    public static final String SUFFIX = "_SheetBinder";
+
+    private static final Map<Class<?>, SheetBinder<?>> BINDERS = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> MISSES = ConcurrentHashMap.newKeySet();
+
+    static {
+        try {
+            for (SheetBinder<?> binder : ServiceLoader.load(SheetBinder.class, SheetBinders.class.getClassLoader())) {
+                BINDERS.put(binder.getBeanType(), binder);
+            }
+        } catch (ServiceConfigurationError ex) {
+            log.warn("Failed to load the sheet binders : {}", ex.getMessage());
+        }
+    }
+
+    private SheetBinders() {
+        // Utility Class
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * Registers a binder, for the setups where they can not be discovered.
+     *
+     * @param binder the {@link SheetBinder}
+     */
+    public static void register(SheetBinder<?> binder) {
+        BINDERS.put(binder.getBeanType(), binder);
+        MISSES.remove(binder.getBeanType());
+    }
+
+    /**
+     * @param <T> the bean type
+     * @param beanType the bean type
+     * @return the binder of the bean type, or null when there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SheetBinder<T> find(Class<T> beanType) {
+        // Sanity checks
+        if (beanType == null || MISSES.contains(beanType)) {
+            return null;
+        }
+
+        final SheetBinder<?> binder = BINDERS.get(beanType);
+        if (binder != null) {
+            return (SheetBinder<T>) binder;
+        }
+
+        try {
+            final Class<?> binderClz = Class.forName(binderName(beanType), true, beanType.getClassLoader());
+            final SheetBinder<?> loaded = (SheetBinder<?>) binderClz.getDeclaredConstructor().newInstance();
+            if (loaded.getBeanType() == beanType) {
+                BINDERS.put(beanType, loaded);
+                return (SheetBinder<T>) loaded;
+            }
+        } catch (ClassNotFoundException ex) {
+            log.debug("No sheet binder for - {}", beanType);
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError ex) {
+            log.warn("Failed to load the sheet binder of - {} : {}", beanType, ex.getMessage());
+        }
+
+        MISSES.add(beanType);
+        return null;
+    }
+
+    /**
+     * @param beanType the bean type
+     * @return the fully qualified name of the binder class of the bean type
+     */
+    public static String binderName(Class<?> beanType) {
+        return beanType.getName().replace('$', '_') + SUFFIX;
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.github.millij.poi.ss.checkpoint;
+
+import java.io.IOException;
+
+/**
+ * Storage of the {@link ReadCheckpoint}s, by import id. Implementations must persist the
+ * checkpoints outside the process for the reads to survive a crash.
+ *
+ * @author Fang Gang
+ */
+public interface CheckpointStore {
+
+    /**
+     * Loads the last checkpoint of the import.
+     *
+     * @param importId id of the import
+     * @return the last {@link ReadCheckpoint}, or null if there is none.
+     * @throws IOException if the store is not readable.
+     */
+    ReadCheckpoint load(String importId) throws IOException;
+
+    /**
+     * Saves the checkpoint of the import, replacing the previous one.
+     *
+     * @param importId id of the import
+     * @param checkpoint the {@link ReadCheckpoint}
+     * @throws IOException if the store is not writable.
+     */
+    void save(String importId, ReadCheckpoint checkpoint) throws IOException;
+
+    /**
+     * Removes the checkpoint of the import, once it completed.
+     *
+     * @param importId id of the import
+     * @throws IOException if the store is not writable.
+     */
+    void clear(String importId) throws IOException;
+
+}
@@ -0,0 +1,168 @@
+package io.github.millij.poi.ss.checkpoint;
+
+import io.github.millij.poi.ss.handler.ForwardingRowListener;
+import io.github.millij.poi.ss.handler.RowListener;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Tracks the progress of a resumable read, and saves it to the {@link CheckpointStore} every
+ * <code>interval</code> acknowledged rows, see
+ * {@link io.github.millij.poi.ss.reader.XlsxReader#read(Class, java.io.InputStream, RowListener, Checkpointer)}.
+ *
+ * <p>
+ * A read resumed from a checkpoint skips the sheets before the checkpoint sheet, and the mapping
+ * and the listener callbacks of the rows up to the checkpoint row. Rows acknowledged after the last
+ * saved checkpoint are read again after a crash, i.e., rows are delivered at least once.
+ * </p>
+ *
+ * <p>
+ * The checkpoint is saved as well when the read fails, and is cleared when the read completes.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public class Checkpointer {
+
+    private final CheckpointStore store;
+
+    @Getter
+    private final String importId;
+
+    private final int interval;
+
+    @Getter
+    private ReadCheckpoint resumedFrom;
+
+    private int sheetNo = -1;
+    private int rowNum = -1;
+    private long rowsDone;
+    private int unsaved;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param store the {@link CheckpointStore}
+     * @param importId id of the import, the same id should be passed to resume
+     * @param interval no. of acknowledged rows between the saved checkpoints
+     */
+    public Checkpointer(CheckpointStore store, String importId, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Checkpointer :: Invalid interval - " + interval);
+        }
+
+        this.store = store;
+        this.importId = importId;
+        this.interval = interval;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Loads the checkpoint to resume from, if any. Called by the readers at the start of the read.
+     *
+     * @return the {@link ReadCheckpoint} to resume from, or null to start over.
+     * @throws IOException if the store is not readable.
+     */
+    public ReadCheckpoint start() throws IOException {
+        resumedFrom = store.load(importId);
+        if (resumedFrom != null) {
+            log.info("Import[{}] resuming from {}", importId, resumedFrom);
+            sheetNo = resumedFrom.getSheetNo();
+            rowNum = resumedFrom.getRowNum();
+            rowsDone = resumedFrom.getRowsDone();
+        }
+        unsaved = 0;
+        return resumedFrom;
+    }
+
+    /**
+     * Check whether the sheet was completely read before the checkpoint.
+     *
+     * @param sheetNo index of the sheet (indexed from 0)
+     * @return true if the sheet should be skipped.
+     */
+    public boolean isSheetDone(int sheetNo) {
+        return resumedFrom != null && sheetNo < resumedFrom.getSheetNo();
+    }
+
+    /**
+     * First row of the sheet to be passed to the listener.
+     *
+     * @param sheetNo index of the sheet (indexed from 0)
+     * @return the row number (indexed from 0)
+     */
+    public int getFromRow(int sheetNo) {
+        return resumedFrom != null && sheetNo == resumedFrom.getSheetNo() ? resumedFrom.getRowNum() + 1 : 0;
+    }
+
+    /**
+     * Wraps the listener of the sheet, to acknowledge the rows once the listener returns.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param sheetNo index of the sheet (indexed from 0)
+     * @param listener the actual {@link RowListener}
+     * @return the acknowledging {@link RowListener}
+     */
+    public <T> RowListener<T> wrap(int sheetNo, RowListener<T> listener) {
+        return new ForwardingRowListener<T>(listener) {
+
+            @Override
+            public void row(int rowNum, T rowObj) {
+                super.row(rowNum, rowObj);
+                Checkpointer.this.acknowledge(sheetNo, rowNum);
+            }
+        };
+    }
+
+    /**
+     * Saves the last acknowledged position, if not saved yet.
+     */
+    public void flush() {
+        if (unsaved == 0 || sheetNo < 0) {
+            return;
+        }
+
+        final ReadCheckpoint checkpoint = new ReadCheckpoint(sheetNo, rowNum, rowsDone, System.currentTimeMillis());
+        try {
+            store.save(importId, checkpoint);
+            unsaved = 0;
+            log.debug("Import[{}] checkpoint saved - {}", importId, checkpoint);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to save the checkpoint of import - " + importId, ex);
+        }
+    }
+
+    /**
+     * Clears the checkpoint, once the read completed.
+     *
+     * @throws IOException if the store is not writable.
+     */
+    public void complete() throws IOException {
+        store.clear(importId);
+        log.info("Import[{}] completed, {} rows", importId, rowsDone);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void acknowledge(int sheetNo, int rowNum) {
+        this.sheetNo = sheetNo;
+        this.rowNum = rowNum;
+        this.rowsDone++;
+
+        if (++unsaved >= interval) {
+            this.flush();
+        }
+    }
+
+}
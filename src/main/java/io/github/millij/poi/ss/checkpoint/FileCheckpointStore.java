@@ -0,0 +1,93 @@
+package io.github.millij.poi.ss.checkpoint;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * {@link CheckpointStore} keeping one properties file per import in a directory. Files are
+ * replaced atomically, so a crash while saving leaves the previous checkpoint.
+ *
+ * @author Fang Gang
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private static final String FILE_SUFFIX = ".checkpoint";
+
+    private final File dir;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public FileCheckpointStore(File dir) {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalArgumentException("FileCheckpointStore :: invalid directory - " + dir);
+        }
+        this.dir = dir;
+    }
+
+
+    // CheckpointStore Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public ReadCheckpoint load(String importId) throws IOException {
+        final File file = this.fileOf(importId);
+        if (!file.exists()) {
+            return null;
+        }
+
+        final Properties props = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            props.load(in);
+        }
+
+        return new ReadCheckpoint(Integer.parseInt(props.getProperty("sheetNo")),
+                Integer.parseInt(props.getProperty("rowNum")), Long.parseLong(props.getProperty("rowsDone")),
+                Long.parseLong(props.getProperty("timestamp")));
+    }
+
+    @Override
+    public void save(String importId, ReadCheckpoint checkpoint) throws IOException {
+        final Properties props = new Properties();
+        props.setProperty("sheetNo", String.valueOf(checkpoint.getSheetNo()));
+        props.setProperty("rowNum", String.valueOf(checkpoint.getRowNum()));
+        props.setProperty("rowsDone", String.valueOf(checkpoint.getRowsDone()));
+        props.setProperty("timestamp", String.valueOf(checkpoint.getTimestamp()));
+
+        final File file = this.fileOf(importId);
+        final File tmpFile = new File(dir, file.getName() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmpFile)) {
+            props.store(out, importId);
+        }
+
+        try {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void clear(String importId) throws IOException {
+        Files.deleteIfExists(this.fileOf(importId).toPath());
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private File fileOf(String importId) {
+        return new File(dir, importId.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX);
+    }
+
+}
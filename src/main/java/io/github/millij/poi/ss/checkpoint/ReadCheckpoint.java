@@ -0,0 +1,39 @@
+package io.github.millij.poi.ss.checkpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Progress of a read, as acknowledged by the {@link io.github.millij.poi.ss.handler.RowListener} :
+ * the listener returned for all the rows up to {@link #getRowNum()} of the sheet
+ * {@link #getSheetNo()}.
+ *
+ * @author Fang Gang
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReadCheckpoint {
+
+    /**
+     * Index of the sheet (indexed from 0).
+     */
+    private final int sheetNo;
+
+    /**
+     * Last acknowledged row number of the sheet (indexed from 0).
+     */
+    private final int rowNum;
+
+    /**
+     * No. of rows acknowledged since the start of the import, across the sheets.
+     */
+    private final long rowsDone;
+
+    /**
+     * Time of the checkpoint, in millis.
+     */
+    private final long timestamp;
+
+}
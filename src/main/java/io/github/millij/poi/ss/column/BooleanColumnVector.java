@@ -0,0 +1,51 @@
+package io.github.millij.poi.ss.column;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ColumnType.BOOLEAN} column.
+ *
+ * @author Fang Gang
+ */
+public final class BooleanColumnVector extends ColumnVector {
+
+    private final boolean[] values;
+
+
+    BooleanColumnVector(String name, int capacity) {
+        super(name, ColumnType.BOOLEAN, capacity);
+        this.values = new boolean[capacity];
+    }
+
+
+    /**
+     * @param idx position in the batch
+     * @return the value, <code>false</code> when null.
+     */
+    public boolean get(int idx) {
+        return values[idx];
+    }
+
+    /**
+     * @return the values (not a copy), only the first {@link ColumnBatch#getSize()} are valid.
+     */
+    public boolean[] getValues() {
+        return values;
+    }
+
+    @Override
+    void set(int idx, Object cellValue) {
+        if (isBlank(cellValue)) {
+            return;
+        }
+        values[idx] = toBoolean(cellValue);
+        setValid(idx);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        Arrays.fill(values, false);
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.github.millij.poi.ss.column;
+
+import lombok.Getter;
+
+/**
+ * A fixed-size batch of rows held column-wise, see {@link ColumnVector}. The batch (and its
+ * vectors) is reused for the whole read, listeners should copy out what they need to keep.
+ *
+ * @author Fang Gang
+ */
+public final class ColumnBatch {
+
+    @Getter
+    private final ColumnSchema schema;
+
+    @Getter
+    private final int capacity;
+
+    /**
+     * No. of rows in the batch.
+     */
+    @Getter
+    private int size;
+
+    private final int[] rowNums;
+
+    private final ColumnVector[] columns;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    ColumnBatch(ColumnSchema schema, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("ColumnBatch :: invalid batch size - " + capacity);
+        }
+
+        this.schema = schema;
+        this.capacity = capacity;
+        this.rowNums = new int[capacity];
+        this.columns = new ColumnVector[schema.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnVector.create(schema.getName(i), schema.getType(i), capacity);
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param idx position in the batch
+     * @return the row number in the sheet (indexed from 0)
+     */
+    public int getRowNum(int idx) {
+        return rowNums[idx];
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public ColumnVector getColumn(int idx) {
+        return columns[idx];
+    }
+
+    public ColumnVector getColumn(String name) {
+        final int idx = schema.indexOf(name);
+        if (idx < 0) {
+            throw new IllegalArgumentException("ColumnBatch :: no such column - " + name);
+        }
+        return columns[idx];
+    }
+
+    public DoubleColumnVector getDoubleColumn(String name) {
+        return (DoubleColumnVector) getColumn(name);
+    }
+
+    public LongColumnVector getLongColumn(String name) {
+        return (LongColumnVector) getColumn(name);
+    }
+
+    public BooleanColumnVector getBooleanColumn(String name) {
+        return (BooleanColumnVector) getColumn(name);
+    }
+
+    public StringColumnVector getStringColumn(String name) {
+        return (StringColumnVector) getColumn(name);
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    int addRow(int rowNum) {
+        rowNums[size] = rowNum;
+        return size++;
+    }
+
+    void clear() {
+        for (ColumnVector column : columns) {
+            column.clear();
+        }
+        size = 0;
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.github.millij.poi.ss.column;
+
+import io.github.millij.poi.CellException;
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+
+/**
+ * Fills the raw {@link SheetRow}s into {@link ColumnBatch}es of the {@link ColumnSchema}, and
+ * passes the batches to the {@link ColumnBatchListener} as they fill up. Call {@link #finish()}
+ * after the read for the last partial batch.
+ *
+ * @author Fang Gang
+ */
+public class ColumnBatchCollector implements RowListener<SheetRow> {
+
+    private final int headerRowNum;
+
+    private final ColumnBatch batch;
+
+    private final ColumnBatchListener listener;
+
+    private String[] colRefs;
+
+    private CancellationToken cancellation;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public ColumnBatchCollector(ColumnSchema schema, int batchSize, ColumnBatchListener listener) {
+        this(schema, batchSize, listener, 0);
+    }
+
+    public ColumnBatchCollector(ColumnSchema schema, int batchSize, ColumnBatchListener listener, int headerRowNum) {
+        this.headerRowNum = headerRowNum;
+        this.batch = new ColumnBatch(schema, batchSize);
+        this.listener = listener;
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param cancellation the token stopping the read, checked by the readers before each row.
+     * @return this collector
+     */
+    public ColumnBatchCollector setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public CancellationToken cancellation() {
+        return cancellation;
+    }
+
+    @Override
+    public void row(int rowNum, SheetRow sheetRow) {
+        // Skip rows before header row
+        if (rowNum < headerRowNum) {
+            return;
+        }
+
+        if (rowNum == headerRowNum) {
+            colRefs = batch.getSchema().resolveColumnRefs(sheetRow);
+            return;
+        }
+
+        if (colRefs == null) {
+            throw new ColumnNotFoundException(headerRowNum);
+        }
+
+        final int idx = batch.addRow(rowNum);
+        for (int i = 0; i < colRefs.length; i++) {
+            final Object cellValue = sheetRow.getCellValue(colRefs[i]);
+            if (cellValue == null) {
+                continue;
+            }
+
+            final ColumnVector column = batch.getColumn(i);
+            try {
+                column.set(idx, cellValue);
+            } catch (IllegalArgumentException ex) {
+                throw new CellException(colRefs[i] + (rowNum + 1), column.getName(), ex.getMessage());
+            }
+        }
+
+        if (batch.isFull()) {
+            listener.batch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Passes the last partially filled batch, if any, to the listener.
+     */
+    public void finish() {
+        if (batch.getSize() > 0) {
+            listener.batch(batch);
+            batch.clear();
+        }
+    }
+
+}
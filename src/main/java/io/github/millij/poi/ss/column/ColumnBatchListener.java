@@ -0,0 +1,16 @@
+package io.github.millij.poi.ss.column;
+
+/**
+ * Callback of the columnar reads, called once per filled {@link ColumnBatch} (the last batch of a
+ * read may be partially filled).
+ *
+ * @author Fang Gang
+ */
+public interface ColumnBatchListener {
+
+    /**
+     * @param batch the batch, reused after the callback returns.
+     */
+    void batch(ColumnBatch batch);
+
+}
@@ -0,0 +1,89 @@
+package io.github.millij.poi.ss.column;
+
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.model.SheetRow;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The columns (header names and types) to be read into {@link ColumnBatch}es. Columns of the
+ * sheet not in the schema are skipped.
+ *
+ * @author Fang Gang
+ */
+@ToString
+public final class ColumnSchema {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<ColumnType> types = new ArrayList<>();
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Adds a column.
+     *
+     * @param name the header name of the column
+     * @param type the {@link ColumnType}
+     * @return this schema
+     */
+    public ColumnSchema add(String name, ColumnType type) {
+        if (name == null || type == null) {
+            throw new IllegalArgumentException("ColumnSchema :: name and type should not be null");
+        }
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("ColumnSchema :: duplicate column - " + name);
+        }
+
+        names.add(name);
+        types.add(type);
+        return this;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String getName(int idx) {
+        return names.get(idx);
+    }
+
+    public ColumnType getType(int idx) {
+        return types.get(idx);
+    }
+
+    /**
+     * Position of the column by name.
+     *
+     * @param name the header name of the column
+     * @return the position (indexed from 0), or <code>-1</code> if there is no such column.
+     */
+    public int indexOf(String name) {
+        return names.indexOf(name);
+    }
+
+    /**
+     * Resolves the column references of the schema columns from the header row.
+     *
+     * @param headerRow the header {@link SheetRow}
+     * @return the column references, in the schema order
+     * @throws ColumnNotFoundException when a column is missing in the header row.
+     */
+    String[] resolveColumnRefs(SheetRow headerRow) {
+        final Map<String, String> nameToRef = headerRow.getColumnNameToReferenceMap();
+
+        final String[] colRefs = new String[names.size()];
+        for (int i = 0; i < colRefs.length; i++) {
+            colRefs[i] = nameToRef.get(names.get(i));
+            if (colRefs[i] == null) {
+                throw new ColumnNotFoundException(headerRow.getRowNum(), names.get(i));
+            }
+        }
+        return colRefs;
+    }
+
+}
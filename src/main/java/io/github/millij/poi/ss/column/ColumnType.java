@@ -0,0 +1,30 @@
+package io.github.millij.poi.ss.column;
+
+/**
+ * Types of the columns of a {@link ColumnBatch}.
+ *
+ * @author Fang Gang
+ */
+public enum ColumnType {
+
+    /**
+     * <code>double[]</code> values, see {@link DoubleColumnVector}.
+     */
+    DOUBLE,
+
+    /**
+     * <code>long[]</code> values, see {@link LongColumnVector}.
+     */
+    LONG,
+
+    /**
+     * <code>boolean[]</code> values, see {@link BooleanColumnVector}.
+     */
+    BOOLEAN,
+
+    /**
+     * Dictionary encoded strings, see {@link StringColumnVector}.
+     */
+    STRING;
+
+}
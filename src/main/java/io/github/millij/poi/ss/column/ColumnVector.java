@@ -0,0 +1,156 @@
+package io.github.millij.poi.ss.column;
+
+import io.github.millij.poi.util.NumberParser;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * A column of a {@link ColumnBatch}. Values are held in primitive arrays, with a validity bitmap
+ * marking the non-null positions (bit set = value present, as in Arrow).
+ *
+ * @author Fang Gang
+ */
+public abstract class ColumnVector {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final ColumnType type;
+
+    private final long[] validity;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    ColumnVector(String name, ColumnType type, int capacity) {
+        this.name = name;
+        this.type = type;
+        this.validity = new long[(capacity + 63) >>> 6];
+    }
+
+    static ColumnVector create(String name, ColumnType type, int capacity) {
+        switch (type) {
+            case DOUBLE:
+                return new DoubleColumnVector(name, capacity);
+            case LONG:
+                return new LongColumnVector(name, capacity);
+            case BOOLEAN:
+                return new BooleanColumnVector(name, capacity);
+            default:
+                return new StringColumnVector(name, capacity);
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public boolean isNull(int idx) {
+        return (validity[idx >>> 6] & (1L << idx)) == 0;
+    }
+
+    /**
+     * The validity bitmap, bit <code>i</code> of word <code>i / 64</code> is set when the value at
+     * position <code>i</code> is present.
+     *
+     * @return the bitmap words (not a copy)
+     */
+    public long[] getValidity() {
+        return validity;
+    }
+
+    /**
+     * Sets the value at the position from the cell value, the cell value is never null.
+     */
+    abstract void set(int idx, Object cellValue);
+
+    final void setValid(int idx) {
+        validity[idx >>> 6] |= 1L << idx;
+    }
+
+    void clear() {
+        Arrays.fill(validity, 0L);
+    }
+
+
+    // Cell Values
+    // ------------------------------------------------------------------------
+
+    static boolean isBlank(Object cellValue) {
+        return cellValue instanceof String && ((String) cellValue).trim().isEmpty();
+    }
+
+    static double toDouble(Object cellValue) {
+        if (cellValue instanceof Number) {
+            return ((Number) cellValue).doubleValue();
+        }
+        if (cellValue instanceof String) {
+            return NumberParser.parseDouble(stripGrouping((String) cellValue));
+        }
+        throw new IllegalArgumentException("Not a number - " + cellValue);
+    }
+
+    static long toLong(Object cellValue) {
+        if (cellValue instanceof Long || cellValue instanceof Integer) {
+            return ((Number) cellValue).longValue();
+        }
+
+        final double value;
+        if (cellValue instanceof Number) {
+            value = ((Number) cellValue).doubleValue();
+        } else if (cellValue instanceof String) {
+            final String str = stripGrouping((String) cellValue);
+            try {
+                return NumberParser.parseLong(str);
+            } catch (NumberFormatException ex) {
+                value = NumberParser.parseDouble(str);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a number - " + cellValue);
+        }
+
+        if (value != Math.rint(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Not an integral number - " + cellValue);
+        }
+        // The cast would clamp, 2^63 itself is out of range
+        if (value < Long.MIN_VALUE || value >= 0x1p63) {
+            throw new IllegalArgumentException("Out of the long range - " + cellValue);
+        }
+        return (long) value;
+    }
+
+    static boolean toBoolean(Object cellValue) {
+        if (cellValue instanceof Boolean) {
+            return (Boolean) cellValue;
+        }
+
+        final String str = String.valueOf(cellValue).trim();
+        if ("TRUE".equalsIgnoreCase(str)) {
+            return true;
+        }
+        if ("FALSE".equalsIgnoreCase(str)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Not a boolean - " + cellValue);
+    }
+
+    static String toString(Object cellValue) {
+        if (cellValue instanceof Double) {
+            // Integral numbers of xls cells, without the trailing ".0"
+            final double value = (Double) cellValue;
+            if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                return String.valueOf((long) value);
+            }
+        }
+        return String.valueOf(cellValue);
+    }
+
+    private static String stripGrouping(String str) {
+        final String trimmed = str.trim();
+        return trimmed.indexOf(',') < 0 ? trimmed : trimmed.replace(",", "");
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.github.millij.poi.ss.column;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ColumnType#DOUBLE} column.
+ *
+ * @author Fang Gang
+ */
+public final class DoubleColumnVector extends ColumnVector {
+
+    private final double[] values;
+
+
+    DoubleColumnVector(String name, int capacity) {
+        super(name, ColumnType.DOUBLE, capacity);
+        this.values = new double[capacity];
+    }
+
+
+    /**
+     * @param idx position in the batch
+     * @return the value, <code>0</code> when null.
+     */
+    public double get(int idx) {
+        return values[idx];
+    }
+
+    /**
+     * @return the values (not a copy), only the first {@link ColumnBatch#getSize()} are valid.
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    void set(int idx, Object cellValue) {
+        if (isBlank(cellValue)) {
+            return;
+        }
+        values[idx] = toDouble(cellValue);
+        setValid(idx);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        Arrays.fill(values, 0D);
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.github.millij.poi.ss.column;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A grouped aggregation over a sheet : the rows are grouped by the key column, and the count,
+ * sum, min and max of each measure column are computed per group, see {@link GroupTable}.
+ *
+ * <pre>
+ * new GroupBy("Region", ColumnType.STRING).measure("Amount").measure("Quantity")
+ * </pre>
+ *
+ * @author Fang Gang
+ */
+@ToString
+public final class GroupBy {
+
+    @Getter
+    private final String keyColumn;
+
+    @Getter
+    private final ColumnType keyType;
+
+    private final List<String> measures = new ArrayList<>();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param keyColumn the header name of the key column
+     * @param keyType the key type, {@link ColumnType#STRING} or {@link ColumnType#LONG}.
+     */
+    public GroupBy(String keyColumn, ColumnType keyType) {
+        if (keyColumn == null) {
+            throw new IllegalArgumentException("GroupBy :: key column should not be null");
+        }
+        if (keyType != ColumnType.STRING && keyType != ColumnType.LONG) {
+            throw new IllegalArgumentException("GroupBy :: unsupported key type - " + keyType);
+        }
+
+        this.keyColumn = keyColumn;
+        this.keyType = keyType;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Adds a numeric measure column.
+     *
+     * @param name the header name of the column
+     * @return this group by
+     */
+    public GroupBy measure(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("GroupBy :: measure column should not be null");
+        }
+        if (measures.contains(name)) {
+            throw new IllegalArgumentException("GroupBy :: duplicate measure - " + name);
+        }
+
+        measures.add(name);
+        return this;
+    }
+
+    public int getMeasureCount() {
+        return measures.size();
+    }
+
+    public String getMeasure(int idx) {
+        return measures.get(idx);
+    }
+
+    /**
+     * Position of the measure by name.
+     *
+     * @param name the header name of the column
+     * @return the position (indexed from 0), or <code>-1</code> if there is no such measure.
+     */
+    public int indexOfMeasure(String name) {
+        return measures.indexOf(name);
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.github.millij.poi.ss.column;
+
+import io.github.millij.poi.CellException;
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Aggregates the raw {@link SheetRow}s into the {@link GroupTable} of a {@link GroupBy}, straight
+ * from the cell values : no bean, no row kept.
+ *
+ * @author Fang Gang
+ */
+public class GroupByCollector implements RowListener<SheetRow> {
+
+    private final int headerRowNum;
+
+    @Getter
+    private final GroupTable table;
+
+    private String keyColRef;
+
+    private String[] measureColRefs;
+
+    private CancellationToken cancellation;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public GroupByCollector(GroupBy groupBy) {
+        this(groupBy, 0);
+    }
+
+    public GroupByCollector(GroupBy groupBy, int headerRowNum) {
+        this.headerRowNum = headerRowNum;
+        this.table = new GroupTable(groupBy);
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param cancellation the token stopping the read, checked by the readers before each row.
+     * @return this collector
+     */
+    public GroupByCollector setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public CancellationToken cancellation() {
+        return cancellation;
+    }
+
+    @Override
+    public void row(int rowNum, SheetRow sheetRow) {
+        // Skip rows before header row
+        if (rowNum < headerRowNum) {
+            return;
+        }
+
+        if (rowNum == headerRowNum) {
+            this.resolveColumnRefs(sheetRow);
+            return;
+        }
+
+        if (keyColRef == null) {
+            throw new ColumnNotFoundException(headerRowNum);
+        }
+
+        // Group
+        final GroupBy groupBy = table.getGroupBy();
+        final Object keyValue = sheetRow.getCellValue(keyColRef);
+        final int group;
+        try {
+            if (keyValue == null || ColumnVector.isBlank(keyValue)) {
+                group = table.addNullRow();
+            } else if (groupBy.getKeyType() == ColumnType.LONG) {
+                group = table.addRow(ColumnVector.toLong(keyValue));
+            } else {
+                group = table.addRow(ColumnVector.toString(keyValue));
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new CellException(keyColRef + (rowNum + 1), groupBy.getKeyColumn(), ex.getMessage());
+        }
+
+        // Measures
+        for (int i = 0; i < measureColRefs.length; i++) {
+            final Object cellValue = sheetRow.getCellValue(measureColRefs[i]);
+            if (cellValue == null || ColumnVector.isBlank(cellValue)) {
+                continue;
+            }
+
+            try {
+                table.addValue(group, i, ColumnVector.toDouble(cellValue));
+            } catch (IllegalArgumentException ex) {
+                throw new CellException(measureColRefs[i] + (rowNum + 1), groupBy.getMeasure(i), ex.getMessage());
+            }
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void resolveColumnRefs(SheetRow headerRow) {
+        final GroupBy groupBy = table.getGroupBy();
+        final Map<String, String> nameToRef = headerRow.getColumnNameToReferenceMap();
+
+        keyColRef = nameToRef.get(groupBy.getKeyColumn());
+        if (keyColRef == null) {
+            throw new ColumnNotFoundException(headerRow.getRowNum(), groupBy.getKeyColumn());
+        }
+
+        measureColRefs = new String[groupBy.getMeasureCount()];
+        for (int i = 0; i < measureColRefs.length; i++) {
+            measureColRefs[i] = nameToRef.get(groupBy.getMeasure(i));
+            if (measureColRefs[i] == null) {
+                throw new ColumnNotFoundException(headerRow.getRowNum(), groupBy.getMeasure(i));
+            }
+        }
+    }
+
+}
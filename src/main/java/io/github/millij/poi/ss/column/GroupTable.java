@@ -0,0 +1,384 @@
+package io.github.millij.poi.ss.column;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * The groups of a {@link GroupBy} aggregation, with primitive accumulators per group and
+ * measure : no. of rows of the group, and no. of values, sum, min and max of each measure.
+ *
+ * <p>
+ * Groups are indexed from 0 in the order of their first row, and looked up with an open
+ * addressing hash table over <code>String</code> or <code>long</code> keys, per the
+ * {@link GroupBy#getKeyType()}. Rows with an empty key cell make up the <code>null</code> key
+ * group. Tables of partial aggregations (ex. of sheets read concurrently) can be combined with
+ * {@link #merge(GroupTable)}.
+ * </p>
+ *
+ * Not thread-safe, use a table per thread and merge them.
+ *
+ * @author Fang Gang
+ */
+public final class GroupTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Getter
+    private final GroupBy groupBy;
+
+    private final boolean longKeys;
+
+    private final int measureCount;
+
+    /**
+     * No. of groups.
+     */
+    @Getter
+    private int size;
+
+    /**
+     * Group of the <code>null</code> key, <code>-1</code> when none.
+     */
+    private int nullGroup = -1;
+
+    /**
+     * Hash table of the group indexes (plus 1, <code>0</code> for a free slot).
+     */
+    private int[] slots;
+
+    // Per group
+    private String[] stringKeys;
+    private long[] keys;
+    private long[] counts;
+
+    // Per group and measure, at [group * measureCount + measure]
+    private long[] valueCounts;
+    private double[] sums;
+    private double[] mins;
+    private double[] maxs;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public GroupTable(GroupBy groupBy) {
+        this.groupBy = groupBy;
+        this.longKeys = groupBy.getKeyType() == ColumnType.LONG;
+        this.measureCount = groupBy.getMeasureCount();
+
+        this.slots = new int[INITIAL_CAPACITY * 2];
+        this.stringKeys = longKeys ? null : new String[INITIAL_CAPACITY];
+        this.keys = longKeys ? new long[INITIAL_CAPACITY] : null;
+        this.counts = new long[INITIAL_CAPACITY];
+        this.valueCounts = new long[INITIAL_CAPACITY * measureCount];
+        this.sums = new double[INITIAL_CAPACITY * measureCount];
+        this.mins = new double[INITIAL_CAPACITY * measureCount];
+        this.maxs = new double[INITIAL_CAPACITY * measureCount];
+    }
+
+
+    // Lookup
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param key the key, of a {@link ColumnType#STRING} key table.
+     * @return the group index, or <code>-1</code> if there is no such group.
+     */
+    public int indexOf(String key) {
+        if (key == null) {
+            return nullGroup;
+        }
+        checkKeyType(false);
+
+        final int mask = slots.length - 1;
+        for (int s = mix(key.hashCode()) & mask; slots[s] != 0; s = (s + 1) & mask) {
+            if (key.equals(stringKeys[slots[s] - 1])) {
+                return slots[s] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param key the key, of a {@link ColumnType#LONG} key table.
+     * @return the group index, or <code>-1</code> if there is no such group.
+     */
+    public int indexOf(long key) {
+        checkKeyType(true);
+
+        final int mask = slots.length - 1;
+        for (int s = mix(Long.hashCode(key)) & mask; slots[s] != 0; s = (s + 1) & mask) {
+            if (keys[slots[s] - 1] == key) {
+                return slots[s] - 1;
+            }
+        }
+        return -1;
+    }
+
+
+    // Group Values
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param group the group index
+     * @return the key of the group, a <code>String</code>, a <code>Long</code> or
+     *         <code>null</code>.
+     */
+    public Object getKey(int group) {
+        checkGroup(group);
+        if (group == nullGroup) {
+            return null;
+        }
+        return longKeys ? Long.valueOf(keys[group]) : stringKeys[group];
+    }
+
+    public long getCount(int group) {
+        checkGroup(group);
+        return counts[group];
+    }
+
+    /**
+     * @param group the group index
+     * @param measure the measure index, see {@link GroupBy#indexOfMeasure(String)}.
+     * @return the no. of non empty cells of the measure.
+     */
+    public long getValueCount(int group, int measure) {
+        return valueCounts[at(group, measure)];
+    }
+
+    public double getSum(int group, int measure) {
+        return sums[at(group, measure)];
+    }
+
+    /**
+     * @param group the group index
+     * @param measure the measure index, see {@link GroupBy#indexOfMeasure(String)}.
+     * @return the min value, <code>NaN</code> when the group has no value.
+     */
+    public double getMin(int group, int measure) {
+        final int at = at(group, measure);
+        return valueCounts[at] == 0 ? Double.NaN : mins[at];
+    }
+
+    /**
+     * @param group the group index
+     * @param measure the measure index, see {@link GroupBy#indexOfMeasure(String)}.
+     * @return the max value, <code>NaN</code> when the group has no value.
+     */
+    public double getMax(int group, int measure) {
+        final int at = at(group, measure);
+        return valueCounts[at] == 0 ? Double.NaN : maxs[at];
+    }
+
+    /**
+     * @param group the group index
+     * @param measure the measure index, see {@link GroupBy#indexOfMeasure(String)}.
+     * @return the average value, <code>NaN</code> when the group has no value.
+     */
+    public double getAverage(int group, int measure) {
+        final int at = at(group, measure);
+        return valueCounts[at] == 0 ? Double.NaN : sums[at] / valueCounts[at];
+    }
+
+
+    // Merge
+    // ------------------------------------------------------------------------
+
+    /**
+     * Adds the groups of the other table (of the same {@link GroupBy}) into this table.
+     *
+     * @param other the other table
+     * @return this table
+     */
+    public GroupTable merge(GroupTable other) {
+        if (other.longKeys != longKeys || other.measureCount != measureCount) {
+            throw new IllegalArgumentException("GroupTable :: incompatible tables - " + other.groupBy);
+        }
+
+        for (int g = 0; g < other.size; g++) {
+            final int group;
+            if (g == other.nullGroup) {
+                group = this.addNullRow(0);
+            } else if (longKeys) {
+                group = this.addRow(other.keys[g], 0);
+            } else {
+                group = this.addRow(other.stringKeys[g], 0);
+            }
+            counts[group] += other.counts[g];
+
+            for (int m = 0; m < measureCount; m++) {
+                final int from = g * measureCount + m;
+                final long n = other.valueCounts[from];
+                if (n == 0) {
+                    continue;
+                }
+
+                final int to = group * measureCount + m;
+                mins[to] = valueCounts[to] == 0 ? other.mins[from] : Math.min(mins[to], other.mins[from]);
+                maxs[to] = valueCounts[to] == 0 ? other.maxs[from] : Math.max(maxs[to], other.maxs[from]);
+                sums[to] += other.sums[from];
+                valueCounts[to] += n;
+            }
+        }
+        return this;
+    }
+
+
+    // Accumulation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Adds a row to the group of the key, creating the group if needed.
+     *
+     * @return the group index
+     */
+    int addRow(String key) {
+        return key == null ? this.addNullRow(1) : this.addRow(key, 1);
+    }
+
+    int addRow(long key) {
+        return this.addRow(key, 1);
+    }
+
+    int addNullRow() {
+        return this.addNullRow(1);
+    }
+
+    void addValue(int group, int measure, double value) {
+        final int at = group * measureCount + measure;
+        if (valueCounts[at]++ == 0) {
+            mins[at] = value;
+            maxs[at] = value;
+        } else {
+            if (value < mins[at]) {
+                mins[at] = value;
+            }
+            if (value > maxs[at]) {
+                maxs[at] = value;
+            }
+        }
+        sums[at] += value;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private int addRow(String key, int rows) {
+        final int mask = slots.length - 1;
+        int s = mix(key.hashCode()) & mask;
+        for (; slots[s] != 0; s = (s + 1) & mask) {
+            final int group = slots[s] - 1;
+            if (key.equals(stringKeys[group])) {
+                counts[group] += rows;
+                return group;
+            }
+        }
+
+        final int group = this.newGroup(rows);
+        stringKeys[group] = key;
+        this.insert(s, group);
+        return group;
+    }
+
+    private int addRow(long key, int rows) {
+        final int mask = slots.length - 1;
+        int s = mix(Long.hashCode(key)) & mask;
+        for (; slots[s] != 0; s = (s + 1) & mask) {
+            final int group = slots[s] - 1;
+            if (keys[group] == key) {
+                counts[group] += rows;
+                return group;
+            }
+        }
+
+        final int group = this.newGroup(rows);
+        keys[group] = key;
+        this.insert(s, group);
+        return group;
+    }
+
+    private int addNullRow(int rows) {
+        if (nullGroup < 0) {
+            nullGroup = this.newGroup(0);
+        }
+        counts[nullGroup] += rows;
+        return nullGroup;
+    }
+
+    private int newGroup(int rows) {
+        if (size == counts.length) {
+            final int capacity = size * 2;
+            if (longKeys) {
+                keys = Arrays.copyOf(keys, capacity);
+            } else {
+                stringKeys = Arrays.copyOf(stringKeys, capacity);
+            }
+            counts = Arrays.copyOf(counts, capacity);
+            valueCounts = Arrays.copyOf(valueCounts, capacity * measureCount);
+            sums = Arrays.copyOf(sums, capacity * measureCount);
+            mins = Arrays.copyOf(mins, capacity * measureCount);
+            maxs = Arrays.copyOf(maxs, capacity * measureCount);
+        }
+
+        counts[size] = rows;
+        return size++;
+    }
+
+    private void insert(int slot, int group) {
+        slots[slot] = group + 1;
+
+        // Keep the load factor under 0.5
+        if (size * 2 > slots.length) {
+            this.rehash(slots.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        final int[] rehashed = new int[capacity];
+        final int mask = capacity - 1;
+        for (int group = 0; group < size; group++) {
+            if (group == nullGroup) {
+                continue;
+            }
+
+            final int hash = longKeys ? Long.hashCode(keys[group]) : stringKeys[group].hashCode();
+            int s = mix(hash) & mask;
+            while (rehashed[s] != 0) {
+                s = (s + 1) & mask;
+            }
+            rehashed[s] = group + 1;
+        }
+        this.slots = rehashed;
+    }
+
+    private int at(int group, int measure) {
+        checkGroup(group);
+        if (measure < 0 || measure >= measureCount) {
+            throw new IndexOutOfBoundsException("GroupTable :: invalid measure - " + measure);
+        }
+        return group * measureCount + measure;
+    }
+
+    private void checkGroup(int group) {
+        if (group < 0 || group >= size) {
+            throw new IndexOutOfBoundsException("GroupTable :: invalid group - " + group);
+        }
+    }
+
+    private void checkKeyType(boolean longKey) {
+        if (longKey != longKeys) {
+            throw new IllegalArgumentException("GroupTable :: key type is " + groupBy.getKeyType());
+        }
+    }
+
+    /**
+     * Spreads the hash bits, for the power of two tables (as in <code>HashMap</code>).
+     */
+    private static int mix(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
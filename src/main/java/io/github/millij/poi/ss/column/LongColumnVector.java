@@ -0,0 +1,51 @@
+package io.github.millij.poi.ss.column;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ColumnType.LONG} column.
+ *
+ * @author Fang Gang
+ */
+public final class LongColumnVector extends ColumnVector {
+
+    private final long[] values;
+
+
+    LongColumnVector(String name, int capacity) {
+        super(name, ColumnType.LONG, capacity);
+        this.values = new long[capacity];
+    }
+
+
+    /**
+     * @param idx position in the batch
+     * @return the value, <code>0</code> when null.
+     */
+    public long get(int idx) {
+        return values[idx];
+    }
+
+    /**
+     * @return the values (not a copy), only the first {@link ColumnBatch#getSize()} are valid.
+     */
+    public long[] getValues() {
+        return values;
+    }
+
+    @Override
+    void set(int idx, Object cellValue) {
+        if (isBlank(cellValue)) {
+            return;
+        }
+        values[idx] = toLong(cellValue);
+        setValid(idx);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        Arrays.fill(values, 0L);
+    }
+
+}
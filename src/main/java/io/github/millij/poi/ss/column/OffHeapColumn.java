@@ -0,0 +1,296 @@
+package io.github.millij.poi.ss.column;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A column of an {@link OffHeapColumnBatch}, held in direct (off-heap) buffers with the Arrow
+ * memory layout :
+ * <ul>
+ * <li>validity : bit-packed, least significant bit first, bit set = value present.</li>
+ * <li>{@link ColumnType#DOUBLE} / {@link ColumnType#LONG} : data of little-endian float64 / int64.</li>
+ * <li>{@link ColumnType#BOOLEAN} : bit-packed data.</li>
+ * <li>{@link ColumnType#STRING} : int32 offsets (length + 1) and utf-8 data, i.e., Arrow
+ * <code>Utf8</code>.</li>
+ * </ul>
+ * Buffer sizes are padded to 64 bytes.
+ *
+ * <p>
+ * The buffers are released by the garbage collector, never eagerly : a buffer view kept past
+ * the read holds on to its memory, and stays safe to use, though its content is overwritten by
+ * the next batches. Copy out the values to be kept.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+public final class OffHeapColumn {
+
+    private static final int PADDING = 64;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final ColumnType type;
+
+    /**
+     * No. of values in the column.
+     */
+    @Getter
+    private int length;
+
+    private int validCount;
+
+    private ByteBuffer validity;
+    private ByteBuffer offsets;
+    private ByteBuffer data;
+
+    private int dataLength;
+    private final CharsetEncoder encoder;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    OffHeapColumn(String name, ColumnType type, int capacity) {
+        this.name = name;
+        this.type = type;
+        this.validity = allocate(bitmapBytes(capacity));
+
+        switch (type) {
+            case DOUBLE:
+            case LONG:
+                this.data = allocate(capacity * 8);
+                this.encoder = null;
+                break;
+            case BOOLEAN:
+                this.data = allocate(bitmapBytes(capacity));
+                this.encoder = null;
+                break;
+            default:
+                this.offsets = allocate((capacity + 1) * 4);
+                this.data = allocate(capacity * 16);
+                this.encoder = StandardCharsets.UTF_8.newEncoder() //
+                        .onMalformedInput(CodingErrorAction.REPLACE) //
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+                break;
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public int getNullCount() {
+        return length - validCount;
+    }
+
+    public boolean isNull(int idx) {
+        return !getBit(validity, idx);
+    }
+
+    public double getDouble(int idx) {
+        return data.getDouble(idx * 8);
+    }
+
+    public long getLong(int idx) {
+        return data.getLong(idx * 8);
+    }
+
+    public boolean getBoolean(int idx) {
+        return getBit(data, idx);
+    }
+
+    /**
+     * Decodes the string at the position, note that this allocates.
+     *
+     * @param idx position in the batch
+     * @return the value, null when null.
+     */
+    public String getString(int idx) {
+        if (isNull(idx)) {
+            return null;
+        }
+
+        final int start = offsets.getInt(idx * 4);
+        final byte[] bytes = new byte[offsets.getInt(idx * 4 + 4) - start];
+        final ByteBuffer view = data.duplicate();
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return read-only view of the validity bitmap, sized to the length.
+     */
+    public ByteBuffer getValidityBuffer() {
+        this.checkOpen();
+        return view(validity, bitmapBytes(length));
+    }
+
+    /**
+     * @return read-only view of the offsets, sized to the length, or null for the non-string
+     *         columns.
+     */
+    public ByteBuffer getOffsetBuffer() {
+        this.checkOpen();
+        return offsets == null ? null : view(offsets, (length + 1) * 4);
+    }
+
+    /**
+     * @return read-only view of the data, sized to the length.
+     */
+    public ByteBuffer getDataBuffer() {
+        this.checkOpen();
+        switch (type) {
+            case DOUBLE:
+            case LONG:
+                return view(data, length * 8);
+            case BOOLEAN:
+                return view(data, bitmapBytes(length));
+            default:
+                return view(data, dataLength);
+        }
+    }
+
+
+    // Package Methods
+
+    /**
+     * Sets the value at the position from the cell value, the cell value is never null.
+     */
+    void set(int idx, Object cellValue) {
+        if (type != ColumnType.STRING && ColumnVector.isBlank(cellValue)) {
+            return;
+        }
+
+        switch (type) {
+            case DOUBLE:
+                data.putDouble(idx * 8, ColumnVector.toDouble(cellValue));
+                break;
+            case LONG:
+                data.putLong(idx * 8, ColumnVector.toLong(cellValue));
+                break;
+            case BOOLEAN:
+                putBit(data, idx, ColumnVector.toBoolean(cellValue));
+                break;
+            default:
+                this.putString(ColumnVector.toString(cellValue));
+                break;
+        }
+
+        putBit(validity, idx, true);
+        validCount++;
+    }
+
+    /**
+     * Closes the row at the position, called for every row whether the value is null or not.
+     */
+    void endRow(int idx) {
+        length = idx + 1;
+        if (offsets != null) {
+            offsets.putInt(length * 4, dataLength);
+        }
+    }
+
+    void clear() {
+        for (int i = 0, n = bitmapBytes(length); i < n; i++) {
+            validity.put(i, (byte) 0);
+        }
+        length = 0;
+        validCount = 0;
+        dataLength = 0;
+        if (offsets != null) {
+            offsets.putInt(0, 0);
+        }
+    }
+
+    /**
+     * Drops the buffers, their memory is released once they (and their views) are unreachable.
+     */
+    void free() {
+        validity = null;
+        offsets = null;
+        data = null;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void putString(String value) {
+        final CharBuffer chars = CharBuffer.wrap(value);
+        while (true) {
+            data.limit(data.capacity());
+            data.position(dataLength);
+
+            encoder.reset();
+            CoderResult result = encoder.encode(chars, data, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(data);
+            }
+            if (!result.isOverflow()) {
+                dataLength = data.position();
+                return;
+            }
+
+            // Grow and encode again
+            this.growData();
+            chars.rewind();
+        }
+    }
+
+    private void growData() {
+        if (data.capacity() > Integer.MAX_VALUE / 2) {
+            throw new IllegalStateException("OffHeapColumn :: string data exceeds 1GB, use smaller batches - " + name);
+        }
+
+        final ByteBuffer grown = allocate(data.capacity() * 2);
+        final ByteBuffer src = data.duplicate();
+        src.position(0);
+        src.limit(dataLength);
+        grown.put(src);
+
+        // The previous buffer is left to the GC, views of it may still be held
+        data = grown;
+    }
+
+    private void checkOpen() {
+        if (validity == null) {
+            throw new IllegalStateException("OffHeapColumn :: batch is closed - " + name);
+        }
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        final int padded = Math.max(PADDING, (bytes + PADDING - 1) & -PADDING);
+        return ByteBuffer.allocateDirect(padded).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ByteBuffer view(ByteBuffer buffer, int bytes) {
+        final ByteBuffer view = buffer.duplicate();
+        view.position(0);
+        view.limit(bytes);
+        return view.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int bitmapBytes(int bits) {
+        return (bits + 7) >>> 3;
+    }
+
+    private static boolean getBit(ByteBuffer buffer, int idx) {
+        return (buffer.get(idx >>> 3) & (1 << (idx & 7))) != 0;
+    }
+
+    private static void putBit(ByteBuffer buffer, int idx, boolean bit) {
+        final int b = buffer.get(idx >>> 3);
+        buffer.put(idx >>> 3, (byte) (bit ? b | (1 << (idx & 7)) : b & ~(1 << (idx & 7))));
+    }
+
+}
@@ -0,0 +1,124 @@
+package io.github.millij.poi.ss.column;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+
+/**
+ * A fixed-size batch of rows held column-wise in off-heap {@link OffHeapColumn}s, i.e., an Arrow
+ * record batch. The batch is reused for the whole read and dropped on {@link #close()}, listeners
+ * should copy out what they need to keep. The off-heap memory is released by the garbage
+ * collector, so buffer views held past the read never point to freed memory.
+ *
+ * @author Fang Gang
+ */
+public final class OffHeapColumnBatch implements Closeable {
+
+    @Getter
+    private final ColumnSchema schema;
+
+    @Getter
+    private final int capacity;
+
+    /**
+     * No. of rows in the batch.
+     */
+    @Getter
+    private int size;
+
+    private final int[] rowNums;
+
+    private final OffHeapColumn[] columns;
+
+    private boolean closed;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    OffHeapColumnBatch(ColumnSchema schema, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("OffHeapColumnBatch :: invalid batch size - " + capacity);
+        }
+
+        this.schema = schema;
+        this.capacity = capacity;
+        this.rowNums = new int[capacity];
+        this.columns = new OffHeapColumn[schema.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new OffHeapColumn(schema.getName(i), schema.getType(i), capacity);
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param idx position in the batch
+     * @return the row number in the sheet (indexed from 0)
+     */
+    public int getRowNum(int idx) {
+        return rowNums[idx];
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public OffHeapColumn getColumn(int idx) {
+        this.checkOpen();
+        return columns[idx];
+    }
+
+    public OffHeapColumn getColumn(String name) {
+        final int idx = schema.indexOf(name);
+        if (idx < 0) {
+            throw new IllegalArgumentException("OffHeapColumnBatch :: no such column - " + name);
+        }
+        return this.getColumn(idx);
+    }
+
+    /**
+     * Drops the off-heap buffers of the columns, released by the garbage collector. The columns
+     * must not be used after.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        for (OffHeapColumn column : columns) {
+            column.free();
+        }
+    }
+
+
+    // Package Methods
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    int addRow(int rowNum) {
+        this.checkOpen();
+        rowNums[size] = rowNum;
+        return size++;
+    }
+
+    void clear() {
+        for (OffHeapColumn column : columns) {
+            column.clear();
+        }
+        size = 0;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapColumnBatch :: batch is closed");
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.millij.poi.ss.column;
+
+/**
+ * Callback of the off-heap columnar reads, called once per filled {@link OffHeapColumnBatch}
+ * (the last batch of a read may be partially filled).
+ *
+ * @author Fang Gang
+ */
+public interface OffHeapColumnBatchListener {
+
+    /**
+     * @param batch the batch, reused after the callback returns and closed at the end of the
+     *        read. Its values (and the content of its buffer views) are only valid during the
+     *        callback.
+     */
+    void batch(OffHeapColumnBatch batch);
+
+}
@@ -0,0 +1,123 @@
+package io.github.millij.poi.ss.column;
+
+import io.github.millij.poi.CellException;
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+
+import java.io.Closeable;
+
+/**
+ * Writes the raw {@link SheetRow}s into an {@link OffHeapColumnBatch} of the
+ * {@link ColumnSchema}, and passes the batch to the {@link OffHeapColumnBatchListener} each time
+ * it fills up. Call {@link #finish()} after the read for the last partial batch, and
+ * {@link #close()} to drop the off-heap memory.
+ *
+ * @author Fang Gang
+ */
+public class OffHeapColumnCollector implements RowListener<SheetRow>, Closeable {
+
+    private final int headerRowNum;
+
+    private final OffHeapColumnBatch batch;
+
+    private final OffHeapColumnBatchListener listener;
+
+    private String[] colRefs;
+
+    private CancellationToken cancellation;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public OffHeapColumnCollector(ColumnSchema schema, int batchSize, OffHeapColumnBatchListener listener) {
+        this(schema, batchSize, listener, 0);
+    }
+
+    public OffHeapColumnCollector(ColumnSchema schema, int batchSize, OffHeapColumnBatchListener listener,
+            int headerRowNum) {
+        this.headerRowNum = headerRowNum;
+        this.batch = new OffHeapColumnBatch(schema, batchSize);
+        this.listener = listener;
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param cancellation the token stopping the read, checked by the readers before each row.
+     * @return this collector
+     */
+    public OffHeapColumnCollector setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public CancellationToken cancellation() {
+        return cancellation;
+    }
+
+    @Override
+    public void row(int rowNum, SheetRow sheetRow) {
+        // Skip rows before header row
+        if (rowNum < headerRowNum) {
+            return;
+        }
+
+        if (rowNum == headerRowNum) {
+            colRefs = batch.getSchema().resolveColumnRefs(sheetRow);
+            return;
+        }
+
+        if (colRefs == null) {
+            throw new ColumnNotFoundException(headerRowNum);
+        }
+
+        final int idx = batch.addRow(rowNum);
+        for (int i = 0; i < colRefs.length; i++) {
+            final OffHeapColumn column = batch.getColumn(i);
+
+            final Object cellValue = sheetRow.getCellValue(colRefs[i]);
+            if (cellValue != null) {
+                try {
+                    column.set(idx, cellValue);
+                } catch (IllegalArgumentException ex) {
+                    throw new CellException(colRefs[i] + (rowNum + 1), column.getName(), ex.getMessage());
+                }
+            }
+            column.endRow(idx);
+        }
+
+        if (batch.isFull()) {
+            listener.batch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Passes the last partially filled batch, if any, to the listener.
+     */
+    public void finish() {
+        if (batch.getSize() > 0) {
+            listener.batch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Drops the off-heap memory of the batch.
+     */
+    @Override
+    public void close() {
+        batch.close();
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.github.millij.poi.ss.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ColumnType#STRING} column, dictionary encoded. The dictionary lives as long as the
+ * read, so the same string has the same code in all the batches of the read.
+ *
+ * @author Fang Gang
+ */
+public final class StringColumnVector extends ColumnVector {
+
+    private final int[] codes;
+
+    private final List<String> dictionary;
+    private final Map<String, Integer> dictionaryCodes;
+
+
+    StringColumnVector(String name, int capacity) {
+        super(name, ColumnType.STRING, capacity);
+        this.codes = new int[capacity];
+        this.dictionary = new ArrayList<>();
+        this.dictionaryCodes = new HashMap<>();
+        Arrays.fill(codes, -1);
+    }
+
+
+    /**
+     * @param idx position in the batch
+     * @return the value, null when null.
+     */
+    public String get(int idx) {
+        final int code = codes[idx];
+        return code < 0 ? null : dictionary.get(code);
+    }
+
+    /**
+     * @param idx position in the batch
+     * @return the dictionary code of the value, <code>-1</code> when null.
+     */
+    public int getCode(int idx) {
+        return codes[idx];
+    }
+
+    /**
+     * @return the dictionary codes (not a copy), only the first {@link ColumnBatch#getSize()} are
+     *         valid.
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * @return the dictionary, indexed by the codes.
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    @Override
+    void set(int idx, Object cellValue) {
+        final String value = toString(cellValue);
+
+        Integer code = dictionaryCodes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            dictionaryCodes.put(value, code);
+        }
+
+        codes[idx] = code;
+        setValid(idx);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        Arrays.fill(codes, -1);
+    }
+
+}
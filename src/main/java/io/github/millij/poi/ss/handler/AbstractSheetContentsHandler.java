@@ -14,6 +14,11 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
 
     private SheetRow sheetRow;
 
+    /**
+     * Row buffer refilled for each row, when {@link #reuseRow()}.
+     */
+    private SheetRow reusableRow;
+
     // Methods
     // ------------------------------------------------------------------------
 
@@ -23,6 +28,23 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
 
     abstract void afterRowEnd(final SheetRow sheetRow);
 
+    /**
+     * @return true to refill a single {@link SheetRow} for all the rows, instead of a new row each.
+     *         The rows passed to {@link #afterRowEnd(SheetRow)} are then only valid within the
+     *         call, unless kept with {@link #retainRow()}. Default is <code>false</code>.
+     */
+    boolean reuseRow() {
+        return false;
+    }
+
+    /**
+     * Keeps the current row out of the reuse, for the rows referenced past the
+     * {@link #afterRowEnd(SheetRow)} call (ex. the header row). The next row gets a new buffer.
+     */
+    void retainRow() {
+        this.reusableRow = null;
+    }
+
 
 
     // SheetContentsHandler Implementations
@@ -34,7 +56,13 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
         this.beforeRowStart(rowNum);
 
         // Start handle row
-        this.sheetRow = new SheetRow(rowNum);
+        if (reusableRow != null) {
+            reusableRow.reset(rowNum);
+            this.sheetRow = reusableRow;
+        } else {
+            this.sheetRow = new SheetRow(rowNum);
+            this.reusableRow = this.reuseRow() ? sheetRow : null;
+        }
     }
 
     @Override
@@ -62,6 +90,26 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
         log.debug("cell - Saving Column value : {} - {}", cellRef, cellVal);
     }
 
+    /**
+     * Typed cell value, in place of {@link #cell(String, String, XSSFComment)} : a
+     * <code>Double</code> or <code>Boolean</code> for the numeric and boolean cells, the formatted
+     * string for the others.
+     *
+     * @param cellRef the cell reference, ex. A1
+     * @param cellVal the cell value
+     */
+    public void typedCell(String cellRef, Object cellVal) {
+        if (cellVal instanceof String) {
+            this.cell(cellRef, (String) cellVal, null);
+            return;
+        }
+
+        if (StringUtils.isEmpty(cellRef) || cellVal == null) {
+            return;
+        }
+        sheetRow.addCell(cellRef, cellVal);
+    }
+
     @Override
     public void headerFooter(String text, boolean isHeader, String tagName) {
         // TODO Auto-generated method stub
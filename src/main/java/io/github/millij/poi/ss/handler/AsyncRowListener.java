@@ -0,0 +1,369 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.util.CancellationToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link RowListener} handing the rows over to a bounded queue, consumed by listener threads
+ * calling the wrapped listener. The parsing thread so only waits for the listener when the queue
+ * is full, see {@link #setOverflow(Overflow)}.
+ *
+ * <p>
+ * With a single listener thread (the default), the rows reach the listener in the sheet order.
+ * With more threads, the rows are passed concurrently and in no particular order, and the wrapped
+ * listener must be thread-safe.
+ * </p>
+ *
+ * <pre>
+ * try (AsyncRowListener&lt;Employee&gt; async = new AsyncRowListener&lt;&gt;(listener).setQueueSize(256)) {
+ *     reader.read(Employee.class, file, async);
+ * }
+ * </pre>
+ *
+ * {@link #close()} waits for the queued rows to be passed, and throws the first failure of the
+ * wrapped listener, if any. A failure is also thrown to the reader on the next row, which stops
+ * the read. An interrupted listener thread counts as a failure. The beans are handed over to other threads, the flyweight mode (see
+ * {@link RowListener#reuseBean()}) is not supported. The cancellation of the wrapped listener
+ * stops the read, and the queued rows are then dropped.
+ *
+ * @param <T> the bean type
+ * @author Fang Gang
+ */
+@Slf4j
+public class AsyncRowListener<T> extends ForwardingRowListener<T> implements Closeable {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    private static final long OFFER_WAIT_MILLIS = 100;
+
+    /**
+     * Behaviour of {@link #row(int, Object)} when the queue is full.
+     */
+    public enum Overflow {
+
+        /**
+         * Wait for room in the queue, holding back the parsing.
+         */
+        BLOCK,
+
+        /**
+         * Fail the row with a {@link RejectedExecutionException}, which stops the read.
+         */
+        FAIL;
+
+    }
+
+    private final ExecutorService executor;
+    private final boolean ownedExecutor;
+
+    private final int threads;
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private Overflow overflow = Overflow.BLOCK;
+
+    private BlockingQueue<Row<T>> queue;
+    private final List<Future<?>> consumers = new ArrayList<>();
+    private volatile boolean started;
+    private boolean closed;
+
+    private final Object failureLock = new Object();
+    private volatile Row<T> failedRow;
+    private volatile Throwable failure;
+
+    private final AtomicLong delivered = new AtomicLong();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param listener the listener, called on a single listener thread, in the sheet order.
+     */
+    public AsyncRowListener(RowListener<T> listener) {
+        this(listener, 1);
+    }
+
+    /**
+     * @param listener the listener, thread-safe when more than one thread
+     * @param threads no. of listener threads
+     */
+    public AsyncRowListener(RowListener<T> listener, int threads) {
+        this(listener, newExecutor(threads), true, threads);
+    }
+
+    /**
+     * @param listener the listener, thread-safe when more than one thread
+     * @param executor executor to run the listener threads on (ex. a virtual thread per task
+     *        executor on newer JVMs), not shut down by {@link #close()}
+     * @param threads no. of listener threads
+     */
+    public AsyncRowListener(RowListener<T> listener, ExecutorService executor, int threads) {
+        this(listener, executor, false, threads);
+    }
+
+    private AsyncRowListener(RowListener<T> listener, ExecutorService executor, boolean ownedExecutor,
+            int threads) {
+        super(listener);
+        if (threads <= 0) {
+            throw new IllegalArgumentException("AsyncRowListener :: invalid no. of threads - " + threads);
+        }
+
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.threads = threads;
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param queueSize max no. of rows waiting for the listener
+     * @return this listener
+     */
+    public AsyncRowListener<T> setQueueSize(int queueSize) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("AsyncRowListener :: invalid queue size - " + queueSize);
+        }
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * @param overflow behaviour when the queue is full, default is {@link Overflow#BLOCK}.
+     * @return this listener
+     */
+    public AsyncRowListener<T> setOverflow(Overflow overflow) {
+        this.overflow = overflow;
+        return this;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void row(int rowNum, T rowObj) {
+        this.start();
+        this.checkFailure();
+
+        final Row<T> row = new Row<>(rowNum, rowObj);
+        if (overflow == Overflow.FAIL) {
+            if (!queue.offer(row)) {
+                String errMsg = String.format("AsyncRowListener :: queue full (%d rows), row - %d", queueSize, rowNum);
+                throw new RejectedExecutionException(errMsg);
+            }
+            return;
+        }
+
+        final CancellationToken cancellation = this.cancellation();
+        try {
+            while (!queue.offer(row, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                this.checkFailure();
+                if (cancellation != null) {
+                    cancellation.check();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("AsyncRowListener :: interrupted, row - " + rowNum, ex);
+        }
+    }
+
+    /**
+     * The beans are handed over to other threads, the flyweight mode is not supported.
+     */
+    @Override
+    public boolean reuseBean() {
+        return false;
+    }
+
+    /**
+     * @return the no. of rows passed to the wrapped listener so far.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+
+    // Close
+    // ------------------------------------------------------------------------
+
+    /**
+     * Waits for the queued rows to be passed to the listener, and stops the listener threads.
+     *
+     * @throws RuntimeException the first failure of the wrapped listener, if any.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (started) {
+                this.awaitConsumers();
+            }
+        } finally {
+            if (ownedExecutor) {
+                executor.shutdown();
+            }
+        }
+        this.checkFailure();
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void start() {
+        if (started) {
+            return;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("AsyncRowListener :: closed");
+            }
+            if (!started) {
+                queue = new ArrayBlockingQueue<>(queueSize);
+                for (int i = 0; i < threads; i++) {
+                    consumers.add(executor.submit(this::consume));
+                }
+                started = true;
+            }
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            final Row<T> row;
+            try {
+                row = queue.take();
+            } catch (InterruptedException ex) {
+                // No more consumer, the parsing and the close must not wait on it
+                Thread.currentThread().interrupt();
+                this.fail(null, ex);
+                log.error("AsyncRowListener :: listener thread interrupted");
+                return;
+            }
+
+            if (row.isEnd()) {
+                return;
+            }
+
+            // After a failure or a cancellation, drain the rows without passing them
+            if (failure != null || isCancelled()) {
+                continue;
+            }
+
+            try {
+                this.delegate().row(row.rowNum, row.rowObj);
+                delivered.incrementAndGet();
+            } catch (Throwable ex) {
+                this.fail(row, ex);
+                log.error("AsyncRowListener :: listener failed at row - {} : {}", row.rowNum, ex.getMessage());
+            }
+        }
+    }
+
+    private void awaitConsumers() {
+        try {
+            // End markers, until no consumer is left to take them
+            for (int i = 0; i < consumers.size(); i++) {
+                while (!queue.offer(Row.end(), OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (consumers.stream().allMatch(Future::isDone)) {
+                        break;
+                    }
+                }
+            }
+            for (Future<?> consumer : consumers) {
+                consumer.get();
+            }
+        } catch (CancellationException ex) {
+            this.fail(null, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            consumers.forEach(consumer -> consumer.cancel(true));
+            throw new IllegalStateException("AsyncRowListener :: interrupted while closing", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("AsyncRowListener :: listener thread failed", ex.getCause());
+        }
+    }
+
+    private boolean isCancelled() {
+        final CancellationToken cancellation = this.cancellation();
+        return cancellation != null && cancellation.isCancelled();
+    }
+
+    private void fail(Row<T> row, Throwable ex) {
+        synchronized (failureLock) {
+            if (failure == null) {
+                failedRow = row;
+                failure = ex;
+            }
+        }
+    }
+
+    private void checkFailure() {
+        if (failure == null) {
+            return;
+        }
+
+        final Row<T> row = failedRow;
+        if (row == null) {
+            throw new RuntimeException("AsyncRowListener :: listener thread stopped", failure);
+        }
+        String errMsg = String.format("Error calling listener callback row - %d, bean - %s", row.rowNum, row.rowObj);
+        throw new RuntimeException(errMsg, failure);
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        final AtomicInteger threadNo = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            final Thread thread = new Thread(r, "row-listener-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * A queued row.
+     */
+    private static final class Row<T> {
+
+        final int rowNum;
+        final T rowObj;
+
+        Row(int rowNum, T rowObj) {
+            this.rowNum = rowNum;
+            this.rowObj = rowObj;
+        }
+
+        static <T> Row<T> end() {
+            return new Row<>(-1, null);
+        }
+
+        boolean isEnd() {
+            return rowNum < 0;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.model.RowFilter;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.util.CancellationToken;
+
+/**
+ * A {@link RowListener} passing all the calls on to another listener. The wrapping listeners
+ * override only the methods they change, the others (and the ones {@link RowListener} gets later
+ * on) are forwarded.
+ *
+ * <pre>
+ * RowListener&lt;Employee&gt; counting = new ForwardingRowListener&lt;Employee&gt;(listener) {
+ *
+ *     &#64;Override
+ *     public void row(int rowNum, Employee rowObj) {
+ *         count++;
+ *         super.row(rowNum, rowObj);
+ *     }
+ * };
+ * </pre>
+ *
+ * @param <T> the bean type
+ * @author Fang Gang
+ */
+public abstract class ForwardingRowListener<T> implements RowListener<T> {
+
+    private final RowListener<T> delegate;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    protected ForwardingRowListener(RowListener<T> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("ForwardingRowListener :: listener should not be null");
+        }
+        this.delegate = delegate;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return the wrapped listener
+     */
+    protected RowListener<T> delegate() {
+        return delegate;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void row(int rowNum, T rowObj) {
+        delegate.row(rowNum, rowObj);
+    }
+
+    @Override
+    public boolean reuseBean() {
+        return delegate.reuseBean();
+    }
+
+    @Override
+    public RowFilter rowFilter() {
+        return delegate.rowFilter();
+    }
+
+    @Override
+    public CancellationToken cancellation() {
+        return delegate.cancellation();
+    }
+
+    @Override
+    public ValidationPolicy validationPolicy() {
+        return delegate.validationPolicy();
+    }
+
+}
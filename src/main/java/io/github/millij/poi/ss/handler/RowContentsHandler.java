@@ -1,10 +1,16 @@
 package io.github.millij.poi.ss.handler;
 
+import io.github.millij.poi.ss.jfr.JfrEvents;
+import io.github.millij.poi.ss.jfr.RowEventRecorder;
 import io.github.millij.poi.ss.model.ColumnMapping;
 import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.util.CancellationToken;
 import io.github.millij.poi.util.Spreadsheet;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Predicate;
+
 /**
  * Row contents handler.
  *
@@ -22,6 +28,20 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
 
     private final RowListener<T> rowListener;
 
+    private final RowEventRecorder recorder;
+
+    private final CancellationToken cancellation;
+
+    private final ValidationPolicy validationPolicy;
+
+    private T reusableBean;
+
+    private Predicate<SheetRow> rowFilter;
+
+    private int fromRow = 0;
+
+    private int toRow = Integer.MAX_VALUE;
+
 
     // Constructors
     // ------------------------------------------------------------------------
@@ -36,6 +56,26 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
         this.beanClz = beanClz;
         this.headerRow = headerRow;
         this.rowListener = rowListener;
+        this.recorder = JfrEvents.rowEvents(beanClz);
+        this.cancellation = rowListener.cancellation();
+        this.validationPolicy = rowListener.validationPolicy();
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Restricts the rows passed to the listener to the range, both inclusive. The header row is
+     * always read, and the parsing is stopped with a {@link RowRangeEndException} at the first
+     * row past the range.
+     *
+     * @param fromRow first row number (indexed from 0)
+     * @param toRow last row number (indexed from 0)
+     */
+    public void setRowRange(int fromRow, int toRow) {
+        this.fromRow = fromRow;
+        this.toRow = toRow;
     }
 
 
@@ -45,6 +85,15 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
     @Override
     void beforeRowStart(int rowNum) {
         log.debug("Start reading row - {}.", rowNum);
+
+        if (cancellation != null) {
+            cancellation.check();
+        }
+
+        if (rowNum > toRow) {
+            recorder.finish();
+            throw new RowRangeEndException(rowNum);
+        }
     }
 
 
@@ -63,20 +112,55 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
         }
 
         if (rowNum == headerRow) {
+            // Header row kept by the mapping, and the beans of the previous sheet are not refilled
+            this.retainRow();
+            reusableBean = null;
             columnMapping = new ColumnMapping(beanClz, sheetRow);
+            rowFilter = rowListener.rowFilter() != null ? rowListener.rowFilter().bind(sheetRow) : null;
             return;
         }
 
-        // Row As Bean
-        T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping);
+        // Skip rows before the range
+        if (rowNum < fromRow) {
+            return;
+        }
+
+        // Skip rows rejected by the filter, before building the bean
+        if (rowFilter != null && !rowFilter.test(sheetRow)) {
+            return;
+        }
+
+        // Skip (or fail on) the invalid rows, per the policy
+        if (!validationPolicy.accept(columnMapping.getValidator(), sheetRow)) {
+            return;
+        }
+
+        // Row As Bean, refilling the same bean in the flyweight mode
+        final long bindStart = recorder.bindStart();
+        T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping, reusableBean);
+        recorder.bindEnd(bindStart);
+        if (rowListener.reuseBean()) {
+            reusableBean = rowBean;
+        }
 
         // Row Callback
         try {
-            rowListener.row(rowNum, rowBean);
+            recorder.row(rowListener, rowNum, rowBean);
         } catch (Exception ex) {
             String errMsg = String.format("Error calling listener callback row - %d, bean - %s", rowNum, rowBean);
             throw new RuntimeException(errMsg, ex);
         }
     }
 
+    @Override
+    boolean reuseRow() {
+        return rowListener.reuseBean();
+    }
+
+    @Override
+    public void endSheet() {
+        reusableBean = null;
+        recorder.finish();
+    }
+
 }
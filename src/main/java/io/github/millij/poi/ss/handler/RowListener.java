@@ -1,6 +1,9 @@
 package io.github.millij.poi.ss.handler;
 
+import io.github.millij.poi.ss.model.RowFilter;
+import io.github.millij.poi.ss.model.ValidationPolicy;
 import io.github.millij.poi.ss.reader.SpreadsheetReader;
+import io.github.millij.poi.util.CancellationToken;
 
 
 /**
@@ -16,4 +19,133 @@ public interface RowListener<T> {
      */
     void row(int rowNum, T rowObj);
 
+    /**
+     * Flyweight mode. When <code>true</code>, the readers pass the same bean instance to all the
+     * {@link #row(int, Object)} calls of a sheet, refilled from each row, instead of a new bean per
+     * row.
+     *
+     * <p>
+     * All the properties mapped to the sheet columns are set for every row (to their
+     * <code>null</code> value when the cell is empty), so the bean holds exactly what a new bean
+     * would. In return, the listener must :
+     * </p>
+     * <ul>
+     * <li>use the bean only within the call : no references kept, no hand-over to other threads;
+     * copy out whatever has to outlive the row.</li>
+     * <li>not modify the bean, the properties not mapped to a column are not reset.</li>
+     * </ul>
+     *
+     * <p>
+     * The xlsx reads also refill a single raw row buffer then. The cells of each row (value,
+     * address and column reference) are still allocated, and the .xls and snapshot reads build a
+     * new raw row per row.
+     * </p>
+     *
+     * @return true to reuse a single bean instance. Default is <code>false</code>.
+     */
+    default boolean reuseBean() {
+        return false;
+    }
+
+    /**
+     * Rows filter, checked by the readers on the raw cell values before building the beans. The
+     * rows not accepted by the filter are skipped, without any {@link #row(int, Object)} call.
+     *
+     * @return the {@link RowFilter}, or <code>null</code> (default) to get all the rows.
+     */
+    default RowFilter rowFilter() {
+        return null;
+    }
+
+    /**
+     * Cancellation of the read, checked by the readers before each row. Once the token is
+     * cancelled or expired (or the reading thread interrupted), the read stops with an
+     * {@link io.github.millij.poi.OperationCancelledException} and the workbook is closed.
+     *
+     * @return the {@link CancellationToken}, or <code>null</code> (default) for no cancellation.
+     */
+    default CancellationToken cancellation() {
+        return null;
+    }
+
+    /**
+     * Handling of the rows breaking the <code>@SheetColumn</code> rules, checked by the readers on
+     * the raw cell values before building the beans.
+     *
+     * @return the {@link ValidationPolicy}, {@link ValidationPolicy#FAIL} by default.
+     */
+    default ValidationPolicy validationPolicy() {
+        return ValidationPolicy.FAIL;
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param <T> the bean type
+     * @param listener the listener
+     * @return a listener calling the passed one in the flyweight mode (see {@link #reuseBean()}).
+     */
+    static <T> RowListener<T> reusing(RowListener<T> listener) {
+        return new ForwardingRowListener<T>(listener) {
+
+            @Override
+            public boolean reuseBean() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @param <T> the bean type
+     * @param filter the rows filter
+     * @param listener the listener
+     * @return a listener calling the passed one for the rows accepted by the filter only (see
+     *         {@link #rowFilter()}).
+     */
+    static <T> RowListener<T> filtering(RowFilter filter, RowListener<T> listener) {
+        return new ForwardingRowListener<T>(listener) {
+
+            @Override
+            public RowFilter rowFilter() {
+                return filter;
+            }
+        };
+    }
+
+    /**
+     * @param <T> the bean type
+     * @param token the cancellation token
+     * @param listener the listener
+     * @return a listener calling the passed one, with the read stopped by the token (see
+     *         {@link #cancellation()}).
+     */
+    static <T> RowListener<T> cancellable(CancellationToken token, RowListener<T> listener) {
+        return new ForwardingRowListener<T>(listener) {
+
+            @Override
+            public CancellationToken cancellation() {
+                return token;
+            }
+        };
+    }
+
+    /**
+     * @param <T> the bean type
+     * @param policy the validation policy
+     * @param listener the listener
+     * @return a listener calling the passed one, with the invalid rows handled per the policy (see
+     *         {@link #validationPolicy()}).
+     */
+    static <T> RowListener<T> validating(ValidationPolicy policy, RowListener<T> listener) {
+        return new ForwardingRowListener<T>(listener) {
+
+            @Override
+            public ValidationPolicy validationPolicy() {
+                return policy;
+            }
+        };
+    }
+
 }
@@ -0,0 +1,77 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.model.RowMap;
+import io.github.millij.poi.ss.model.SheetHeader;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+
+import java.util.Map;
+
+/**
+ * Adapts the raw {@link SheetRow}s to {@link RowMap}s keyed by the header row names.
+ *
+ * <p>
+ * The header is reset at each new sheet (the row numbers start over), so a listener reused
+ * across sheets never maps the rows with the header of a previous sheet. The
+ * {@link RowListener#cancellation()} token of the wrapped listener stops the read.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+public class RowMapListener implements RowListener<SheetRow> {
+
+    private final int headerRow;
+
+    private final RowListener<Map<String, Object>> rowListener;
+
+    private SheetHeader header;
+    private int lastRowNum = -1;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public RowMapListener(RowListener<Map<String, Object>> rowListener) {
+        this(rowListener, 0);
+    }
+
+    public RowMapListener(RowListener<Map<String, Object>> rowListener, int headerRow) {
+        this.headerRow = headerRow;
+        this.rowListener = rowListener;
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void row(int rowNum, SheetRow sheetRow) {
+        // New sheet
+        if (rowNum <= lastRowNum) {
+            header = null;
+        }
+        lastRowNum = rowNum;
+
+        // Skip rows before header row
+        if (rowNum < headerRow) {
+            return;
+        }
+
+        if (rowNum == headerRow) {
+            header = SheetHeader.of(sheetRow);
+            return;
+        }
+
+        if (header == null) {
+            throw new ColumnNotFoundException(headerRow);
+        }
+        rowListener.row(rowNum, header.toRowMap(sheetRow));
+    }
+
+    @Override
+    public CancellationToken cancellation() {
+        return rowListener.cancellation();
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.github.millij.poi.ss.handler;
+
+/**
+ * Thrown by the {@link RowContentsHandler} at the start of the first row past the requested row
+ * range, to stop parsing the rest of the sheet. This is not an error.
+ *
+ * @author Fang Gang
+ */
+public class RowRangeEndException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RowRangeEndException(int rowNum) {
+        super(String.format("Row range ended before row #%d", rowNum + 1), null, false, false);
+    }
+
+}
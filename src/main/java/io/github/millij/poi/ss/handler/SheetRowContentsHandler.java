@@ -0,0 +1,56 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sheet row contents handler, passes the raw {@link SheetRow}s (header row included) to the listener
+ * without mapping them to beans.
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public class SheetRowContentsHandler extends AbstractSheetContentsHandler {
+
+    private final RowListener<SheetRow> rowListener;
+
+    private final CancellationToken cancellation;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SheetRowContentsHandler(RowListener<SheetRow> rowListener) {
+        super();
+
+        this.rowListener = rowListener;
+        this.cancellation = rowListener.cancellation();
+    }
+
+
+    // AbstractSheetContentsHandler Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    void beforeRowStart(int rowNum) {
+        log.debug("Start reading row - {}.", rowNum);
+
+        if (cancellation != null) {
+            cancellation.check();
+        }
+    }
+
+
+    @Override
+    void afterRowEnd(final SheetRow sheetRow) {
+        // Sanity Checks
+        if (sheetRow == null || sheetRow.isEmpty()) {
+            return;
+        }
+
+        // Row Callback
+        rowListener.row(sheetRow.getRowNum(), sheetRow);
+    }
+
+}
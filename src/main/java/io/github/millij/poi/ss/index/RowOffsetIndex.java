@@ -0,0 +1,474 @@
+package io.github.millij.poi.ss.index;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of the row offsets in the (inflated) sheet parts of an .xlsx file, recorded every
+ * <code>interval</code> rows. Used to read a range of rows without parsing the sheet from the first
+ * row, see {@link io.github.millij.poi.ss.reader.XlsxReader#getRowIndex(File, int)}.
+ *
+ * <p>
+ * Per sheet, along with the checkpoints, the index keeps the parser state needed to resume : the
+ * sheet xml up to the first row (xml declaration, namespaces, <code>sheetData</code> start) and the
+ * header row. A resumed read parses these, followed by the sheet part from the checkpoint offset.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RowOffsetIndex {
+
+    private static final int MAGIC = 0x454F4D49;
+    private static final short VERSION = 1;
+
+    private static final String FILE_SUFFIX = ".rowidx";
+
+    /**
+     * Length of the indexed file.
+     */
+    @Getter
+    final long fileLength;
+
+    /**
+     * Last modified time of the indexed file.
+     */
+    @Getter
+    final long fileLastModified;
+
+    /**
+     * No. of rows between the checkpoints.
+     */
+    @Getter
+    final int interval;
+
+    final List<SheetIndex> sheets;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public RowOffsetIndex(File file, int interval) {
+        this(file.length(), file.lastModified(), interval);
+    }
+
+    private RowOffsetIndex(long fileLength, long fileLastModified, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("RowOffsetIndex :: Invalid interval - " + interval);
+        }
+
+        this.fileLength = fileLength;
+        this.fileLastModified = fileLastModified;
+        this.interval = interval;
+        this.sheets = new ArrayList<>();
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public List<SheetIndex> getSheets() {
+        return Collections.unmodifiableList(sheets);
+    }
+
+    public SheetIndex getSheet(int sheetNo) {
+        return sheetNo < sheets.size() ? sheets.get(sheetNo) : null;
+    }
+
+    /**
+     * Scans the sheet part and adds its index. Sheets should be added in the workbook order.
+     *
+     * @param sheetPart {@link InputStream} of the (inflated) sheet part
+     * @throws IOException if the sheet part is not readable.
+     */
+    public void addSheet(InputStream sheetPart) throws IOException {
+        sheets.add(SheetIndex.scan(sheetPart, interval));
+    }
+
+    /**
+     * Check whether the index is still valid for the file, i.e., the file did not change since.
+     *
+     * @param file the indexed {@link File}
+     * @return true if the file length and last modified time are unchanged.
+     */
+    public boolean isValidFor(File file) {
+        return file.length() == fileLength && file.lastModified() == fileLastModified;
+    }
+
+
+    // Persistence
+
+    /**
+     * The index file beside the passed file, i.e., <code>&lt;file&gt;.rowidx</code>
+     *
+     * @param file the indexed {@link File}
+     * @return the index {@link File}
+     */
+    public static File indexFileOf(File file) {
+        return new File(file.getPath() + FILE_SUFFIX);
+    }
+
+    public void save(File indexFile) throws IOException {
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(fileLength);
+            out.writeLong(fileLastModified);
+            out.writeInt(interval);
+
+            out.writeInt(sheets.size());
+            for (SheetIndex sheet : sheets) {
+                sheet.write(out);
+            }
+        }
+    }
+
+    public static RowOffsetIndex load(File indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a row offset index, or unsupported version - " + indexFile);
+            }
+
+            final RowOffsetIndex index = new RowOffsetIndex(in.readLong(), in.readLong(), in.readInt());
+            final int sheetCount = in.readInt();
+            for (int i = 0; i < sheetCount; i++) {
+                index.sheets.add(SheetIndex.read(in));
+            }
+            return index;
+        }
+    }
+
+
+
+    /**
+     * Row offsets of a single sheet part.
+     */
+    @ToString(exclude = {"head", "headerRow", "checkpointRows", "checkpointOffsets"})
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class SheetIndex {
+
+        /**
+         * Sheet xml up to the first row.
+         */
+        byte[] head;
+
+        /**
+         * Header (first) row xml.
+         */
+        byte[] headerRow;
+
+        /**
+         * Row number of the header row, <code>-1</code> when the sheet has no rows.
+         */
+        @Getter
+        int headerRowNum = -1;
+
+        /**
+         * Row number of the last row.
+         */
+        @Getter
+        int lastRowNum = -1;
+
+        int checkpointCount;
+        int[] checkpointRows = new int[16];
+        long[] checkpointOffsets = new long[16];
+
+
+        /**
+         * Opens the sheet part positioned at the nearest checkpoint at or before the passed row,
+         * preceded by the sheet head and header row.
+         *
+         * @param sheetPart {@link InputStream} of the (inflated) sheet part, from its beginning
+         * @param fromRow first row to be read
+         * @return the {@link InputStream} to be parsed
+         * @throws IOException if the sheet part is not readable.
+         */
+        public InputStream open(InputStream sheetPart, int fromRow) throws IOException {
+            // Nearest checkpoint
+            int idx = Arrays.binarySearch(checkpointRows, 0, checkpointCount, fromRow);
+            idx = idx >= 0 ? idx : -idx - 2;
+            if (idx < 0 || headerRow == null) {
+                return sheetPart;
+            }
+
+            // Skip
+            long remaining = checkpointOffsets[idx];
+            while (remaining > 0) {
+                final long skipped = sheetPart.skip(remaining);
+                if (skipped <= 0) {
+                    if (sheetPart.read() < 0) {
+                        throw new IOException("Sheet part is shorter than the indexed offset");
+                    }
+                    remaining--;
+                } else {
+                    remaining -= skipped;
+                }
+            }
+
+            final ByteArrayOutputStream prefix = new ByteArrayOutputStream(head.length + headerRow.length);
+            prefix.write(head);
+            prefix.write(headerRow);
+            return new SequenceInputStream(new ByteArrayInputStream(prefix.toByteArray()), sheetPart);
+        }
+
+        public int getCheckpointCount() {
+            return checkpointCount;
+        }
+
+
+        // Scan
+
+        static SheetIndex scan(InputStream sheetPart, int interval) throws IOException {
+            final SheetIndex sheetIndex = new SheetIndex();
+            new RowScanner(sheetIndex, interval).scan(sheetPart);
+            return sheetIndex;
+        }
+
+        private void addCheckpoint(int rowNum, long offset) {
+            if (checkpointCount == checkpointRows.length) {
+                checkpointRows = Arrays.copyOf(checkpointRows, checkpointCount * 2);
+                checkpointOffsets = Arrays.copyOf(checkpointOffsets, checkpointCount * 2);
+            }
+            checkpointRows[checkpointCount] = rowNum;
+            checkpointOffsets[checkpointCount] = offset;
+            checkpointCount++;
+        }
+
+
+        // Persistence
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt(headerRowNum);
+            out.writeInt(lastRowNum);
+            writeBytes(out, head);
+            writeBytes(out, headerRow);
+
+            out.writeInt(checkpointCount);
+            for (int i = 0; i < checkpointCount; i++) {
+                out.writeInt(checkpointRows[i]);
+                out.writeLong(checkpointOffsets[i]);
+            }
+        }
+
+        private static SheetIndex read(DataInputStream in) throws IOException {
+            final SheetIndex sheetIndex = new SheetIndex();
+            sheetIndex.headerRowNum = in.readInt();
+            sheetIndex.lastRowNum = in.readInt();
+            sheetIndex.head = readBytes(in);
+            sheetIndex.headerRow = readBytes(in);
+
+            final int count = in.readInt();
+            sheetIndex.checkpointRows = new int[Math.max(count, 1)];
+            sheetIndex.checkpointOffsets = new long[Math.max(count, 1)];
+            for (int i = 0; i < count; i++) {
+                sheetIndex.addCheckpoint(in.readInt(), in.readLong());
+            }
+            return sheetIndex;
+        }
+
+        private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+            out.writeInt(bytes == null ? -1 : bytes.length);
+            if (bytes != null) {
+                out.write(bytes);
+            }
+        }
+
+        private static byte[] readBytes(DataInputStream in) throws IOException {
+            final int length = in.readInt();
+            if (length < 0) {
+                return null;
+            }
+
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return bytes;
+        }
+    }
+
+
+    /**
+     * Lightweight scanner of the sheet xml bytes, looks only at the tag names and at the row
+     * numbers of the <code>row</code> start tags. Unescaped <code>&lt;</code> cannot appear in the
+     * sheet xml text, so no full xml parsing is needed.
+     */
+    private static class RowScanner {
+
+        private static final int TEXT = 0;
+        private static final int NAME = 1;
+        private static final int TAG = 2;
+
+        private final SheetIndex sheetIndex;
+        private final int interval;
+
+        private int state = TEXT;
+        private long offset;
+        private long tagStart;
+        private final StringBuilder name = new StringBuilder();
+        private final StringBuilder rowTag = new StringBuilder();
+        private boolean inRowTag;
+        private boolean closingRow;
+
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        private boolean headDone;
+        private int headerRowStart = -1;
+        private int dataRows;
+        private boolean implicitRowNums;
+        private boolean done;
+
+        RowScanner(SheetIndex sheetIndex, int interval) {
+            this.sheetIndex = sheetIndex;
+            this.interval = interval;
+        }
+
+        void scan(InputStream sheetPart) throws IOException {
+            final byte[] buffer = new byte[64 * 1024];
+            int read;
+            while (!done && (read = sheetPart.read(buffer)) > 0) {
+                int i = 0;
+                for (; i < read && !done; i++, offset++) {
+                    if (!headDone) {
+                        head.write(buffer[i]);
+                    }
+                    this.next((char) (buffer[i] & 0xFF));
+                }
+            }
+
+            if (headerRowStart >= 0 && sheetIndex.headerRow == null) {
+                throw new IOException("Sheet part ended within the header row");
+            }
+        }
+
+        private void next(char ch) {
+            switch (state) {
+                case TEXT:
+                    if (ch == '<') {
+                        tagStart = offset;
+                        name.setLength(0);
+                        state = NAME;
+                    }
+                    break;
+                case NAME:
+                    if (ch == '>' || ch == '/' && name.length() > 0 || Character.isWhitespace(ch)) {
+                        this.tagName(ch);
+                    } else {
+                        name.append(ch);
+                    }
+                    break;
+                case TAG:
+                    if (inRowTag) {
+                        rowTag.append(ch);
+                    }
+                    if (ch == '>') {
+                        this.tagEnd();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void tagName(char delimiter) {
+            final boolean closing = name.charAt(0) == '/';
+            final String qName = closing ? name.substring(1) : name.toString();
+            final String localName = qName.substring(qName.indexOf(':') + 1);
+
+            if (closing && localName.equals("row")) {
+                closingRow = true;
+            } else if (closing && localName.equals("sheetData")) {
+                done = true;
+            } else if (!closing && localName.equals("row")) {
+                // Row start, read the attributes
+                inRowTag = true;
+                rowTag.setLength(0);
+                rowTag.append(delimiter);
+            }
+
+            state = TAG;
+            if (delimiter == '>') {
+                this.tagEnd();
+            }
+        }
+
+        private void tagEnd() {
+            state = TEXT;
+            if (closingRow) {
+                closingRow = false;
+                this.rowEnd();
+            }
+            if (!inRowTag) {
+                return;
+            }
+
+            inRowTag = false;
+            int rowNum = parseRowNum(rowTag);
+            if (rowNum < 0) {
+                // Without explicit row numbers, the parser can only number the rows from the start
+                implicitRowNums = true;
+                sheetIndex.checkpointCount = 0;
+                rowNum = sheetIndex.lastRowNum + 1;
+            }
+            sheetIndex.lastRowNum = rowNum;
+
+            if (headerRowStart < 0) {
+                // Header row
+                headerRowStart = (int) tagStart;
+                sheetIndex.headerRowNum = rowNum;
+                sheetIndex.head = Arrays.copyOf(head.toByteArray(), headerRowStart);
+            } else if (dataRows++ % interval == 0 && !implicitRowNums) {
+                sheetIndex.addCheckpoint(rowNum, tagStart);
+            }
+
+            // Empty row, <row .../>
+            if (rowTag.length() >= 2 && rowTag.charAt(rowTag.length() - 2) == '/') {
+                this.rowEnd();
+            }
+        }
+
+        private void rowEnd() {
+            if (headDone || headerRowStart < 0) {
+                return;
+            }
+
+            // Header row, up to the current '>'
+            headDone = true;
+            sheetIndex.headerRow = Arrays.copyOfRange(head.toByteArray(), headerRowStart, (int) offset + 1);
+        }
+
+        private static int parseRowNum(CharSequence tag) {
+            final String attrs = tag.toString();
+            int idx = attrs.indexOf(" r=");
+            if (idx < 0) {
+                idx = attrs.indexOf("\tr=");
+            }
+            if (idx < 0) {
+                return -1;
+            }
+
+            final char quote = attrs.charAt(idx + 3);
+            final int end = attrs.indexOf(quote, idx + 4);
+            return Integer.parseInt(attrs.substring(idx + 4, end).trim()) - 1;
+        }
+    }
+
+}
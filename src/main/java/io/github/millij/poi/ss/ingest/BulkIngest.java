@@ -0,0 +1,300 @@
+package io.github.millij.poi.ss.ingest;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+import io.github.millij.poi.ss.reader.XlsReader;
+import io.github.millij.poi.ss.reader.XlsxReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads many spreadsheet files concurrently, with a limit on the no. of reads running at once and
+ * a global {@link MemoryBudget}. Each file is admitted once its estimated memory fits in the
+ * budget (in submission order), and its result (or failure) is returned as a
+ * {@link CompletableFuture}.
+ *
+ * <p>
+ * The memory of a listener read is released when the read returns, the rows being consumed by the
+ * listener. The memory of a read to beans is held until its {@link IngestResult} is closed, i.e.
+ * until the caller is done with the beans.
+ * </p>
+ *
+ * <p>
+ * The reads run on the passed executor, any {@link ExecutorService} can be used (ex. a virtual
+ * thread per task executor on newer JVMs). The reader is picked by the file extension,
+ * <code>.xlsx</code> or <code>.xls</code>.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public class BulkIngest implements Closeable {
+
+    /**
+     * Base memory of a read, on top of the file dependent estimate.
+     */
+    private static final long READ_OVERHEAD = 4L * 1024 * 1024;
+
+    /**
+     * Expansion of an xls file, read fully in memory by the {@link XlsReader}.
+     */
+    private static final int XLS_EXPANSION = 6;
+
+    private final ExecutorService executor;
+    private final boolean ownedExecutor;
+
+    private final Semaphore concurrency;
+    private final MemoryBudget budget;
+
+    private ToLongFunction<File> estimator = BulkIngest::estimateMemory;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param maxConcurrency max no. of files read at once
+     * @param maxMemoryBytes memory budget shared by the reads
+     */
+    public BulkIngest(int maxConcurrency, long maxMemoryBytes) {
+        this(newExecutor(maxConcurrency), true, maxConcurrency, maxMemoryBytes);
+    }
+
+    /**
+     * @param executor executor to run the reads on, not shut down by {@link #close()}
+     * @param maxConcurrency max no. of files read at once
+     * @param maxMemoryBytes memory budget shared by the reads
+     */
+    public BulkIngest(ExecutorService executor, int maxConcurrency, long maxMemoryBytes) {
+        this(executor, false, maxConcurrency, maxMemoryBytes);
+    }
+
+    private BulkIngest(ExecutorService executor, boolean ownedExecutor, int maxConcurrency, long maxMemoryBytes) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("BulkIngest :: invalid concurrency - " + maxConcurrency);
+        }
+
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.concurrency = new Semaphore(maxConcurrency, true);
+        this.budget = new MemoryBudget(maxMemoryBytes);
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * Replaces the memory estimate of the files, see {@link #estimateMemory(File)} for the
+     * default one.
+     *
+     * @param estimator estimated bytes needed to read a file
+     * @return this ingest
+     */
+    public BulkIngest setEstimator(ToLongFunction<File> estimator) {
+        this.estimator = estimator;
+        return this;
+    }
+
+    public MemoryBudget getBudget() {
+        return budget;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads all the sheets of the file to beans of the given type. The memory reserved for the read
+     * is held until the returned {@link IngestResult} is closed.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param file the spreadsheet file
+     * @return the future of the beans, to be closed once consumed.
+     */
+    public <T> CompletableFuture<IngestResult<T>> submit(Class<T> beanClz, File file) {
+        return this.admit(file, true,
+                (reader, bytes) -> new IngestResult<>(file, reader.read(beanClz, file), budget, bytes));
+    }
+
+    /**
+     * Reads all the sheets of the file to beans of the given type, passing the beans to the
+     * listener. Note that the listeners of different files are called concurrently.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param file the spreadsheet file
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * @return the future of the read, completed with the file.
+     */
+    public <T> CompletableFuture<File> submit(Class<T> beanClz, File file, RowListener<T> listener) {
+        return this.admit(file, false, (reader, bytes) -> {
+            reader.read(beanClz, file, listener);
+            return file;
+        });
+    }
+
+    /**
+     * Reads all the files to beans of the given type, see {@link #submit(Class, File)}.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param files the spreadsheet files
+     * @return the futures, in the order of the files. The results are to be closed once consumed,
+     *         as the reads are admitted in order.
+     */
+    public <T> List<CompletableFuture<IngestResult<T>>> submitAll(Class<T> beanClz, List<File> files) {
+        final List<CompletableFuture<IngestResult<T>>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            futures.add(this.submit(beanClz, file));
+        }
+        return futures;
+    }
+
+    /**
+     * Shuts down the executor, when created by this ingest. Submitted reads still complete.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor) {
+            executor.shutdown();
+        }
+    }
+
+
+    // Memory Estimate
+
+    /**
+     * Default memory estimate of a read : the file size, plus twice the uncompressed shared
+     * strings (held as java strings) for xlsx, or a fixed expansion of the file for xls (read
+     * fully in memory).
+     *
+     * @param file the spreadsheet file
+     * @return the estimated bytes
+     */
+    public static long estimateMemory(File file) {
+        final long fileSize = file.length();
+        if (!isXlsx(file)) {
+            return READ_OVERHEAD + fileSize * XLS_EXPANSION;
+        }
+
+        long sstSize = 0;
+        try (ZipFile zip = new ZipFile(file)) {
+            final ZipEntry sst = zip.getEntry("xl/sharedStrings.xml");
+            if (sst != null) {
+                sstSize = sst.getSize() >= 0 ? sst.getSize() : sst.getCompressedSize() * 10;
+            }
+        } catch (IOException ex) {
+            log.debug("Failed to read the shared strings size - {}, {}", file, ex.getMessage());
+        }
+        return READ_OVERHEAD + fileSize + 2 * sstSize;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private <R> CompletableFuture<R> admit(File file, boolean holdBudget, ReadTask<R> task) {
+        // Queued for the budget at submission, the reads are admitted in submission order
+        final long bytes = estimator.applyAsLong(file);
+        final MemoryBudget.Ticket ticket = budget.enqueue();
+
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    final R result = this.admitted(file, ticket, bytes, holdBudget, task);
+
+                    // Nobody to close the result when the future was cancelled meanwhile
+                    if (!future.complete(result) && result instanceof IngestResult) {
+                        ((IngestResult<?>) result).close();
+                    }
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            budget.cancel(ticket);
+            throw ex;
+        }
+        return future;
+    }
+
+    private <R> R admitted(File file, MemoryBudget.Ticket ticket, long bytes, boolean holdBudget,
+            ReadTask<R> task) {
+        try {
+            // Budget first, the running reads hold the concurrency permits
+            budget.acquire(ticket, bytes);
+            boolean held = false;
+            try {
+                concurrency.acquire();
+                try {
+                    log.debug("Reading {}, estimated memory {} bytes", file, bytes);
+                    final R result = task.read(readerOf(file), bytes);
+                    held = holdBudget;
+                    return result;
+                } finally {
+                    concurrency.release();
+                }
+            } finally {
+                if (!held) {
+                    budget.release(bytes);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (SpreadsheetReadException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    private static SpreadsheetReader readerOf(File file) {
+        if (isXlsx(file)) {
+            return new XlsxReader();
+        }
+        if (file.getName().toLowerCase(Locale.ROOT).endsWith(".xls")) {
+            return new XlsReader();
+        }
+        throw new IllegalArgumentException("BulkIngest :: Unsupported file type - " + file);
+    }
+
+    private static boolean isXlsx(File file) {
+        return file.getName().toLowerCase(Locale.ROOT).endsWith(".xlsx");
+    }
+
+    private static ExecutorService newExecutor(int maxConcurrency) {
+        final AtomicInteger threadNo = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrency, r -> {
+            final Thread thread = new Thread(r, "bulk-ingest-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    @FunctionalInterface
+    private interface ReadTask<R> {
+
+        R read(SpreadsheetReader reader, long bytes) throws SpreadsheetReadException;
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.github.millij.poi.ss.ingest;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The beans read from a file by the {@link BulkIngest}. The memory reserved for the read stays
+ * held in the {@link MemoryBudget} until the result is closed, as the beans are in memory until
+ * then : close it once the beans are consumed (or handed over), or the later reads wait forever.
+ *
+ * @param <T> the bean type
+ * @author Fang Gang
+ */
+public final class IngestResult<T> implements Closeable {
+
+    @Getter
+    private final File file;
+
+    private final List<T> beans;
+
+    private final MemoryBudget budget;
+    private final long bytes;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    IngestResult(File file, List<T> beans, MemoryBudget budget, long bytes) {
+        this.file = file;
+        this.beans = beans;
+        this.budget = budget;
+        this.bytes = bytes;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return the beans of the file.
+     * @throws IllegalStateException once closed.
+     */
+    public List<T> getBeans() {
+        if (closed.get()) {
+            throw new IllegalStateException("IngestResult :: result is closed - " + file);
+        }
+        return beans;
+    }
+
+    /**
+     * Releases the memory reserved for the read.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            budget.release(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package io.github.millij.poi.ss.ingest;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A byte budget shared by the concurrent reads. Reservations are admitted in arrival order (FIFO),
+ * so a stream of small reads cannot starve a large one. A read larger than the whole budget is
+ * still admitted, but only once nothing else holds the budget.
+ *
+ * @author Fang Gang
+ */
+public class MemoryBudget {
+
+    @Getter
+    private final long maxBytes;
+
+    private long usedBytes;
+
+    private int reservations;
+    private int peakReservations;
+
+    /**
+     * Waiting reservations, in arrival order.
+     */
+    private final Deque<Ticket> waiters = new ArrayDeque<>();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public MemoryBudget(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("MemoryBudget :: invalid budget - " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * @return the max no. of reservations held at once, so far.
+     */
+    public synchronized int getPeakReservations() {
+        return peakReservations;
+    }
+
+    /**
+     * Takes a place in the queue, to be admitted later with {@link #acquire(Ticket, long)} (or
+     * given up with {@link #cancel(Ticket)}), after the places taken before.
+     *
+     * @return the place in the queue
+     */
+    public synchronized Ticket enqueue() {
+        final Ticket ticket = new Ticket();
+        waiters.addLast(ticket);
+        return ticket;
+    }
+
+    /**
+     * Waits for the earlier reservations to be admitted and the bytes to fit in the budget, and
+     * reserves them.
+     *
+     * @param bytes the bytes to reserve
+     * @throws InterruptedException when interrupted while waiting.
+     */
+    public void acquire(long bytes) throws InterruptedException {
+        this.acquire(this.enqueue(), bytes);
+    }
+
+    /**
+     * Waits for the turn of the ticket and for the bytes to fit in the budget, and reserves them.
+     *
+     * @param ticket the place in the queue, see {@link #enqueue()}
+     * @param bytes the bytes to reserve
+     * @throws InterruptedException when interrupted while waiting, the ticket is given up.
+     */
+    public synchronized void acquire(Ticket ticket, long bytes) throws InterruptedException {
+        if (!waiters.contains(ticket)) {
+            throw new IllegalStateException("MemoryBudget :: ticket already used or cancelled");
+        }
+
+        try {
+            while (waiters.peekFirst() != ticket || (usedBytes > 0 && usedBytes + bytes > maxBytes)) {
+                this.wait();
+            }
+        } finally {
+            waiters.remove(ticket);
+            this.notifyAll();
+        }
+
+        usedBytes += bytes;
+        peakReservations = Math.max(peakReservations, ++reservations);
+    }
+
+    public synchronized void release(long bytes) {
+        usedBytes -= bytes;
+        reservations--;
+        this.notifyAll();
+    }
+
+    /**
+     * Gives up the place in the queue, when the ticket is not to be acquired.
+     *
+     * @param ticket the place in the queue
+     */
+    public synchronized void cancel(Ticket ticket) {
+        if (waiters.remove(ticket)) {
+            this.notifyAll();
+        }
+    }
+
+
+    /**
+     * A place in the admission queue.
+     */
+    public static final class Ticket {
+
+        private Ticket() {
+            super();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.github.millij.poi.ss.jfr;
+
+import io.github.millij.poi.ss.handler.RowListener;
+
+/**
+ * {@link RowEventRecorder} of the {@link RowBindBatchEvent}s and {@link SlowRowListenerEvent}s.
+ * The enabled state of the events is checked once, at creation.
+ *
+ * @author Fang Gang
+ */
+final class FlightRowEventRecorder implements RowEventRecorder {
+
+    private final String beanType;
+
+    private final boolean bindEnabled;
+    private final boolean listenerEnabled;
+
+    private RowBindBatchEvent bindBatch;
+    private int bindRows;
+    private long bindNanos;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    FlightRowEventRecorder(Class<?> beanType) {
+        this.beanType = beanType.getName();
+        this.bindEnabled = new RowBindBatchEvent().isEnabled();
+        this.listenerEnabled = new SlowRowListenerEvent().isEnabled();
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return true when any of the row events is enabled.
+     */
+    boolean isRecording() {
+        return bindEnabled || listenerEnabled;
+    }
+
+
+    // RowEventRecorder Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public long bindStart() {
+        if (!bindEnabled) {
+            return 0;
+        }
+
+        if (bindBatch == null) {
+            bindBatch = new RowBindBatchEvent();
+            bindBatch.begin();
+        }
+        return System.nanoTime();
+    }
+
+    @Override
+    public void bindEnd(long start) {
+        if (!bindEnabled) {
+            return;
+        }
+
+        bindNanos += System.nanoTime() - start;
+        if (++bindRows == BIND_BATCH_SIZE) {
+            this.commitBindBatch();
+        }
+    }
+
+    @Override
+    public <T> void row(RowListener<T> listener, int rowNum, T rowObj) {
+        if (!listenerEnabled) {
+            listener.row(rowNum, rowObj);
+            return;
+        }
+
+        final SlowRowListenerEvent event = new SlowRowListenerEvent();
+        event.begin();
+        listener.row(rowNum, rowObj);
+        event.end();
+        if (event.shouldCommit()) {
+            event.beanType = beanType;
+            event.rowNum = rowNum;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void finish() {
+        if (bindRows > 0) {
+            this.commitBindBatch();
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void commitBindBatch() {
+        bindBatch.end();
+        if (bindBatch.shouldCommit()) {
+            bindBatch.beanType = beanType;
+            bindBatch.rowCount = bindRows;
+            bindBatch.bindTime = bindNanos;
+            bindBatch.commit();
+        }
+
+        bindBatch = null;
+        bindRows = 0;
+        bindNanos = 0;
+    }
+
+}
@@ -0,0 +1,210 @@
+package io.github.millij.poi.ss.jfr;
+
+import io.github.millij.poi.ss.handler.RowListener;
+
+/**
+ * Entry point of the Flight Recorder events of the readers and writers. The events are only
+ * created when the <code>jdk.jfr</code> module is present (checked once) : on runtimes without it,
+ * no-op events are handed out instead, and the reads and writes run as usual.
+ *
+ * <pre>
+ * final JfrEvents.Sheet sheetEvent = JfrEvents.sheetRead(sheetName, sheetIndex, target);
+ * sheetEvent.begin();
+ * ...
+ * sheetEvent.commit(rowCount);
+ * </pre>
+ *
+ * @author Fang Gang
+ */
+public final class JfrEvents {
+
+    private static final boolean AVAILABLE = isJfrPresent();
+
+    private static final NoOp NO_OP = new NoOp();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private JfrEvents() {
+        super();
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return true when the <code>jdk.jfr</code> module is present.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @param format the workbook format, <code>xlsx</code> or <code>xls</code>.
+     * @return the {@link WorkbookOpenEvent}, or a no-op one.
+     */
+    public static Workbook workbookOpen(String format) {
+        if (!AVAILABLE) {
+            return NO_OP;
+        }
+        return new WorkbookOpenEvent(format);
+    }
+
+    /**
+     * @param sheetName the sheet name
+     * @param sheetIndex the sheet index
+     * @param target the bean type, or the raw row type, the rows are read to
+     * @return the {@link SheetReadEvent}, or a no-op one.
+     */
+    public static Sheet sheetRead(String sheetName, int sheetIndex, String target) {
+        if (!AVAILABLE) {
+            return NO_OP;
+        }
+        return new SheetReadEvent(sheetName, sheetIndex, target);
+    }
+
+    /**
+     * @param sheetName the sheet name
+     * @return the {@link SheetWriteEvent}, or a no-op one.
+     */
+    public static Sheet sheetWrite(String sheetName) {
+        if (!AVAILABLE) {
+            return NO_OP;
+        }
+        return new SheetWriteEvent(sheetName);
+    }
+
+    /**
+     * @param beanType the bean type of the sheet read
+     * @return the {@link RowEventRecorder} of a sheet read, a no-op one when the row events are
+     *         disabled (checked once, here).
+     */
+    public static RowEventRecorder rowEvents(Class<?> beanType) {
+        if (!AVAILABLE) {
+            return NO_OP;
+        }
+
+        final FlightRowEventRecorder recorder = new FlightRowEventRecorder(beanType);
+        return recorder.isRecording() ? recorder : NO_OP;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static boolean isJfrPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+
+    // Events
+    // ------------------------------------------------------------------------
+
+    /**
+     * Workbook open event, see {@link WorkbookOpenEvent}.
+     */
+    public interface Workbook {
+
+        /**
+         * Sheet count of a workbook not opened far enough to know it.
+         */
+        int UNKNOWN_SHEETS = -1;
+
+        void begin();
+
+        boolean isEnabled();
+
+        /**
+         * Commits the event, when it is enabled and passes the recording threshold.
+         *
+         * @param sheetCount no. of sheets of the workbook, or {@link #UNKNOWN_SHEETS}.
+         */
+        void commit(int sheetCount);
+    }
+
+    /**
+     * Sheet read or write event, see {@link SheetReadEvent} and {@link SheetWriteEvent}.
+     */
+    public interface Sheet {
+
+        /**
+         * Size of the sheet data when not measured.
+         */
+        long UNKNOWN_BYTES = -1;
+
+        void begin();
+
+        boolean isEnabled();
+
+        /**
+         * Commits the event, without the size of the sheet data.
+         *
+         * @param rowCount no. of rows
+         */
+        default void commit(long rowCount) {
+            this.commit(rowCount, UNKNOWN_BYTES);
+        }
+
+        /**
+         * Commits the event, when it is enabled and passes the recording threshold.
+         *
+         * @param rowCount no. of rows
+         * @param bytes size of the sheet data, or {@link #UNKNOWN_BYTES}.
+         */
+        void commit(long rowCount, long bytes);
+    }
+
+    /**
+     * Events of a runtime without Flight Recorder, or disabled ones.
+     */
+    private static final class NoOp implements Workbook, Sheet, RowEventRecorder {
+
+        @Override
+        public void begin() {
+            // No-op
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void commit(int sheetCount) {
+            // No-op
+        }
+
+        @Override
+        public void commit(long rowCount, long bytes) {
+            // No-op
+        }
+
+        @Override
+        public long bindStart() {
+            return 0;
+        }
+
+        @Override
+        public void bindEnd(long start) {
+            // No-op
+        }
+
+        @Override
+        public <T> void row(RowListener<T> listener, int rowNum, T rowObj) {
+            listener.row(rowNum, rowObj);
+        }
+
+        @Override
+        public void finish() {
+            // No-op
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package io.github.millij.poi.ss.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a batch of rows bound to beans (see
+ * {@link io.github.millij.poi.util.Spreadsheet#rowAsBean}), one event per
+ * {@link RowEventRecorder#BIND_BATCH_SIZE} rows rather than per row. Disabled by default.
+ *
+ * @author Fang Gang
+ */
+@Name("io.github.millij.poi.RowBindBatch")
+@Label("Row Bind Batch")
+@Category({"Spreadsheet", "Read"})
+@Description("Rows bound to beans, with the time spent in the binding")
+@Enabled(false)
+@StackTrace(false)
+public final class RowBindBatchEvent extends Event {
+
+    @Label("Bean Type")
+    String beanType;
+
+    @Label("Rows")
+    int rowCount;
+
+    @Label("Bind Time")
+    @Description("Time spent binding the rows, out of the event duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long bindTime;
+
+}
@@ -0,0 +1,57 @@
+package io.github.millij.poi.ss.jfr;
+
+import io.github.millij.poi.ss.handler.RowListener;
+
+/**
+ * Records the {@link RowBindBatchEvent}s and {@link SlowRowListenerEvent}s of a sheet read, see
+ * {@link JfrEvents#rowEvents(Class)}. When the events are disabled (not recording, the default)
+ * or Flight Recorder is absent, all the calls return straight away.
+ *
+ * <pre>
+ * final long bindStart = recorder.bindStart();
+ * T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping);
+ * recorder.bindEnd(bindStart);
+ *
+ * recorder.row(rowListener, rowNum, rowBean);
+ * ...
+ * recorder.finish();
+ * </pre>
+ *
+ * Not thread-safe, use a recorder per sheet read.
+ *
+ * @author Fang Gang
+ */
+public interface RowEventRecorder {
+
+    /**
+     * No. of rows per {@link RowBindBatchEvent}.
+     */
+    int BIND_BATCH_SIZE = 1024;
+
+    /**
+     * @return the bind start time, to be passed to {@link #bindEnd(long)}.
+     */
+    long bindStart();
+
+    /**
+     * @param start the bind start time, from {@link #bindStart()}.
+     */
+    void bindEnd(long start);
+
+    /**
+     * Calls the listener, recording a {@link SlowRowListenerEvent} when the call is above the
+     * threshold.
+     *
+     * @param <T> the bean type
+     * @param listener the listener
+     * @param rowNum the row number
+     * @param rowObj the row bean
+     */
+    <T> void row(RowListener<T> listener, int rowNum, T rowObj);
+
+    /**
+     * Commits the last partial {@link RowBindBatchEvent}, if any.
+     */
+    void finish();
+
+}
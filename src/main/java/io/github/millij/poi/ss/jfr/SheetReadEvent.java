@@ -0,0 +1,74 @@
+package io.github.millij.poi.ss.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a sheet read, from the sheet start to the sheet end. Disabled by
+ * default.
+ *
+ * @author Fang Gang
+ */
+@Name("io.github.millij.poi.SheetRead")
+@Label("Sheet Read")
+@Category({"Spreadsheet", "Read"})
+@Description("Sheet parsed, with the no. of rows and the size of the sheet data")
+@Enabled(false)
+@StackTrace(false)
+public final class SheetReadEvent extends Event implements JfrEvents.Sheet {
+
+    @Label("Sheet Name")
+    private final String sheetName;
+
+    @Label("Sheet Index")
+    private final int sheetIndex;
+
+    @Label("Target")
+    @Description("Bean type, or the raw row type, the rows are read to")
+    private final String target;
+
+    @Label("Rows")
+    private long rowCount;
+
+    @Label("Bytes")
+    @Description("Uncompressed size of the sheet data, -1 when unknown")
+    @DataAmount
+    private long bytes = UNKNOWN_BYTES;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SheetReadEvent(String sheetName, int sheetIndex, String target) {
+        this.sheetName = sheetName;
+        this.sheetIndex = sheetIndex;
+        this.target = target;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Commits the event, when it is enabled and passes the recording threshold.
+     *
+     * @param rowCount no. of rows read
+     * @param bytes size of the sheet data, {@link #UNKNOWN_BYTES} when unknown.
+     */
+    @Override
+    public void commit(long rowCount, long bytes) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.rowCount = rowCount;
+            this.bytes = bytes;
+            this.commit();
+        }
+    }
+
+}
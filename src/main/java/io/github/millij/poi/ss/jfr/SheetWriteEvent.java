@@ -0,0 +1,65 @@
+package io.github.millij.poi.ss.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a sheet write, from the sheet start to the sheet end. Disabled by
+ * default.
+ *
+ * @author Fang Gang
+ */
+@Name("io.github.millij.poi.SheetWrite")
+@Label("Sheet Write")
+@Category({"Spreadsheet", "Write"})
+@Description("Sheet written, with the no. of rows and the size of the sheet data")
+@Enabled(false)
+@StackTrace(false)
+public final class SheetWriteEvent extends Event implements JfrEvents.Sheet {
+
+    @Label("Sheet Name")
+    private final String sheetName;
+
+    @Label("Rows")
+    private long rowCount;
+
+    @Label("Bytes")
+    @Description("Uncompressed size of the sheet data, -1 when unknown")
+    @DataAmount
+    private long bytes = UNKNOWN_BYTES;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SheetWriteEvent(String sheetName) {
+        this.sheetName = sheetName;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Commits the event, when it is enabled and passes the recording threshold.
+     *
+     * @param rowCount no. of rows written
+     * @param bytes size of the sheet data, {@link #UNKNOWN_BYTES} when unknown.
+     */
+    @Override
+    public void commit(long rowCount, long bytes) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.rowCount = rowCount;
+            this.bytes = bytes;
+            this.commit();
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.github.millij.poi.ss.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a <code>RowListener.row</code> callback above the threshold (20 ms by
+ * default, see the <code>threshold</code> setting of the event). Disabled by default.
+ *
+ * @author Fang Gang
+ */
+@Name("io.github.millij.poi.SlowRowListener")
+@Label("Slow Row Listener")
+@Category({"Spreadsheet", "Read"})
+@Description("RowListener callback taking longer than the threshold")
+@Enabled(false)
+@Threshold("20 ms")
+public final class SlowRowListenerEvent extends Event {
+
+    @Label("Bean Type")
+    String beanType;
+
+    @Label("Row Number")
+    int rowNum;
+
+}
@@ -0,0 +1,60 @@
+package io.github.millij.poi.ss.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a workbook open : the package (or BIFF stream) open, up to the sheets
+ * data. Disabled by default.
+ *
+ * @author Fang Gang
+ */
+@Name("io.github.millij.poi.WorkbookOpen")
+@Label("Workbook Open")
+@Category({"Spreadsheet", "Read"})
+@Description("Workbook package opened, before the sheets are parsed")
+@Enabled(false)
+@StackTrace(false)
+public final class WorkbookOpenEvent extends Event implements JfrEvents.Workbook {
+
+    @Label("Format")
+    private final String format;
+
+    @Label("Sheets")
+    private int sheetCount = UNKNOWN_SHEETS;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param format the workbook format, <code>xlsx</code> or <code>xls</code>.
+     */
+    public WorkbookOpenEvent(String format) {
+        this.format = format;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Commits the event, when it is enabled and passes the recording threshold.
+     *
+     * @param sheetCount no. of sheets of the workbook, {@link #UNKNOWN_SHEETS} when unknown.
+     */
+    @Override
+    public void commit(int sheetCount) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.sheetCount = sheetCount;
+            this.commit();
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package io.github.millij.poi.ss.model;
 
 import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.binder.SheetBinder;
+import io.github.millij.poi.ss.binder.SheetBinders;
 import io.github.millij.poi.ss.model.annotations.SheetColumn;
+import io.github.millij.poi.util.Beans;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -10,6 +13,7 @@ import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -25,12 +29,42 @@ public class ColumnMapping<T> {
     final Class<T> beanClz;
     final Map<String, Property> columnNameToProperty;
 
+    /**
+     * Generated binder of the bean, null when the bean is mapped with reflection.
+     */
+    @Getter
+    final SheetBinder<T> binder;
+
+    /**
+     * Row level rules, compiled once the columns are mapped.
+     */
+    @Getter
+    final RowValidator validator;
+
+    /**
+     * Date system of the workbook, for the numeric serial dates of the rows.
+     */
+    @Getter
+    final boolean date1904;
+
     public ColumnMapping(Class<T> beanClz, SheetRow headerRow) {
+        this(beanClz, headerRow, false);
+    }
+
+    /**
+     * @param beanClz the bean type
+     * @param headerRow the header row
+     * @param date1904 true when the workbook uses the 1904 date system
+     */
+    public ColumnMapping(Class<T> beanClz, SheetRow headerRow, boolean date1904) {
         this.beanClz = beanClz;
+        this.date1904 = date1904;
         this.columnNameToProperty = new HashMap<>();
+        this.binder = SheetBinders.find(beanClz);
 
         init(beanClz);
         checkAndMapping(headerRow);
+        this.validator = new RowValidator(columnNameToProperty.values());
     }
 
     /**
@@ -63,11 +97,23 @@ public class ColumnMapping<T> {
             throw new IllegalArgumentException("Error :: Invalid Excel Bean Type - null");
         }
 
+        // Generated binder
+        if (binder != null) {
+            for (SheetBinder.Column column : binder.getColumns()) {
+                this.set(new Property(column.getProperty(), column.getType(), column.getColumnName(),
+                        column.isNullable(), column.isExclusive()));
+            }
+            return;
+        }
+
         // Fields
+        final Map<String, Method> writeMethods = Beans.getWriteMethods(beanClz);
         Field[] fields = beanClz.getDeclaredFields();
         for (Field f : fields) {
             final SheetColumn fa = f.getAnnotation(SheetColumn.class);
-            this.set(new Property(f.getName(), fa));
+            final Property property = new Property(f.getName(), f.getType(), fa);
+            property.writeMethod = writeMethods.get(f.getName());
+            this.set(property);
         }
 
         // Methods
@@ -187,6 +233,16 @@ public class ColumnMapping<T> {
          */
         String fieldName;
 
+        /**
+         * Property type, can be null when unknown.
+         */
+        Class<?> fieldType;
+
+        /**
+         * Property setter, can be null when not accessible.
+         */
+        Method writeMethod;
+
         /**
          * Name of the column to map the annotated property with.
          */
@@ -208,6 +264,20 @@ public class ColumnMapping<T> {
         boolean exclusive;
 
         protected Property(String fieldName, SheetColumn fa) {
+            this(fieldName, null, fa);
+        }
+
+        protected Property(String fieldName, Class<?> fieldType, String columnName, boolean nullable,
+                boolean exclusive) {
+            this.fieldName = fieldName;
+            this.fieldType = fieldType;
+            this.columnName = columnName;
+            this.nullable = nullable;
+            this.exclusive = exclusive;
+        }
+
+        protected Property(String fieldName, Class<?> fieldType, SheetColumn fa) {
+            this.fieldType = fieldType;
             if (fa == null || StringUtils.isEmpty(fa.value())) {
                 this.fieldName = fieldName;
                 this.columnName = fieldName;
@@ -0,0 +1,131 @@
+package io.github.millij.poi.ss.model;
+
+import io.github.millij.poi.ColumnNotFoundException;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Row filters on sheet column names, checked on the raw {@link SheetRow} cell values as soon as
+ * the row is parsed : rows rejected by the filter are skipped before any bean gets built, mapped
+ * or validated.
+ * <p>
+ * The cell values are the raw ones, i.e. formatted strings for .xlsx files, and
+ * <code>String</code>, <code>Double</code> or <code>Boolean</code> for .xls files. Empty cells are
+ * passed as <code>null</code>.
+ *
+ * <pre>
+ * RowFilter.whereEquals("Status", "ACTIVE").and("Age", age -&gt; age != null)
+ * </pre>
+ *
+ * Filters are immutable, and can be shared across reads.
+ *
+ * @author Fang Gang
+ */
+@ToString
+public final class RowFilter {
+
+    private final List<String> columnNames;
+    private final List<Predicate<Object>> predicates;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private RowFilter(List<String> columnNames, List<Predicate<Object>> predicates) {
+        this.columnNames = Collections.unmodifiableList(columnNames);
+        this.predicates = Collections.unmodifiableList(predicates);
+    }
+
+    /**
+     * @param columnName the sheet column name
+     * @param predicate the predicate on the raw cell value
+     * @return the filter, accepting the rows matching the predicate.
+     */
+    public static RowFilter where(String columnName, Predicate<Object> predicate) {
+        return new RowFilter(new ArrayList<>(), new ArrayList<>()).and(columnName, predicate);
+    }
+
+    /**
+     * @param columnName the sheet column name
+     * @param value the expected cell value, compared with the cell value as string.
+     * @return the filter, accepting the rows having the value in the column.
+     */
+    public static RowFilter whereEquals(String columnName, String value) {
+        return where(columnName, equalTo(value));
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param columnName the sheet column name
+     * @param predicate the predicate on the raw cell value
+     * @return a new filter, accepting the rows matching this filter and the predicate.
+     */
+    public RowFilter and(String columnName, Predicate<Object> predicate) {
+        // Sanity checks
+        if (columnName == null || predicate == null) {
+            throw new IllegalArgumentException("RowFilter :: column name and predicate are mandatory");
+        }
+
+        final List<String> names = new ArrayList<>(columnNames);
+        final List<Predicate<Object>> tests = new ArrayList<>(predicates);
+        names.add(columnName);
+        tests.add(predicate);
+        return new RowFilter(names, tests);
+    }
+
+    /**
+     * @param columnName the sheet column name
+     * @param value the expected cell value, compared with the cell value as string.
+     * @return a new filter, accepting the rows matching this filter and having the value in the
+     *         column.
+     */
+    public RowFilter andEquals(String columnName, String value) {
+        return this.and(columnName, equalTo(value));
+    }
+
+    /**
+     * Resolves the filter column names to the column references of the sheet.
+     *
+     * @param headerRow the header {@link SheetRow} of the sheet
+     * @return the row predicate, for the data rows of the sheet.
+     * @throws ColumnNotFoundException when a filter column is not in the header row.
+     */
+    public Predicate<SheetRow> bind(SheetRow headerRow) {
+        final Map<String, String> nameToReference = headerRow.getColumnNameToReferenceMap();
+
+        final int size = columnNames.size();
+        final String[] colRefs = new String[size];
+        for (int i = 0; i < size; i++) {
+            colRefs[i] = nameToReference.get(columnNames.get(i));
+            if (colRefs[i] == null) {
+                throw new ColumnNotFoundException(headerRow.getRowNum(), columnNames.get(i));
+            }
+        }
+
+        return sheetRow -> {
+            for (int i = 0; i < size; i++) {
+                if (!predicates.get(i).test(sheetRow.getCellValue(colRefs[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static Predicate<Object> equalTo(String value) {
+        return cellValue -> cellValue == null ? value == null : cellValue.toString().equals(value);
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.github.millij.poi.ss.model;
+
+import lombok.Getter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only row, keyed by the header names. The names are held once by the shared
+ * {@link SheetHeader}, and the row itself is only a flat array of the cell values (null for the
+ * empty cells).
+ *
+ * @author Fang Gang
+ */
+public final class RowMap extends AbstractMap<String, Object> {
+
+    @Getter
+    private final SheetHeader header;
+
+    /**
+     * Row number (indexed from 0).
+     */
+    @Getter
+    private final int rowNum;
+
+    private final Object[] values;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    RowMap(SheetHeader header, int rowNum, Object[] values) {
+        this.header = header;
+        this.rowNum = rowNum;
+        this.values = values;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get a cell value by column position.
+     *
+     * @param idx position of the column in the header (indexed from 0)
+     * @return the cell value
+     */
+    public Object get(int idx) {
+        return values[idx];
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int idx = header.indexOf(key);
+        return idx < 0 ? null : values[idx];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return header.indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+
+                    private int idx;
+
+                    @Override
+                    public boolean hasNext() {
+                        return idx < values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (idx >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        final int i = idx++;
+                        return new AbstractMap.SimpleImmutableEntry<>(header.getName(i), values[i]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+}
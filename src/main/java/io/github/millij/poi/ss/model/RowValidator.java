@@ -0,0 +1,139 @@
+package io.github.millij.poi.ss.model;
+
+import io.github.millij.poi.CellEmptyException;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The row level <code>@SheetColumn</code> constraints of a {@link ColumnMapping}, compiled once
+ * per mapping. Rows are checked on the raw {@link SheetRow}, before any bean gets built.
+ * <p>
+ * The header level constraints (missing columns, exclusive columns) are checked by the
+ * {@link ColumnMapping} itself.
+ * <p>
+ * The readers apply the rules per the {@link ValidationPolicy} of the row listener : failing,
+ * skipping or collecting the invalid rows.
+ *
+ * @author Fang Gang
+ */
+@ToString
+public class RowValidator {
+
+    private final String[] colRefs;
+    private final String[] colNames;
+
+    /**
+     * Bitset of the non-nullable columns, by position in {@link #colRefs}.
+     */
+    private final long[] required;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    RowValidator(Collection<ColumnMapping.Property> properties) {
+        final int size = properties.size();
+        this.colRefs = new String[size];
+        this.colNames = new String[size];
+        this.required = new long[(size + 63) >>> 6];
+
+        int i = 0;
+        for (ColumnMapping.Property property : properties) {
+            colRefs[i] = property.getColumnReference();
+            colNames[i] = property.getColumnName();
+            if (!property.isNullable()) {
+                required[i >>> 6] |= 1L << i;
+            }
+            i++;
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public boolean hasRules() {
+        for (long word : required) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param sheetRow the data {@link SheetRow}
+     * @return true if the row passes all the rules.
+     */
+    public boolean isValid(SheetRow sheetRow) {
+        for (int w = 0; w < required.length; w++) {
+            long bits = required[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (isEmpty(sheetRow.getCellValue(colRefs[i]))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the row against all the rules.
+     *
+     * @param sheetRow the data {@link SheetRow}
+     * @return the violations, empty if the row is valid.
+     */
+    public List<CellEmptyException> check(SheetRow sheetRow) {
+        List<CellEmptyException> violations = null;
+        for (int w = 0; w < required.length; w++) {
+            long bits = required[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (isEmpty(sheetRow.getCellValue(colRefs[i]))) {
+                    if (violations == null) {
+                        violations = new ArrayList<>();
+                    }
+                    final String cellRef = colRefs[i] + sheetRow.getPhysicalRowNum();
+                    violations.add(new CellEmptyException(cellRef, colNames[i]));
+                }
+            }
+        }
+        return violations == null ? Collections.emptyList() : violations;
+    }
+
+    /**
+     * Checks the row against all the rules.
+     *
+     * @param sheetRow the data {@link SheetRow}
+     * @throws CellEmptyException for the first violation, with the other violations of the row as
+     *         suppressed exceptions.
+     */
+    public void validate(SheetRow sheetRow) {
+        if (this.isValid(sheetRow)) {
+            return;
+        }
+
+        final List<CellEmptyException> violations = this.check(sheetRow);
+        final CellEmptyException first = violations.get(0);
+        for (int i = 1; i < violations.size(); i++) {
+            first.addSuppressed(violations.get(i));
+        }
+        throw first;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static boolean isEmpty(Object cellValue) {
+        return cellValue == null || (cellValue instanceof CharSequence && ((CharSequence) cellValue).length() == 0);
+    }
+
+}
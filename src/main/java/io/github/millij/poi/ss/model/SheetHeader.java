@@ -0,0 +1,107 @@
+package io.github.millij.poi.ss.model;
+
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header of a sheet, i.e., the column names in column order, shared by all the {@link RowMap}s
+ * of the sheet.
+ *
+ * @author Fang Gang
+ */
+@ToString(of = "names")
+public final class SheetHeader {
+
+    private final String[] names;
+    private final String[] colRefs;
+    private final Map<String, Integer> nameToIndex;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private SheetHeader(String[] names, String[] colRefs) {
+        this.names = names;
+        this.colRefs = colRefs;
+        this.nameToIndex = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            nameToIndex.put(names[i], i);
+        }
+    }
+
+    /**
+     * Builds the header from the header row.
+     *
+     * @param headerRow the header {@link SheetRow}
+     * @return the {@link SheetHeader}
+     */
+    public static SheetHeader of(SheetRow headerRow) {
+        // Also checks for the empty or duplicate headers
+        final Map<String, String> nameToRef = headerRow.getColumnNameToReferenceMap();
+
+        final List<Map.Entry<String, String>> entries = new ArrayList<>(nameToRef.entrySet());
+        entries.sort(Comparator.comparingInt(
+                (Map.Entry<String, String> e) -> headerRow.getCell(e.getValue()).getAddress().getColumn()));
+
+        final String[] names = new String[entries.size()];
+        final String[] colRefs = new String[entries.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = entries.get(i).getKey();
+            colRefs[i] = entries.get(i).getValue();
+        }
+        return new SheetHeader(names, colRefs);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int idx) {
+        return names[idx];
+    }
+
+    public String getColumnReference(int idx) {
+        return colRefs[idx];
+    }
+
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Position of the column by name.
+     *
+     * @param name column name
+     * @return the position (indexed from 0), or <code>-1</code> if there is no such column.
+     */
+    public int indexOf(Object name) {
+        final Integer idx = nameToIndex.get(name);
+        return idx == null ? -1 : idx;
+    }
+
+    /**
+     * Maps the row to the header columns.
+     *
+     * @param sheetRow the data {@link SheetRow}
+     * @return the {@link RowMap}
+     */
+    public RowMap toRowMap(SheetRow sheetRow) {
+        final Object[] values = new Object[colRefs.length];
+        for (int i = 0; i < colRefs.length; i++) {
+            values[i] = sheetRow.getCellValue(colRefs[i]);
+        }
+        return new RowMap(this, sheetRow.getRowNum(), values);
+    }
+
+}
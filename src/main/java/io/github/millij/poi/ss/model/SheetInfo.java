@@ -0,0 +1,85 @@
+package io.github.millij.poi.ss.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sheet level information of a probed workbook, see {@link WorkbookInfo}.
+ * <p>
+ * Rows and columns are indexed from 0, and the extents are inclusive. When the file does not
+ * declare the extents, they are <code>-1</code>.
+ *
+ * @author Fang Gang
+ */
+@Getter
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SheetInfo {
+
+    /**
+     * Index of the sheet (indexed from 0).
+     */
+    final int index;
+
+    /**
+     * Name of the sheet.
+     */
+    final String name;
+
+    int firstRow = -1;
+    int lastRow = -1;
+    int firstColumn = -1;
+    int lastColumn = -1;
+
+    /**
+     * Row number of the header row, i.e., the first non-empty row, or <code>-1</code> if the sheet
+     * has no rows.
+     */
+    int headerRowNum = -1;
+
+    /**
+     * Header names, in column order.
+     */
+    final List<String> headers;
+
+    public SheetInfo(int index, String name) {
+        this.index = index;
+        this.name = name;
+        this.headers = new ArrayList<>();
+    }
+
+    /**
+     * No. of rows within the extents, header row included.
+     *
+     * @return the row count, <code>0</code> when unknown.
+     */
+    public int getRowCount() {
+        return lastRow < 0 ? 0 : lastRow - firstRow + 1;
+    }
+
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(headers);
+    }
+
+    public void setExtents(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.firstColumn = firstColumn;
+        this.lastColumn = lastColumn;
+    }
+
+    public void setHeaderRowNum(int headerRowNum) {
+        this.headerRowNum = headerRowNum;
+    }
+
+    public void addHeader(String header) {
+        headers.add(header);
+    }
+
+}
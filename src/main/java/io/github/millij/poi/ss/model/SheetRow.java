@@ -9,6 +9,8 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.util.CellAddress;
 
 import java.util.Collections;
@@ -47,6 +49,17 @@ public class SheetRow {
         this.cellColumnRefToCell = new HashMap<>();
     }
 
+    /**
+     * Clears the cells, to refill the same row object with the row of the passed number. For the
+     * readers reusing a row buffer, the cells map keeps its capacity.
+     *
+     * @param rowNum the new row number
+     */
+    public void reset(int rowNum) {
+        this.rowNum = rowNum;
+        this.cellColumnRefToCell.clear();
+    }
+
     /**
      * Put a cell object to sheet row object.
      *
@@ -75,6 +88,19 @@ public class SheetRow {
         cellColumnRefToCell.put(colRef, cell);
     }
 
+    /**
+     * Put a cell object to sheet row object, with the column index and reference already resolved.
+     * <p>
+     * Skips the cell reference parsing, for callers that already know the column (ex. snapshots).
+     *
+     * @param colIdx    column index (indexed from 0)
+     * @param colRef    cell column reference, ex. A, F.
+     * @param cellValue cell value
+     */
+    public void addCell(int colIdx, @NonNull String colRef, Object cellValue) {
+        cellColumnRefToCell.put(colRef, new Cell(new CellAddress(rowNum, colIdx), cellValue));
+    }
+
     /**
      * Get a cell object by cell column reference.
      *
@@ -86,6 +112,17 @@ public class SheetRow {
         return cell == null ? new Cell() : cell;
     }
 
+    /**
+     * Get a cell value by cell column reference.
+     *
+     * @param cellColRef cell column reference.
+     * @return return the cell value, or null if there is no such cell.
+     */
+    public Object getCellValue(@NonNull String cellColRef) {
+        Cell cell = cellColumnRefToCell.get(cellColRef);
+        return cell == null ? null : cell.getValue();
+    }
+
     public Set<String> getCellColRefs() {
         return cellColumnRefToCell.keySet();
     }
@@ -128,6 +165,18 @@ public class SheetRow {
     }
 
     public static SheetRow buildFromHSSFRow(HSSFRow hssfRow) {
+        return buildFromHSSFRow(hssfRow, null);
+    }
+
+    /**
+     * Builds the sheet row of a {@link HSSFRow}. Formula cells take the result cached in the file,
+     * unless a {@link FormulaEvaluator} is passed, in which case they are evaluated.
+     *
+     * @param hssfRow   the row
+     * @param evaluator formula evaluator, or null to read the cached formula results.
+     * @return return the sheet row, or null if the row is null.
+     */
+    public static SheetRow buildFromHSSFRow(HSSFRow hssfRow, FormulaEvaluator evaluator) {
         // Sanity checks
         if (hssfRow == null) {
             return null;
@@ -136,8 +185,13 @@ public class SheetRow {
         SheetRow sheetRow = new SheetRow(hssfRow.getRowNum());
 
         for (org.apache.poi.ss.usermodel.Cell cell : hssfRow) {
+            CellType cellType = cell.getCellType();
+            if (cellType == CellType.FORMULA) {
+                cellType = evaluator == null ? cell.getCachedFormulaResultType() : evaluator.evaluateFormulaCell(cell);
+            }
+
             // Process cell value
-            switch (cell.getCellType()) {
+            switch (cellType) {
                 case STRING:
                     sheetRow.addCell(cell.getAddress(), cell.getStringCellValue());
                     break;
@@ -147,14 +201,11 @@ public class SheetRow {
                 case BOOLEAN:
                     sheetRow.addCell(cell.getAddress(), cell.getBooleanCellValue());
                     break;
-                case FORMULA:
-                    var err1 = String.format("Formula cell(%s) type not support.", cell.getAddress());
-                    throw new UnsupportedException(err1);
                 case BLANK:
                     log.warn("Cell(%s) data is BLANK.", cell.getAddress());
                     break;
                 case ERROR:
-                    var err2 = String.format("Cell(%s) data not support.", cell.getAddress());
+                    String err2 = String.format("Cell(%s) data not support.", cell.getAddress());
                     throw new UnsupportedException(err2);
                 default:
                     break;
@@ -0,0 +1,102 @@
+package io.github.millij.poi.ss.model;
+
+import io.github.millij.poi.CellEmptyException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What the readers do with the rows breaking the {@link RowValidator} rules, decided on the raw
+ * {@link SheetRow} before any bean gets built :
+ * <ul>
+ * <li>{@link #FAIL} : the read stops at the first invalid row, with a {@link CellEmptyException}
+ * (default).</li>
+ * <li>{@link #SKIP} : invalid rows are skipped, without any listener call.</li>
+ * <li>{@link #collecting()} : invalid rows are skipped, and their violations are kept by the
+ * policy, see {@link #getViolations()}.</li>
+ * </ul>
+ *
+ * <pre>
+ * ValidationPolicy policy = ValidationPolicy.collecting();
+ * reader.read(Employee.class, file, RowListener.validating(policy, listener));
+ * policy.getViolations();
+ * </pre>
+ *
+ * @author Fang Gang
+ */
+@ToString(of = "action")
+public final class ValidationPolicy {
+
+    /**
+     * Handling of the invalid rows.
+     */
+    public enum Action {
+        FAIL, SKIP, COLLECT
+    }
+
+    public static final ValidationPolicy FAIL = new ValidationPolicy(Action.FAIL);
+
+    public static final ValidationPolicy SKIP = new ValidationPolicy(Action.SKIP);
+
+    @Getter
+    private final Action action;
+
+    private final List<CellEmptyException> violations;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private ValidationPolicy(Action action) {
+        this.action = action;
+        this.violations = action == Action.COLLECT ? new ArrayList<>() : Collections.emptyList();
+    }
+
+    /**
+     * @return a new policy, skipping the invalid rows and keeping their violations. Not to be shared
+     *         across concurrent reads.
+     */
+    public static ValidationPolicy collecting() {
+        return new ValidationPolicy(Action.COLLECT);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Checks the row per the policy.
+     *
+     * @param validator the {@link RowValidator} of the sheet
+     * @param sheetRow the data {@link SheetRow}
+     * @return true when the row is valid, false when it is to be skipped.
+     * @throws CellEmptyException for an invalid row with the {@link Action#FAIL} action.
+     */
+    public boolean accept(RowValidator validator, SheetRow sheetRow) {
+        if (validator.isValid(sheetRow)) {
+            return true;
+        }
+
+        switch (action) {
+            case FAIL:
+                validator.validate(sheetRow);
+                return true;
+            case COLLECT:
+                violations.addAll(validator.check(sheetRow));
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the violations of the skipped rows, in row order. Always empty unless collecting.
+     */
+    public List<CellEmptyException> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.millij.poi.ss.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of probing a workbook : the sheets, their extents and header rows, read without a full
+ * parse of the file.
+ *
+ * @author Fang Gang
+ */
+@Getter
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class WorkbookInfo {
+
+    /**
+     * Whether the workbook uses the 1904 date system.
+     */
+    @Setter
+    boolean date1904;
+
+    final List<SheetInfo> sheets = new ArrayList<>();
+
+    public List<SheetInfo> getSheets() {
+        return Collections.unmodifiableList(sheets);
+    }
+
+    public void addSheet(SheetInfo sheet) {
+        sheets.add(sheet);
+    }
+
+    /**
+     * Get the sheet info by name.
+     *
+     * @param name sheet name
+     * @return the {@link SheetInfo}, or null if there is no such sheet.
+     */
+    public SheetInfo getSheet(String name) {
+        for (SheetInfo sheet : sheets) {
+            if (sheet.getName().equals(name)) {
+                return sheet;
+            }
+        }
+        return null;
+    }
+
+}
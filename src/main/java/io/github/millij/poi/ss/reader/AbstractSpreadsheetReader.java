@@ -46,9 +46,7 @@ abstract class AbstractSpreadsheetReader implements SpreadsheetReader {
     @Override
     public <T> void read(Class<T> beanClz, File file, int sheetNo, RowListener<T> callback)
             throws SpreadsheetReadException {
-        // Sanity checks
-        try {
-            InputStream fis = new FileInputStream(file);
+        try (InputStream fis = new FileInputStream(file)) {
 
             // chain
             this.read(beanClz, fis, sheetNo, callback);
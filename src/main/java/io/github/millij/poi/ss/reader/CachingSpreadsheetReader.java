@@ -0,0 +1,554 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.util.CancellationToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caching decorator of a {@link SpreadsheetReader}. Reads are keyed by the SHA-256 of the file
+ * content, the bean type and the sheet number, so re-reading a byte-identical file does not parse
+ * it again. The content is hashed while being spooled to a temporary file, which the delegate then
+ * reads : the upload is never held in memory.
+ *
+ * <p>
+ * Two tiers are available :
+ * </p>
+ * <ul>
+ * <li>in-memory bound beans, bounded by entries and by estimated heap bytes (see
+ * {@link #setSizeEstimator(ToLongFunction)}), evicted least recently used first.</li>
+ * <li>optionally, on-disk {@link io.github.millij.poi.ss.snapshot.SheetSnapshot}s (see
+ * {@link #enableDiskCache(File, long)}), bounded by bytes. Snapshots are bean independent and are
+ * only used for single sheet reads of an {@link XlsxReader}. A snapshot is never evicted while
+ * being read, and one larger than the whole bound is dropped once read.</li>
+ * </ul>
+ *
+ * <p>
+ * Both tiers honour the ttl. Note that the beans returned on an in-memory hit are the same
+ * instances returned to earlier callers, they should be treated as read-only.
+ * </p>
+ *
+ * <p>
+ * Reads with a {@link RowListener#rowFilter()}, or a {@link RowListener#validationPolicy()} other
+ * than the default {@link ValidationPolicy#FAIL}, do not hold all the rows of the sheet : they are
+ * passed on to the delegate, without cache. The {@link RowListener#cancellation()} token is
+ * honoured by all the reads, cache hits included.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public class CachingSpreadsheetReader extends AbstractSpreadsheetReader {
+
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    /**
+     * Estimated heap bytes of an object header, of a reference (or primitive) slot, and of a
+     * cached row on top of its bean (row number and list slot).
+     */
+    private static final long OBJECT_HEADER = 16;
+    private static final long SLOT = 8;
+    private static final long ROW_OVERHEAD = 16;
+
+    private static final ClassValue<Field[]> BEAN_FIELDS = new ClassValue<Field[]>() {
+
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> clz = type; clz != null && clz != Object.class; clz = clz.getSuperclass()) {
+                for (Field field : clz.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                    } catch (RuntimeException ex) {
+                        // Inaccessible, counted as a slot only
+                    }
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private final SpreadsheetReader delegate;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private ToLongFunction<Object> sizeEstimator = CachingSpreadsheetReader::estimateSize;
+
+    private final LinkedHashMap<String, Entry> entries;
+    private long cachedRows;
+    private long cachedBytes;
+
+    private File diskDir;
+    private long maxDiskBytes;
+    private final LinkedHashMap<String, File> diskEntries;
+    private final Map<String, Integer> diskPins = new HashMap<>();
+    private long cachedDiskBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param delegate the actual {@link SpreadsheetReader}
+     * @param maxEntries max no. of reads kept in memory
+     * @param maxBytes max estimated heap bytes of the beans kept in memory, across all the reads
+     * @param ttlMillis time to live of the cached reads, <code>0</code> to never expire.
+     */
+    public CachingSpreadsheetReader(SpreadsheetReader delegate, int maxEntries, long maxBytes, long ttlMillis) {
+        super();
+
+        if (delegate == null) {
+            throw new IllegalArgumentException("CachingSpreadsheetReader :: delegate reader should not be null");
+        }
+
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * Enables the on-disk snapshot tier. Snapshots already present in the directory are reused.
+     *
+     * @param dir directory to keep the snapshots in
+     * @param maxBytes max total size of the snapshots
+     * @return this reader
+     */
+    public synchronized CachingSpreadsheetReader enableDiskCache(File dir, long maxBytes) {
+        if (!(delegate instanceof XlsxReader)) {
+            throw new IllegalStateException("CachingSpreadsheetReader :: disk cache needs an XlsxReader delegate");
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalArgumentException("CachingSpreadsheetReader :: invalid cache directory - " + dir);
+        }
+
+        this.diskDir = dir;
+        this.maxDiskBytes = maxBytes;
+
+        // Existing snapshots, oldest first
+        final File[] files = dir.listFiles((d, name) -> name.endsWith(SNAPSHOT_SUFFIX));
+        if (files != null) {
+            Arrays.sort(files, (f1, f2) -> Long.compare(f1.lastModified(), f2.lastModified()));
+            for (File file : files) {
+                diskEntries.put(file.getName(), file);
+                cachedDiskBytes += file.length();
+            }
+        }
+        this.evictDisk();
+        return this;
+    }
+
+    /**
+     * Replaces the heap size estimate of the cached beans, see {@link #estimateSize(Object)} for
+     * the default one.
+     *
+     * @param sizeEstimator estimated heap bytes of a bean
+     * @return this reader
+     */
+    public CachingSpreadsheetReader setSizeEstimator(ToLongFunction<Object> sizeEstimator) {
+        this.sizeEstimator = sizeEstimator;
+        return this;
+    }
+
+    public ReadCacheStats getStats() {
+        synchronized (this) {
+            return new ReadCacheStats(hits.get(), diskHits.get(), misses.get(), evictions.get(), cachedRows,
+                    cachedBytes, cachedDiskBytes);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        cachedRows = 0;
+        cachedBytes = 0;
+    }
+
+
+    // Size Estimate
+
+    /**
+     * Default heap size estimate of a bean : the object header and a slot per field, plus the
+     * strings and the boxed values it references. Other referenced objects are counted as an
+     * object header, without going deeper.
+     *
+     * @param bean the bean
+     * @return the estimated bytes
+     */
+    public static long estimateSize(Object bean) {
+        if (bean == null) {
+            return 0;
+        }
+
+        long size = OBJECT_HEADER;
+        for (Field field : BEAN_FIELDS.get(bean.getClass())) {
+            size += SLOT;
+            if (field.getType().isPrimitive()) {
+                continue;
+            }
+
+            final Object value;
+            try {
+                value = field.get(bean);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                continue;
+            }
+
+            if (value instanceof String) {
+                size += OBJECT_HEADER + SLOT + 2L * ((String) value).length();
+            } else if (value != null) {
+                size += OBJECT_HEADER + SLOT;
+            }
+        }
+        return size;
+    }
+
+
+    // SpreadsheetReader Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public <T> void read(Class<T> beanClz, InputStream is, RowListener<T> listener) throws SpreadsheetReadException {
+        if (!isCacheable(listener)) {
+            delegate.read(beanClz, is, listener);
+            return;
+        }
+        this.readCached(beanClz, is, null, listener);
+    }
+
+    @Override
+    public <T> void read(Class<T> beanClz, InputStream is, int sheetNo, RowListener<T> listener)
+            throws SpreadsheetReadException {
+        if (!isCacheable(listener)) {
+            delegate.read(beanClz, is, sheetNo, listener);
+            return;
+        }
+        this.readCached(beanClz, is, sheetNo, listener);
+    }
+
+    /**
+     * Raw rows are not cached, the read is passed on to the delegate.
+     */
+    @Override
+    public void readRows(InputStream is, int sheetNo, RowListener<SheetRow> listener)
+            throws SpreadsheetReadException {
+        delegate.readRows(is, sheetNo, listener);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return false for the listeners reading a subset of the rows (filtered or skipping the invalid
+     *         ones), which are not to be cached.
+     */
+    private static boolean isCacheable(RowListener<?> listener) {
+        return listener.rowFilter() == null && listener.validationPolicy() == ValidationPolicy.FAIL;
+    }
+
+    private <T> void readCached(Class<T> beanClz, InputStream is, Integer sheetNo, RowListener<T> listener)
+            throws SpreadsheetReadException {
+        // Content, spooled and hashed in a single pass
+        final File content;
+        final String hash;
+        try {
+            content = File.createTempFile("read-cache", ".content", diskDir);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+
+        try {
+            final DigestInputStream dis = new DigestInputStream(is, MessageDigest.getInstance("SHA-256"));
+            Files.copy(dis, content.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            hash = toHex(dis.getMessageDigest().digest());
+
+            this.readCached(beanClz, content, hash, sheetNo, listener);
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            if (!content.delete()) {
+                log.warn("Failed to delete the spooled content - {}", content);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void readCached(Class<T> beanClz, File content, String hash, Integer sheetNo,
+            RowListener<T> listener) throws SpreadsheetReadException, IOException {
+        final String key = hash + ":" + beanClz.getName() + ":" + (sheetNo == null ? "*" : sheetNo);
+
+        // Memory
+        final Entry entry = this.getEntry(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+            log.debug("Read cache hit - {}", key);
+            final CancellationToken token = listener.cancellation();
+            for (int i = 0; i < entry.rowNums.length; i++) {
+                if (token != null) {
+                    token.check();
+                }
+                listener.row(entry.rowNums[i], (T) entry.beans.get(i));
+            }
+            return;
+        }
+
+        // Read, Disk or Delegate
+        final ArrayList<Integer> rowNums = new ArrayList<>();
+        final ArrayList<Object> beans = new ArrayList<>();
+        final long[] bytes = new long[1];
+        final RowListener<T> collector = RowListener.cancellable(listener.cancellation(), (rowNum, rowObj) -> {
+            // Collected until over the bound, the rows of a read never cached are not held
+            if (bytes[0] <= maxBytes) {
+                bytes[0] += ROW_OVERHEAD + sizeEstimator.applyAsLong(rowObj);
+                if (bytes[0] <= maxBytes) {
+                    rowNums.add(rowNum);
+                    beans.add(rowObj);
+                } else {
+                    rowNums.clear();
+                    rowNums.trimToSize();
+                    beans.clear();
+                    beans.trimToSize();
+                }
+            }
+            listener.row(rowNum, rowObj);
+        });
+
+        final File snapshotFile = this.getSnapshotFile(hash, sheetNo);
+        if (snapshotFile == null) {
+            misses.incrementAndGet();
+            try (InputStream fis = new FileInputStream(content)) {
+                if (sheetNo == null) {
+                    delegate.read(beanClz, fis, collector);
+                } else {
+                    delegate.read(beanClz, fis, sheetNo, collector);
+                }
+            }
+        } else if (this.pinDiskEntry(snapshotFile)) {
+            diskHits.incrementAndGet();
+            log.debug("Read cache disk hit - {}", key);
+            try {
+                new SnapshotReader().read(beanClz, snapshotFile, collector);
+            } finally {
+                this.unpinDiskEntry(snapshotFile);
+            }
+        } else {
+            // Pinned while written and read, registered (and possibly evicting) once read
+            misses.incrementAndGet();
+            this.pin(snapshotFile);
+            try {
+                this.writeSnapshot(content, sheetNo, snapshotFile);
+                new SnapshotReader().read(beanClz, snapshotFile, collector);
+                this.putDiskEntry(snapshotFile);
+            } finally {
+                this.unpinDiskEntry(snapshotFile);
+            }
+        }
+
+        if (bytes[0] > maxBytes) {
+            log.debug("Read cache skipped, too large (over {} bytes) - {}", maxBytes, key);
+            return;
+        }
+        this.putEntry(key, new Entry(rowNums, beans, bytes[0]));
+    }
+
+    private File getSnapshotFile(String hash, Integer sheetNo) {
+        if (diskDir == null || sheetNo == null) {
+            return null;
+        }
+        return new File(diskDir, hash + "-" + sheetNo + SNAPSHOT_SUFFIX);
+    }
+
+    private void writeSnapshot(File content, int sheetNo, File snapshotFile) throws SpreadsheetReadException {
+        // Write aside and move, concurrent misses of the same file must not see a partial snapshot
+        try {
+            final File tmpFile = File.createTempFile("read-cache", ".tmp", diskDir);
+            try (InputStream fis = new FileInputStream(content)) {
+                ((XlsxReader) delegate).writeSnapshot(fis, sheetNo, tmpFile);
+                Files.move(tmpFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmpFile.toPath());
+            }
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    private synchronized Entry getEntry(String key) {
+        final Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry.createdAt)) {
+            entries.remove(key);
+            cachedRows -= entry.rowNums.length;
+            cachedBytes -= entry.bytes;
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void putEntry(String key, Entry entry) {
+        final Entry prev = entries.put(key, entry);
+        cachedRows += entry.rowNums.length - (prev != null ? prev.rowNums.length : 0);
+        cachedBytes += entry.bytes - (prev != null ? prev.bytes : 0);
+
+        final Iterator<Entry> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || cachedBytes > maxBytes) && it.hasNext()) {
+            final Entry eldest = it.next();
+            it.remove();
+            cachedRows -= eldest.rowNums.length;
+            cachedBytes -= eldest.bytes;
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return true when the snapshot is cached, it is then pinned (not evicted) until
+     *         {@link #unpinDiskEntry(File)}.
+     */
+    private synchronized boolean pinDiskEntry(File snapshotFile) {
+        final File file = diskEntries.get(snapshotFile.getName());
+        if (file == null) {
+            return false;
+        }
+        if (!file.exists() || isExpired(file.lastModified())) {
+            if (!diskPins.containsKey(file.getName())) {
+                this.removeDiskEntry(file.getName());
+            }
+            return false;
+        }
+
+        this.pin(file);
+        return true;
+    }
+
+    private synchronized void pin(File snapshotFile) {
+        diskPins.merge(snapshotFile.getName(), 1, Integer::sum);
+    }
+
+    private synchronized void unpinDiskEntry(File snapshotFile) {
+        diskPins.computeIfPresent(snapshotFile.getName(), (name, pins) -> pins > 1 ? pins - 1 : null);
+        this.evictDisk();
+    }
+
+    private synchronized void putDiskEntry(File snapshotFile) {
+        final String name = snapshotFile.getName();
+        if (diskEntries.containsKey(name)) {
+            // Written again by a concurrent miss, same content
+            return;
+        }
+
+        final long length = snapshotFile.length();
+        if (length > maxDiskBytes) {
+            // Larger than the whole tier, dropped once read
+            log.debug("Read cache disk skipped, too large ({} bytes) - {}", length, name);
+            if (diskPins.getOrDefault(name, 0) <= 1 && !snapshotFile.delete()) {
+                log.warn("Failed to delete the snapshot - {}", snapshotFile);
+            }
+            return;
+        }
+
+        diskEntries.put(name, snapshotFile);
+        cachedDiskBytes += length;
+        this.evictDisk();
+    }
+
+    /**
+     * Evicts the least recently used snapshots over the bound, but the pinned ones.
+     */
+    private synchronized void evictDisk() {
+        final Iterator<String> it = new ArrayList<>(diskEntries.keySet()).iterator();
+        while (cachedDiskBytes > maxDiskBytes && it.hasNext()) {
+            final String name = it.next();
+            if (!diskPins.containsKey(name)) {
+                this.removeDiskEntry(name);
+            }
+        }
+    }
+
+    private void removeDiskEntry(String name) {
+        final File file = diskEntries.remove(name);
+        if (file == null) {
+            return;
+        }
+
+        cachedDiskBytes -= file.length();
+        if (file.exists() && !file.delete()) {
+            log.warn("Failed to delete the cached snapshot - {}", file);
+        }
+        evictions.incrementAndGet();
+    }
+
+    private boolean isExpired(long createdAt) {
+        return ttlMillis > 0 && System.currentTimeMillis() - createdAt > ttlMillis;
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+
+    private static class Entry {
+
+        final int[] rowNums;
+        final List<Object> beans;
+        final long bytes;
+        final long createdAt;
+
+        Entry(List<Integer> rowNums, List<Object> beans, long bytes) {
+            this.rowNums = new int[rowNums.size()];
+            for (int i = 0; i < this.rowNums.length; i++) {
+                this.rowNums[i] = rowNums.get(i);
+            }
+            this.beans = beans;
+            this.bytes = bytes;
+            this.createdAt = System.currentTimeMillis();
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.millij.poi.ss.reader;
+
+import lombok.Getter;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link SheetContentsHandler} counting the rows of the sheet, and the bytes of the sheet data
+ * read through {@link #getInputStream()}, for the {@link io.github.millij.poi.ss.jfr.SheetReadEvent}.
+ *
+ * @author Fang Gang
+ */
+final class CountingContentsHandler implements SheetContentsHandler {
+
+    private final SheetContentsHandler delegate;
+
+    /**
+     * The sheet data stream, counting the bytes read.
+     */
+    @Getter
+    private final InputStream inputStream;
+
+    @Getter
+    private long rowCount;
+
+    @Getter
+    private long byteCount;
+
+
+    CountingContentsHandler(SheetContentsHandler delegate, InputStream sheetInpStream) {
+        this.delegate = delegate;
+        this.inputStream = new FilterInputStream(sheetInpStream) {
+
+            @Override
+            public int read() throws IOException {
+                final int b = super.read();
+                if (b >= 0) {
+                    byteCount++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                final int n = super.read(b, off, len);
+                if (n > 0) {
+                    byteCount += n;
+                }
+                return n;
+            }
+        };
+    }
+
+
+    @Override
+    public void startRow(int rowNum) {
+        delegate.startRow(rowNum);
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        rowCount++;
+        delegate.endRow(rowNum);
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        delegate.cell(cellReference, formattedValue, comment);
+    }
+
+    @Override
+    public void headerFooter(String text, boolean isHeader, String tagName) {
+        delegate.headerFooter(text, isHeader, tagName);
+    }
+
+    @Override
+    public void endSheet() {
+        delegate.endSheet();
+    }
+
+}
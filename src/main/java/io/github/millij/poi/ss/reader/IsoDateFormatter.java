@@ -0,0 +1,113 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.util.ExcelDates;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link DataFormatter} of the xlsx reads, which renders the date styled cells as ISO dates
+ * (<code>2020-01-31</code>) or date times (<code>2020-01-31T10:15:30</code>), whatever the style
+ * pattern and locale. Time-only formats of serials below one day render as ISO times
+ * (<code>10:15:30</code>). Whether a format is a date one is resolved once per format index.
+ *
+ * <p>
+ * Not thread-safe, meant to live as long as a read.
+ * </p>
+ *
+ * @author Fang Gang
+ * @see ExcelDates
+ */
+class IsoDateFormatter extends DataFormatter {
+
+    private final boolean date1904;
+
+    private static final int NOT_DATE = 0;
+    private static final int DATE = 1;
+    private static final int TIME = 2;
+
+    private final Map<Integer, Integer> dateFormats = new HashMap<>();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param date1904 true when the workbook uses the 1904 date system
+     */
+    IsoDateFormatter(boolean date1904) {
+        super();
+        this.date1904 = date1904;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String formatRawCellContents(double value, int formatIndex, String formatString) {
+        return this.formatRawCellContents(value, formatIndex, formatString, date1904);
+    }
+
+    @Override
+    public String formatRawCellContents(double value, int formatIndex, String formatString,
+            boolean use1904Windowing) {
+        Integer dateFormat = dateFormats.get(formatIndex);
+        if (dateFormat == null) {
+            dateFormat = !DateUtil.isADateFormat(formatIndex, formatString) ? NOT_DATE
+                    : isTimeOnly(formatString) ? TIME : DATE;
+            dateFormats.put(formatIndex, dateFormat);
+        }
+
+        if (dateFormat != NOT_DATE && DateUtil.isValidExcelDate(value)) {
+            // No date part, the serial is a time of the day
+            if (dateFormat == TIME && value < 1) {
+                return ExcelDates.toLocalTime(value).toString();
+            }
+            return ExcelDates.toIsoString(value, use1904Windowing);
+        }
+        return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return true when the format has hours or seconds, but no year nor day (quoted literals and
+     *         bracketed sections, like colors and elapsed hours, ignored).
+     */
+    private static boolean isTimeOnly(String formatString) {
+        if (formatString == null) {
+            return false;
+        }
+
+        boolean time = false;
+        boolean quoted = false;
+        boolean bracketed = false;
+        for (int i = 0; i < formatString.length(); i++) {
+            final char c = Character.toLowerCase(formatString.charAt(i));
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (quoted) {
+                continue;
+            } else if (c == '[') {
+                bracketed = true;
+            } else if (c == ']') {
+                bracketed = false;
+            } else if (c == '\\') {
+                i++;
+            } else if (bracketed) {
+                time |= c == 'h' || c == 's';
+            } else if (c == 'y' || c == 'd') {
+                return false;
+            } else if (c == 'h' || c == 's') {
+                time = true;
+            }
+        }
+        return time;
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.util.StringPool;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+/**
+ * {@link SheetContentsHandler} passing the cell values through a {@link StringPool}, for the
+ * values not backed by a shared string (inline strings, formula results, formatted numbers).
+ *
+ * @author Fang Gang
+ */
+final class PooledContentsHandler implements SheetContentsHandler {
+
+    private final SheetContentsHandler delegate;
+
+    private final StringPool pool;
+
+
+    PooledContentsHandler(SheetContentsHandler delegate, StringPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+
+    @Override
+    public void startRow(int rowNum) {
+        delegate.startRow(rowNum);
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        delegate.endRow(rowNum);
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        delegate.cell(cellReference, pool.intern(formattedValue), comment);
+    }
+
+    @Override
+    public void headerFooter(String text, boolean isHeader, String tagName) {
+        delegate.headerFooter(text, isHeader, tagName);
+    }
+
+    @Override
+    public void endSheet() {
+        delegate.endSheet();
+    }
+
+}
@@ -0,0 +1,119 @@
+package io.github.millij.poi.ss.reader;
+
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.xssf.model.SharedStrings;
+
+/**
+ * {@link SharedStrings} keeping one string instance per shared string index, for the first
+ * <code>maxSize</code> indices. The sheet parser then hands out the same instance for every cell
+ * referring to the same shared string, rather than a new one per cell.
+ *
+ * @author Fang Gang
+ */
+final class PooledSharedStrings implements SharedStrings {
+
+    private final SharedStrings delegate;
+
+    private final RichTextString[] items;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    PooledSharedStrings(SharedStrings delegate, int maxSize) {
+        this.delegate = delegate;
+        this.items = new RichTextString[Math.max(0, Math.min(maxSize, delegate.getUniqueCount()))];
+    }
+
+
+    // SharedStrings Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public RichTextString getItemAt(int idx) {
+        if (idx < 0 || idx >= items.length) {
+            return delegate.getItemAt(idx);
+        }
+
+        RichTextString item = items[idx];
+        if (item == null) {
+            item = items[idx] = new PooledString(delegate.getItemAt(idx).getString());
+        }
+        return item;
+    }
+
+    @Override
+    public int getCount() {
+        return delegate.getCount();
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return delegate.getUniqueCount();
+    }
+
+
+    /**
+     * Plain text, read-only {@link RichTextString}.
+     */
+    private static final class PooledString implements RichTextString {
+
+        private final String value;
+
+        PooledString(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getString() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public int numFormattingRuns() {
+            return 0;
+        }
+
+        @Override
+        public int getIndexOfFormattingRun(int index) {
+            return 0;
+        }
+
+        @Override
+        public void applyFont(int startIndex, int endIndex, short fontIndex) {
+            throw new UnsupportedOperationException("PooledString :: read-only");
+        }
+
+        @Override
+        public void applyFont(int startIndex, int endIndex, Font font) {
+            throw new UnsupportedOperationException("PooledString :: read-only");
+        }
+
+        @Override
+        public void applyFont(Font font) {
+            throw new UnsupportedOperationException("PooledString :: read-only");
+        }
+
+        @Override
+        public void clearFormatting() {
+            throw new UnsupportedOperationException("PooledString :: read-only");
+        }
+
+        @Override
+        public void applyFont(short fontIndex) {
+            throw new UnsupportedOperationException("PooledString :: read-only");
+        }
+    }
+
+}
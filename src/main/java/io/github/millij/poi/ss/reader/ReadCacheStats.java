@@ -0,0 +1,58 @@
+package io.github.millij.poi.ss.reader;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Point-in-time counters of a {@link CachingSpreadsheetReader}.
+ *
+ * @author Fang Gang
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReadCacheStats {
+
+    /**
+     * Reads served from the in-memory bound results.
+     */
+    private final long hits;
+
+    /**
+     * Reads served from the on-disk snapshots.
+     */
+    private final long diskHits;
+
+    /**
+     * Reads that had to parse the spreadsheet.
+     */
+    private final long misses;
+
+    /**
+     * Entries (in-memory or on-disk) removed to respect the size limits or the ttl.
+     */
+    private final long evictions;
+
+    /**
+     * Rows currently held in memory.
+     */
+    private final long cachedRows;
+
+    /**
+     * Estimated heap bytes of the beans currently held in memory.
+     */
+    private final long cachedBytes;
+
+    /**
+     * Bytes of snapshots currently held on disk.
+     */
+    private final long cachedDiskBytes;
+
+
+    public double getHitRate() {
+        final long total = hits + diskHits + misses;
+        return total == 0 ? 0D : (double) (hits + diskHits) / total;
+    }
+
+}
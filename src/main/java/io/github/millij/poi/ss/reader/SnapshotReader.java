@@ -0,0 +1,229 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.OperationCancelledException;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.jfr.JfrEvents;
+import io.github.millij.poi.ss.jfr.RowEventRecorder;
+import io.github.millij.poi.ss.model.ColumnMapping;
+import io.github.millij.poi.ss.model.RowFilter;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.ss.snapshot.SheetSnapshot;
+import io.github.millij.poi.util.CancellationToken;
+import io.github.millij.poi.util.Spreadsheet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.util.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static io.github.millij.poi.util.Beans.isInstantiableType;
+
+/**
+ * Reader implementation for the binary sheet snapshots written by
+ * {@link XlsxReader#writeSnapshot(InputStream, int, File)}. Snapshot files are memory-mapped and
+ * the rows are mapped to beans directly, without any zip or xml parsing.
+ *
+ * <p>
+ * A snapshot holds a single sheet, so the only valid sheet number is <code>0</code>.
+ * </p>
+ *
+ * @author Fang Gang
+ * @see XlsxReader
+ */
+@Slf4j
+public class SnapshotReader extends AbstractSpreadsheetReader {
+
+    // Constructor
+
+    public SnapshotReader() {
+        super();
+    }
+
+
+    // SpreadsheetReader Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public <T> void read(Class<T> beanClz, File file, RowListener<T> listener) throws SpreadsheetReadException {
+        try (SheetSnapshot snapshot = SheetSnapshot.open(file)) {
+            this.processSnapshot(beanClz, snapshot, listener);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public <T> void read(Class<T> beanClz, File file, int sheetNo, RowListener<T> listener)
+            throws SpreadsheetReadException {
+        checkSheetNo(sheetNo);
+        this.read(beanClz, file, listener);
+    }
+
+    @Override
+    public <T> void read(Class<T> beanClz, InputStream is, RowListener<T> listener) throws SpreadsheetReadException {
+        try (SheetSnapshot snapshot = SheetSnapshot.wrap(IOUtils.toByteArray(is))) {
+            this.processSnapshot(beanClz, snapshot, listener);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public <T> void read(Class<T> beanClz, InputStream is, int sheetNo, RowListener<T> listener)
+            throws SpreadsheetReadException {
+        checkSheetNo(sheetNo);
+        this.read(beanClz, is, listener);
+    }
+
+
+    // Read to List, memory-mapped
+
+    @Override
+    public <T> List<T> read(Class<T> beanClz, File file) throws SpreadsheetReadException {
+        final List<T> sheetBeans = new ArrayList<T>();
+        this.read(beanClz, file, (rowNum, rowObj) -> {
+            if (rowObj != null) {
+                sheetBeans.add(rowObj);
+            }
+        });
+        return sheetBeans;
+    }
+
+    @Override
+    public <T> List<T> read(Class<T> beanClz, File file, int sheetNo) throws SpreadsheetReadException {
+        checkSheetNo(sheetNo);
+        return this.read(beanClz, file);
+    }
+
+
+    // Raw Rows
+
+    @Override
+    public void readRows(InputStream is, int sheetNo, RowListener<SheetRow> listener)
+            throws SpreadsheetReadException {
+        checkSheetNo(sheetNo);
+        try (SheetSnapshot snapshot = SheetSnapshot.wrap(IOUtils.toByteArray(is))) {
+            listener.row(snapshot.getHeaderRowNum(), snapshot.getHeaderRow());
+
+            final CancellationToken cancellation = listener.cancellation();
+            final int rowCount = snapshot.getRowCount();
+            for (int i = 0; i < rowCount; i++) {
+                if (cancellation != null) {
+                    cancellation.check();
+                }
+                listener.row(snapshot.getRowNum(i), snapshot.getRow(i));
+            }
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    // Snapshot Process
+
+    protected <T> void processSnapshot(Class<T> beanClz, SheetSnapshot snapshot, RowListener<T> rowListener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("SnapshotReader :: Invalid bean type passed!");
+        }
+
+        try {
+            final ColumnMapping<T> columnMapping = new ColumnMapping<>(beanClz, snapshot.getHeaderRow());
+            final List<String> textColRefs = textColumnRefs(columnMapping);
+            final RowFilter filter = rowListener.rowFilter();
+            final Predicate<SheetRow> rowFilter = filter != null ? filter.bind(snapshot.getHeaderRow()) : null;
+
+            final JfrEvents.Sheet sheetEvent = JfrEvents.sheetRead(snapshot.getSheetName(), 0, beanClz.getName());
+            sheetEvent.begin();
+            final RowEventRecorder recorder = JfrEvents.rowEvents(beanClz);
+            final CancellationToken cancellation = rowListener.cancellation();
+            final ValidationPolicy validationPolicy = rowListener.validationPolicy();
+
+            final int rowCount = snapshot.getRowCount();
+            T reusableBean = null;
+            for (int i = 0; i < rowCount; i++) {
+                if (cancellation != null) {
+                    cancellation.check();
+                }
+
+                // Skip rows rejected by the filter, before building the bean
+                final SheetRow sheetRow = snapshot.getRow(i);
+                if (rowFilter != null && !rowFilter.test(sheetRow)) {
+                    continue;
+                }
+
+                // Skip (or fail on) the invalid rows, per the policy
+                if (!validationPolicy.accept(columnMapping.getValidator(), sheetRow)) {
+                    continue;
+                }
+
+                // Row data as Bean, refilling the same bean in the flyweight mode
+                final long bindStart = recorder.bindStart();
+                asGeneralText(sheetRow, textColRefs);
+                T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping, reusableBean);
+                recorder.bindEnd(bindStart);
+                if (rowListener.reuseBean()) {
+                    reusableBean = rowBean;
+                }
+                // Row Callback
+                recorder.row(rowListener, snapshot.getRowNum(i), rowBean);
+            }
+
+            recorder.finish();
+            sheetEvent.commit(rowCount);
+        } catch (OperationCancelledException ex) {
+            log.debug("Snapshot to Bean({}) cancelled - Sheet[{}] {}", beanClz.getSimpleName(), snapshot.getSheetName(),
+                    ex.getReason());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Snapshot to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), snapshot.getSheetName(),
+                    ex.getMessage());
+            throw new SpreadsheetReadException(snapshot.getSheetName(), ex);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return the column references of the String properties. Snapshot columns are typed from the
+     *         cells, those are passed as the text the xlsx reads give.
+     */
+    private static List<String> textColumnRefs(ColumnMapping<?> columnMapping) {
+        final List<String> textColRefs = new ArrayList<>();
+        for (String colName : columnMapping.getCellColNames()) {
+            final ColumnMapping.Property property = columnMapping.get(colName);
+            if (property.getFieldType() == String.class) {
+                textColRefs.add(property.getColumnReference());
+            }
+        }
+        return textColRefs;
+    }
+
+    private static void asGeneralText(SheetRow sheetRow, List<String> textColRefs) {
+        for (String colRef : textColRefs) {
+            final Object value = sheetRow.getCellValue(colRef);
+            if (value != null) {
+                sheetRow.getCell(colRef).setValue(Spreadsheet.asGeneralText(value));
+            }
+        }
+    }
+
+    private static void checkSheetNo(int sheetNo) {
+        if (sheetNo != 0) {
+            throw new IllegalArgumentException("SnapshotReader :: A snapshot holds only the sheet 0 - " + sheetNo);
+        }
+    }
+
+}
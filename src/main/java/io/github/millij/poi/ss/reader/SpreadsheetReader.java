@@ -1,11 +1,35 @@
 package io.github.millij.poi.ss.reader;
 
+import io.github.millij.poi.OperationCancelledException;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.UnsupportedException;
+import io.github.millij.poi.ss.column.ColumnBatch;
+import io.github.millij.poi.ss.column.ColumnBatchCollector;
+import io.github.millij.poi.ss.column.ColumnBatchListener;
+import io.github.millij.poi.ss.column.ColumnSchema;
+import io.github.millij.poi.ss.column.GroupBy;
+import io.github.millij.poi.ss.column.GroupByCollector;
+import io.github.millij.poi.ss.column.GroupTable;
+import io.github.millij.poi.ss.column.OffHeapColumnBatch;
+import io.github.millij.poi.ss.column.OffHeapColumnBatchListener;
+import io.github.millij.poi.ss.column.OffHeapColumnCollector;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.RowMapListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.util.CancellationToken;
+import io.github.millij.poi.util.SpillableList;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 
 /**
@@ -171,5 +195,393 @@ public interface SpreadsheetReader {
     <T> List<T> read(Class<T> beanClz, InputStream is, int sheetNo) throws SpreadsheetReadException;
 
 
+    // Read with disk spilling
+
+    /**
+     * Reads the spreadsheet file to beans of the given type, like {@link #read(Class, File)}, but
+     * only the first beans are kept on heap. The rest are spilled to a temp file, which is deleted
+     * when the returned list is closed.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param file {@link File} object of the spreadsheet file
+     * @param maxInMemory max no. of beans kept on heap
+     *
+     * @return a {@link SpillableList} of objects of the parameterized type
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    default <T> SpillableList<T> readSpillable(Class<T> beanClz, File file, int maxInMemory)
+            throws SpreadsheetReadException {
+        try (InputStream fis = new FileInputStream(file)) {
+            return this.readSpillable(beanClz, fis, maxInMemory);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    /**
+     * Reads the spreadsheet file to beans of the given type, like {@link #read(Class, InputStream)},
+     * but only the first beans are kept on heap. The rest are spilled to a temp file, which is
+     * deleted when the returned list is closed.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param maxInMemory max no. of beans kept on heap
+     *
+     * @return a {@link SpillableList} of objects of the parameterized type
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    default <T> SpillableList<T> readSpillable(Class<T> beanClz, InputStream is, int maxInMemory)
+            throws SpreadsheetReadException {
+        final SpillableList<T> sheetBeans = new SpillableList<>(beanClz, maxInMemory);
+        try {
+            this.read(beanClz, is, (rowNum, rowObj) -> {
+                if (rowObj == null) {
+                    LoggerFactory.getLogger(SpreadsheetReader.class).error("Null object returned for row : {}", rowNum);
+                    return;
+                }
+
+                sheetBeans.add(rowObj);
+            });
+        } catch (SpreadsheetReadException | RuntimeException ex) {
+            sheetBeans.close();
+            throw ex;
+        }
+        return sheetBeans;
+    }
+
+
+
+    // Read without Bean
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as raw {@link SheetRow}s,
+     * without mapping the rows to beans. The header row is passed to the listener as well.
+     *
+     * <p>
+     * The raw row, map, column and aggregation reads below are all built on this method. Readers
+     * not overriding it do not support them, and throw an {@link UnsupportedException}.
+     * </p>
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener {@link RowListener} for the raw row callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    default void readRows(InputStream is, int sheetNo, RowListener<SheetRow> listener)
+            throws SpreadsheetReadException {
+        String errMsg = String.format("%s :: raw rows are not supported", this.getClass().getSimpleName());
+        throw new UnsupportedException(errMsg);
+    }
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as raw {@link SheetRow}s, like
+     * {@link #readRows(InputStream, int, RowListener)}. Readers able to read a file in place,
+     * without loading the workbook in memory, override it.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener {@link RowListener} for the raw row callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    default void readRows(File file, int sheetNo, RowListener<SheetRow> listener) throws SpreadsheetReadException {
+        try (InputStream fis = new FileInputStream(file)) {
+            this.readRows(fis, sheetNo, listener);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as {@link Map}s keyed by the
+     * header row names, without a bean type. The header names are held once per sheet, and the
+     * rows are backed by flat arrays of the cell values. The read is stopped by the
+     * {@link RowListener#cancellation()} token of the listener, if any.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or the header row is invalid.
+     */
+    default void readAsMap(InputStream is, int sheetNo, RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        this.readRows(is, sheetNo, new RowMapListener(listener));
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as {@link Map}s keyed by the
+     * header row names, without a bean type.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     *
+     * @return a {@link List} of the rows
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or the header row is invalid.
+     */
+    default List<Map<String, Object>> readAsMap(File file, int sheetNo) throws SpreadsheetReadException {
+        try (InputStream fis = new FileInputStream(file)) {
+            return this.readAsMap(fis, sheetNo);
+        } catch (IOException ex) {
+            String errMsg = String.format("ERR - %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as {@link Map}s keyed by the
+     * header row names, without a bean type.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     *
+     * @return a {@link List} of the rows
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or the header row is invalid.
+     */
+    default List<Map<String, Object>> readAsMap(InputStream is, int sheetNo) throws SpreadsheetReadException {
+        return this.readAsMap(is, sheetNo, (CancellationToken) null);
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) as {@link Map}s keyed by the
+     * header row names, without a bean type, until the token is cancelled.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param cancellation the token stopping the read, or <code>null</code>
+     *
+     * @return a {@link List} of the rows
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or the header row is invalid.
+     * @throws OperationCancelledException once the token is cancelled.
+     */
+    default List<Map<String, Object>> readAsMap(InputStream is, int sheetNo, CancellationToken cancellation)
+            throws SpreadsheetReadException {
+        final List<Map<String, Object>> sheetRows = new ArrayList<>();
+        this.readAsMap(is, sheetNo, RowListener.cancellable(cancellation, (rowNum, rowObj) -> sheetRows.add(rowObj)));
+        return sheetRows;
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) column-wise, into fixed-size
+     * {@link ColumnBatch}es of primitive vectors, without a bean or a boxed value per cell.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param schema the {@link ColumnSchema}, header names and types of the columns to be read
+     * @param batchSize no. of rows per batch
+     * @param listener {@link ColumnBatchListener} for the batch callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     */
+    default void readColumns(InputStream is, int sheetNo, ColumnSchema schema, int batchSize,
+            ColumnBatchListener listener) throws SpreadsheetReadException {
+        this.readColumns(is, sheetNo, schema, batchSize, listener, null);
+    }
+
+    /**
+     * Reads the requested sheet column-wise, like
+     * {@link #readColumns(InputStream, int, ColumnSchema, int, ColumnBatchListener)}, until the
+     * token is cancelled.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param schema the {@link ColumnSchema}, header names and types of the columns to be read
+     * @param batchSize no. of rows per batch
+     * @param listener {@link ColumnBatchListener} for the batch callbacks.
+     * @param cancellation the token stopping the read, or <code>null</code>
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     * @throws OperationCancelledException once the token is cancelled.
+     */
+    default void readColumns(InputStream is, int sheetNo, ColumnSchema schema, int batchSize,
+            ColumnBatchListener listener, CancellationToken cancellation) throws SpreadsheetReadException {
+        final ColumnBatchCollector collector = new ColumnBatchCollector(schema, batchSize, listener)
+                .setCancellation(cancellation);
+        this.readRows(is, sheetNo, collector);
+        collector.finish();
+    }
+
+
+    /**
+     * Reads the requested sheet (sheet numbers are indexed from 0) column-wise, into fixed-size
+     * {@link OffHeapColumnBatch}es of direct buffers in the Arrow memory layout. The off-heap
+     * memory is reused across the batches, and left to the garbage collector when the read returns.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param schema the {@link ColumnSchema}, header names and types of the columns to be read
+     * @param batchSize no. of rows per batch
+     * @param listener {@link OffHeapColumnBatchListener} for the batch callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     */
+    default void readColumnsOffHeap(InputStream is, int sheetNo, ColumnSchema schema, int batchSize,
+            OffHeapColumnBatchListener listener) throws SpreadsheetReadException {
+        this.readColumnsOffHeap(is, sheetNo, schema, batchSize, listener, null);
+    }
+
+    /**
+     * Reads the requested sheet column-wise off-heap, like
+     * {@link #readColumnsOffHeap(InputStream, int, ColumnSchema, int, OffHeapColumnBatchListener)},
+     * until the token is cancelled.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param schema the {@link ColumnSchema}, header names and types of the columns to be read
+     * @param batchSize no. of rows per batch
+     * @param listener {@link OffHeapColumnBatchListener} for the batch callbacks.
+     * @param cancellation the token stopping the read, or <code>null</code>
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     * @throws OperationCancelledException once the token is cancelled.
+     */
+    default void readColumnsOffHeap(InputStream is, int sheetNo, ColumnSchema schema, int batchSize,
+            OffHeapColumnBatchListener listener, CancellationToken cancellation) throws SpreadsheetReadException {
+        try (OffHeapColumnCollector collector = new OffHeapColumnCollector(schema, batchSize, listener)) {
+            collector.setCancellation(cancellation);
+            this.readRows(is, sheetNo, collector);
+            collector.finish();
+        }
+    }
+
+
+    // Aggregation
+
+    /**
+     * Aggregates the requested sheet (sheet numbers are indexed from 0) per the {@link GroupBy},
+     * straight from the parsed cells, without building beans.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param groupBy the {@link GroupBy}, key and measure columns
+     * @return the {@link GroupTable} of the sheet
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     */
+    default GroupTable aggregate(InputStream is, int sheetNo, GroupBy groupBy) throws SpreadsheetReadException {
+        return this.aggregate(is, sheetNo, groupBy, (CancellationToken) null);
+    }
+
+    /**
+     * Aggregates the requested sheet per the {@link GroupBy}, like
+     * {@link #aggregate(InputStream, int, GroupBy)}, until the token is cancelled.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param groupBy the {@link GroupBy}, key and measure columns
+     * @param cancellation the token stopping the read, or <code>null</code>
+     * @return the {@link GroupTable} of the sheet
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     * @throws OperationCancelledException once the token is cancelled.
+     */
+    default GroupTable aggregate(InputStream is, int sheetNo, GroupBy groupBy, CancellationToken cancellation)
+            throws SpreadsheetReadException {
+        final GroupByCollector collector = new GroupByCollector(groupBy).setCancellation(cancellation);
+        this.readRows(is, sheetNo, collector);
+        return collector.getTable();
+    }
+
+    /**
+     * Aggregates the requested sheets per the {@link GroupBy}, like
+     * {@link #aggregate(InputStream, int, GroupBy)}. The sheets are read concurrently on the
+     * executor, each into a partial {@link GroupTable}, and the partial tables are merged.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNos indexes of the Sheets to be read (index starts from 0)
+     * @param groupBy the {@link GroupBy}, key and measure columns
+     * @param executor the executor of the sheet reads
+     * @return the {@link GroupTable} of all the sheets
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     */
+    default GroupTable aggregate(File file, int[] sheetNos, GroupBy groupBy, ExecutorService executor)
+            throws SpreadsheetReadException {
+        return this.aggregate(file, sheetNos, groupBy, executor, null);
+    }
+
+    /**
+     * Aggregates the requested sheets concurrently, like
+     * {@link #aggregate(File, int[], GroupBy, ExecutorService)}, until the token is cancelled. The
+     * token is checked by all the sheet reads.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNos indexes of the Sheets to be read (index starts from 0)
+     * @param groupBy the {@link GroupBy}, key and measure columns
+     * @param executor the executor of the sheet reads
+     * @param cancellation the token stopping the reads, or <code>null</code>
+     * @return the {@link GroupTable} of all the sheets
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable, a column is missing or a cell value does not match the column type.
+     * @throws OperationCancelledException once the token is cancelled.
+     */
+    default GroupTable aggregate(File file, int[] sheetNos, GroupBy groupBy, ExecutorService executor,
+            CancellationToken cancellation) throws SpreadsheetReadException {
+        // Partial aggregation per sheet
+        final List<Future<GroupTable>> partials = new ArrayList<>(sheetNos.length);
+        for (int sheetNo : sheetNos) {
+            partials.add(executor.submit(() -> {
+                final GroupByCollector collector = new GroupByCollector(groupBy).setCancellation(cancellation);
+                this.readRows(file, sheetNo, collector);
+                return collector.getTable();
+            }));
+        }
+
+        // Merge
+        final GroupTable table = new GroupTable(groupBy);
+        try {
+            for (Future<GroupTable> partial : partials) {
+                table.merge(partial.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            partials.forEach(partial -> partial.cancel(true));
+            throw new SpreadsheetReadException(null, ex);
+        } catch (ExecutionException ex) {
+            partials.forEach(partial -> partial.cancel(true));
+            if (ex.getCause() instanceof SpreadsheetReadException) {
+                throw (SpreadsheetReadException) ex.getCause();
+            }
+            if (ex.getCause() instanceof OperationCancelledException) {
+                throw (OperationCancelledException) ex.getCause();
+            }
+            String errMsg = String.format("ERR - %s", ex.getCause().getMessage());
+            throw new SpreadsheetReadException(errMsg, ex.getCause());
+        }
+        return table;
+    }
+
 
 }
@@ -0,0 +1,173 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.ss.handler.SheetRowContentsHandler;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.Styles;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link XSSFSheetXMLHandler} passing typed cell values of the data rows, from the cell type and
+ * style : numeric cells of the <code>General</code> format as <code>Double</code>, boolean cells
+ * as <code>Boolean</code>, like the .xls reads. Other cells (dates and custom number formats
+ * included), and all the cells up to the header row, are passed formatted, as in the other xlsx
+ * reads.
+ *
+ * <p>
+ * The row events go to the passed {@link SheetContentsHandler}, the cells to the
+ * {@link SheetRowContentsHandler#typedCell(String, Object)} of the target.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+final class TypedSheetXMLHandler extends XSSFSheetXMLHandler {
+
+    private final Styles styles;
+
+    private final int headerRowNum;
+
+    private final Map<Integer, Boolean> generalStyles = new HashMap<>();
+
+    // Current cell
+    private int rowNum;
+    private String cellType;
+    private int styleIdx;
+    private boolean valueOpen;
+    private final StringBuilder rawValue = new StringBuilder();
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    TypedSheetXMLHandler(Styles styles, SharedStrings strings, SheetContentsHandler rows,
+            SheetRowContentsHandler target, DataFormatter formatter, int headerRowNum) {
+        this(styles, strings, new TypedCells(rows, target), formatter, headerRowNum);
+    }
+
+    private TypedSheetXMLHandler(Styles styles, SharedStrings strings, TypedCells cells, DataFormatter formatter,
+            int headerRowNum) {
+        super(styles, strings, cells, formatter, false);
+        this.styles = styles;
+        this.headerRowNum = headerRowNum;
+        cells.owner = this;
+    }
+
+
+    // ContentHandler Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes)
+            throws SAXException {
+        if ("c".equals(localName)) {
+            final String style = attributes.getValue("s");
+            cellType = attributes.getValue("t");
+            styleIdx = style != null ? Integer.parseInt(style) : 0;
+            rawValue.setLength(0);
+        } else if ("v".equals(localName)) {
+            valueOpen = true;
+        }
+        super.startElement(uri, localName, qName, attributes);
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        if (valueOpen) {
+            rawValue.append(ch, start, length);
+        }
+        super.characters(ch, start, length);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        if ("v".equals(localName)) {
+            valueOpen = false;
+        }
+        super.endElement(uri, localName, qName);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private Object typedValue(String formattedValue) {
+        if (rowNum <= headerRowNum) {
+            return formattedValue;
+        }
+
+        if ("b".equals(cellType)) {
+            return rawValue.length() > 0 ? rawValue.charAt(0) == '1' : formattedValue;
+        }
+
+        // Numeric cells and formula results have no type, or "n"
+        if ((cellType == null || "n".equals(cellType)) && rawValue.length() > 0 && this.isGeneralStyle()) {
+            try {
+                return Double.parseDouble(rawValue.toString());
+            } catch (NumberFormatException ex) {
+                return formattedValue;
+            }
+        }
+        return formattedValue;
+    }
+
+    private boolean isGeneralStyle() {
+        if (styles == null || styles.getNumCellStyles() == 0) {
+            return true;
+        }
+
+        Boolean generalStyle = generalStyles.get(styleIdx);
+        if (generalStyle == null) {
+            final XSSFCellStyle style = styles.getStyleAt(styleIdx);
+            generalStyle = style == null || style.getDataFormat() == 0
+                    || "General".equalsIgnoreCase(style.getDataFormatString());
+            generalStyles.put(styleIdx, generalStyle);
+        }
+        return generalStyle;
+    }
+
+
+    /**
+     * Routes the row events to the rows handler, and the typed cells to the target.
+     */
+    private static final class TypedCells implements SheetContentsHandler {
+
+        private final SheetContentsHandler rows;
+        private final SheetRowContentsHandler target;
+
+        private TypedSheetXMLHandler owner;
+
+        TypedCells(SheetContentsHandler rows, SheetRowContentsHandler target) {
+            this.rows = rows;
+            this.target = target;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            owner.rowNum = rowNum;
+            rows.startRow(rowNum);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rows.endRow(rowNum);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            target.typedCell(cellReference, owner.typedValue(formattedValue));
+        }
+
+        @Override
+        public void endSheet() {
+            rows.endSheet();
+        }
+    }
+
+}
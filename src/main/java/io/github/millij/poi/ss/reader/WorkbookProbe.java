@@ -0,0 +1,649 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.poi.ss.model.SheetInfo;
+import io.github.millij.poi.ss.model.WorkbookInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FilePassRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.poifs.property.DocumentProperty;
+import org.apache.poi.poifs.property.Property;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the sheet names, extents and header rows of a workbook without parsing the sheets data.
+ *
+ * <ul>
+ * <li>.xlsx - reads <code>workbook.xml</code>, then each sheet part up to the end of its first row,
+ * and the shared strings up to the last index used by the header rows.</li>
+ * <li>.xls - reads the workbook globals (BOUNDSHEET, SST, ...), then jumps to the BOF of each sheet
+ * (per its BOUNDSHEET offset) and reads its DIMENSIONS and header row records. The records of the
+ * sheets data are never read, but the globals are : the cost grows with the shared strings
+ * table, not with the rows. Encrypted workbooks, and the ones read from a stream, are walked
+ * record by record instead, up to the header row of the last sheet.</li>
+ * </ul>
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+final class WorkbookProbe {
+
+    private WorkbookProbe() {
+        // Utility Class
+    }
+
+
+    // XLSX
+    // ------------------------------------------------------------------------
+
+    static WorkbookInfo probeXlsx(OPCPackage opcPkg) throws Exception {
+        final XMLReader xmlParser = XMLReaderPool.borrow();
+        try {
+            return probeXlsx(opcPkg, xmlParser);
+        } finally {
+            XMLReaderPool.release(xmlParser);
+        }
+    }
+
+    /**
+     * @return true when the workbook uses the 1904 date system, read from <code>workbook.xml</code>
+     */
+    static boolean isDate1904(XSSFReader xssfReader) throws Exception {
+        return parseWorkbook(xssfReader).date1904;
+    }
+
+    /**
+     * @return the no. of sheets, read from <code>workbook.xml</code>
+     */
+    static int sheetCount(XSSFReader xssfReader) throws Exception {
+        return parseWorkbook(xssfReader).sheetNames.size();
+    }
+
+    private static WorkbookHandler parseWorkbook(XSSFReader xssfReader) throws Exception {
+        final WorkbookHandler workbookHandler = new WorkbookHandler();
+        final XMLReader xmlParser = XMLReaderPool.borrow();
+        try (InputStream wbInpStream = xssfReader.getWorkbookData()) {
+            xmlParser.setContentHandler(workbookHandler);
+            xmlParser.parse(new InputSource(wbInpStream));
+        } finally {
+            XMLReaderPool.release(xmlParser);
+        }
+        return workbookHandler;
+    }
+
+    private static WorkbookInfo probeXlsx(OPCPackage opcPkg, XMLReader xmlParser) throws Exception {
+        final XSSFReader xssfReader = new XSSFReader(opcPkg);
+
+        // Workbook
+        final WorkbookHandler workbookHandler = new WorkbookHandler();
+        try (InputStream wbInpStream = xssfReader.getWorkbookData()) {
+            xmlParser.setContentHandler(workbookHandler);
+            xmlParser.parse(new InputSource(wbInpStream));
+        }
+
+        final WorkbookInfo workbookInfo = new WorkbookInfo();
+        workbookInfo.setDate1904(workbookHandler.date1904);
+
+        // Sheets, up to the header row
+        final List<SheetHandler> sheetHandlers = new ArrayList<>();
+        for (int i = 0; i < workbookHandler.sheetNames.size(); i++) {
+            final SheetHandler sheetHandler = new SheetHandler(new SheetInfo(i, workbookHandler.sheetNames.get(i)));
+            try (InputStream sheetInpStream = xssfReader.getSheet(workbookHandler.sheetRelIds.get(i))) {
+                xmlParser.setContentHandler(sheetHandler);
+                xmlParser.parse(new InputSource(sheetInpStream));
+            } catch (StopParsingException ex) {
+                log.debug("Probed the XSSFSheet(idx{}) header row", i);
+            }
+            sheetHandlers.add(sheetHandler);
+            workbookInfo.addSheet(sheetHandler.sheetInfo);
+        }
+
+        // Shared Strings, up to the max index referred by the headers
+        int maxSstIdx = -1;
+        for (SheetHandler sheetHandler : sheetHandlers) {
+            for (Object value : sheetHandler.headerCells.values()) {
+                if (value instanceof Integer) {
+                    maxSstIdx = Math.max(maxSstIdx, (Integer) value);
+                }
+            }
+        }
+
+        final SharedStringsHandler sstHandler = new SharedStringsHandler(maxSstIdx);
+        if (maxSstIdx >= 0) {
+            try (InputStream sstInpStream = xssfReader.getSharedStringsData()) {
+                xmlParser.setContentHandler(sstHandler);
+                xmlParser.parse(new InputSource(sstInpStream));
+            } catch (StopParsingException ex) {
+                log.debug("Probed the shared strings up to idx{}", maxSstIdx);
+            }
+        }
+
+        // Header names
+        for (SheetHandler sheetHandler : sheetHandlers) {
+            for (Object value : sheetHandler.headerCells.values()) {
+                final String header = value instanceof Integer ? sstHandler.strings.get((Integer) value) : (String) value;
+                sheetHandler.sheetInfo.addHeader(header);
+            }
+        }
+
+        return workbookInfo;
+    }
+
+
+    // XLS
+    // ------------------------------------------------------------------------
+
+    /**
+     * Probes the file in place : the file is opened read-only, and only the blocks of the globals
+     * and of the sheet header rows are read.
+     */
+    static WorkbookInfo probeXls(File file) throws Exception {
+        try (SeekableFileSystem fs = new SeekableFileSystem(file)) {
+            final DocumentProperty workbook = fs.getWorkbookProperty();
+            if (workbook.shouldUseSmallBlocks()) {
+                // Tiny workbook, in the mini stream
+                return probeXls(fs);
+            }
+
+            // Globals
+            final WorkbookInfo workbookInfo = new WorkbookInfo();
+            final RecordsHandler handler = new RecordsHandler(workbookInfo);
+            try (InputStream wbInpStream = fs.createDocumentInputStream(workbook.getName())) {
+                processRecords(wbInpStream, handler);
+            }
+            if (handler.encrypted) {
+                // Sheet substreams can only be decrypted from the start of the stream
+                return probeXls(fs);
+            }
+
+            // Sheets, from their BOF up to the header row
+            for (BoundSheetRecord sheet : handler.getOrderedSheets()) {
+                handler.seekSheet();
+                try (InputStream sheetInpStream = fs.openAt(workbook, sheet.getPositionOfBof())) {
+                    processRecords(sheetInpStream, handler);
+                }
+            }
+            return workbookInfo;
+        }
+    }
+
+    /**
+     * Probes the workbook stream, buffered in memory.
+     */
+    static WorkbookInfo probeXls(InputStream is) throws Exception {
+        try (POIFSFileSystem fs = new POIFSFileSystem(is)) {
+            return probeXls(fs);
+        }
+    }
+
+    /**
+     * Walks the records of the workbook stream, up to the header row of the last sheet.
+     */
+    private static WorkbookInfo probeXls(POIFSFileSystem fs) throws Exception {
+        final WorkbookInfo workbookInfo = new WorkbookInfo();
+        final RecordsHandler handler = new RecordsHandler(workbookInfo);
+
+        final HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(new AbortableHSSFListener() {
+
+            @Override
+            public short abortableProcessRecord(Record record) {
+                return (short) (handler.process(record) && handler.isLastSheet() ? 1 : 0);
+            }
+        });
+
+        new HSSFEventFactory().abortableProcessWorkbookEvents(request, fs);
+        return workbookInfo;
+    }
+
+    /**
+     * Passes the records to the handler, up to the end of the substream part it needs.
+     */
+    private static void processRecords(InputStream is, RecordsHandler handler) {
+        final RecordFactoryInputStream recordStream = new RecordFactoryInputStream(is, false);
+        Record record;
+        while ((record = recordStream.nextRecord()) != null) {
+            if (handler.process(record)) {
+                return;
+            }
+        }
+    }
+
+
+    // Handlers
+    // ------------------------------------------------------------------------
+
+    /**
+     * Thrown to stop the SAX parsing, once the required data is read.
+     */
+    private static class StopParsingException extends SAXException {
+        private static final long serialVersionUID = 1L;
+    }
+
+
+    /**
+     * <code>workbook.xml</code> : date system, sheet names and their relation ids.
+     */
+    private static class WorkbookHandler extends DefaultHandler {
+
+        private static final String NS_RELATIONSHIPS =
+                "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+        boolean date1904;
+        final List<String> sheetNames = new ArrayList<>();
+        final List<String> sheetRelIds = new ArrayList<>();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attrs) {
+            if ("workbookPr".equals(localName)) {
+                final String date1904Val = attrs.getValue("date1904");
+                date1904 = "1".equals(date1904Val) || "true".equalsIgnoreCase(date1904Val);
+            } else if ("sheet".equals(localName)) {
+                sheetNames.add(attrs.getValue("name"));
+                sheetRelIds.add(attrs.getValue(NS_RELATIONSHIPS, "id"));
+            }
+        }
+    }
+
+
+    /**
+     * Sheet part : the <code>dimension</code> element and the cells of the first row. Header cells
+     * are kept as the raw text, or as the Integer index for shared strings.
+     */
+    private static class SheetHandler extends DefaultHandler {
+
+        final SheetInfo sheetInfo;
+        final Map<Integer, Object> headerCells = new TreeMap<>();
+
+        private int rowIdx;
+        private int colIdx = -1;
+        private String cellType;
+        private boolean inValue;
+        private final StringBuilder value = new StringBuilder();
+
+        SheetHandler(SheetInfo sheetInfo) {
+            this.sheetInfo = sheetInfo;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attrs) {
+            switch (localName) {
+                case "dimension":
+                    final CellRangeAddress range = CellRangeAddress.valueOf(attrs.getValue("ref"));
+                    sheetInfo.setExtents(range.getFirstRow(), range.getLastRow(), range.getFirstColumn(),
+                            range.getLastColumn());
+                    break;
+                case "row":
+                    final String r = attrs.getValue("r");
+                    rowIdx = r != null ? Integer.parseInt(r) - 1 : rowIdx;
+                    break;
+                case "c":
+                    final String ref = attrs.getValue("r");
+                    colIdx = ref != null ? new CellReference(ref).getCol() : colIdx + 1;
+                    cellType = attrs.getValue("t");
+                    value.setLength(0);
+                    break;
+                case "v":
+                case "t":
+                    inValue = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "c":
+                    if (value.length() > 0) {
+                        headerCells.put(colIdx, cellValue());
+                    }
+                    break;
+                case "row":
+                    if (!headerCells.isEmpty()) {
+                        sheetInfo.setHeaderRowNum(rowIdx);
+                        throw new StopParsingException();
+                    }
+                    rowIdx++;
+                    colIdx = -1;
+                    break;
+                case "sheetData":
+                    throw new StopParsingException();
+                default:
+                    break;
+            }
+        }
+
+        private Object cellValue() {
+            final String text = value.toString();
+            if ("s".equals(cellType)) {
+                return Integer.valueOf(text.trim());
+            }
+            if ("b".equals(cellType)) {
+                return "1".equals(text) ? "TRUE" : "FALSE";
+            }
+            return text;
+        }
+    }
+
+
+    /**
+     * <code>sharedStrings.xml</code> : reads the strings up to the passed max index. Phonetic runs
+     * are ignored.
+     */
+    private static class SharedStringsHandler extends DefaultHandler {
+
+        private final int maxIdx;
+        final List<String> strings = new ArrayList<>();
+
+        private boolean inText;
+        private boolean inPhonetic;
+        private final StringBuilder text = new StringBuilder();
+
+        SharedStringsHandler(int maxIdx) {
+            this.maxIdx = maxIdx;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attrs) {
+            if ("si".equals(localName)) {
+                text.setLength(0);
+            } else if ("rPh".equals(localName)) {
+                inPhonetic = true;
+            } else if ("t".equals(localName)) {
+                inText = !inPhonetic;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if ("t".equals(localName)) {
+                inText = false;
+            } else if ("rPh".equals(localName)) {
+                inPhonetic = false;
+            } else if ("si".equals(localName)) {
+                strings.add(text.toString());
+                if (strings.size() > maxIdx) {
+                    throw new StopParsingException();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * BIFF8 records : sheet names, date system, dimensions and the header row cells, of the
+     * globals and of the sheet substreams in their BOF order.
+     */
+    private static class RecordsHandler {
+
+        private final WorkbookInfo workbookInfo;
+
+        private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+        private SSTRecord sstRecord;
+        boolean encrypted;
+
+        private BoundSheetRecord[] orderedSheets;
+        private int depth;
+        private int sheetIdx = -1;
+        private SheetInfo sheetInfo;
+        private Map<Integer, String> headerCells;
+        private boolean headerDone;
+
+        RecordsHandler(WorkbookInfo workbookInfo) {
+            this.workbookInfo = workbookInfo;
+        }
+
+        BoundSheetRecord[] getOrderedSheets() {
+            if (orderedSheets == null) {
+                orderedSheets = BoundSheetRecord.orderByBofPosition(boundSheets);
+            }
+            return orderedSheets;
+        }
+
+        boolean isLastSheet() {
+            return orderedSheets != null && sheetIdx == orderedSheets.length - 1;
+        }
+
+        /**
+         * Resets the nesting depth, before jumping to the BOF of the next sheet.
+         */
+        void seekSheet() {
+            depth = 0;
+        }
+
+        /**
+         * @return true at the end of the globals, and once the header row of the current sheet is
+         *         read.
+         */
+        boolean process(Record record) {
+            switch (record.getSid()) {
+                case BoundSheetRecord.sid:
+                    boundSheets.add((BoundSheetRecord) record);
+                    break;
+                case SSTRecord.sid:
+                    sstRecord = (SSTRecord) record;
+                    break;
+                case DateWindow1904Record.sid:
+                    workbookInfo.setDate1904(((DateWindow1904Record) record).getWindowing() == 1);
+                    break;
+                case FilePassRecord.sid:
+                    encrypted = true;
+                    break;
+                case BOFRecord.sid:
+                    // Sheet substreams, charts embedded in a sheet are nested
+                    if (((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK && ++depth == 1) {
+                        startSheet();
+                    }
+                    break;
+                case DimensionsRecord.sid:
+                    if (depth == 1) {
+                        final DimensionsRecord dims = (DimensionsRecord) record;
+                        if (dims.getLastRow() > dims.getFirstRow()) {
+                            sheetInfo.setExtents(dims.getFirstRow(), dims.getLastRow() - 1, dims.getFirstCol(),
+                                    dims.getLastCol() - 1);
+                        }
+                    }
+                    break;
+                case EOFRecord.sid:
+                    if (depth == 0) {
+                        // End of the globals
+                        return true;
+                    }
+                    if (--depth == 0) {
+                        return endHeader();
+                    }
+                    break;
+                default:
+                    if (record instanceof CellValueRecordInterface && depth == 1 && !headerDone) {
+                        return cell((CellValueRecordInterface) record);
+                    }
+                    break;
+            }
+            return false;
+        }
+
+        private void startSheet() {
+            sheetIdx++;
+            sheetInfo = new SheetInfo(sheetIdx, getOrderedSheets()[sheetIdx].getSheetname());
+            headerCells = new TreeMap<>();
+            headerDone = false;
+            workbookInfo.addSheet(sheetInfo);
+        }
+
+        private boolean cell(CellValueRecordInterface cell) {
+            if (sheetInfo.getHeaderRowNum() < 0) {
+                sheetInfo.setHeaderRowNum(cell.getRow());
+            }
+            if (cell.getRow() > sheetInfo.getHeaderRowNum()) {
+                return endHeader();
+            }
+
+            final String value = cellValue(cell);
+            if (value != null && !value.isEmpty()) {
+                headerCells.put((int) cell.getColumn(), value);
+            }
+            return false;
+        }
+
+        private boolean endHeader() {
+            if (!headerDone) {
+                headerDone = true;
+                for (String header : headerCells.values()) {
+                    sheetInfo.addHeader(header);
+                }
+            }
+            return true;
+        }
+
+        private String cellValue(CellValueRecordInterface cell) {
+            if (cell instanceof LabelSSTRecord) {
+                return sstRecord.getString(((LabelSSTRecord) cell).getSSTIndex()).getString();
+            }
+            if (cell instanceof LabelRecord) {
+                return ((LabelRecord) cell).getValue();
+            }
+            if (cell instanceof NumberRecord) {
+                final double value = ((NumberRecord) cell).getValue();
+                return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+            }
+            if (cell instanceof BoolErrRecord && ((BoolErrRecord) cell).isBoolean()) {
+                return ((BoolErrRecord) cell).getBooleanValue() ? "TRUE" : "FALSE";
+            }
+            return null;
+        }
+    }
+
+
+
+    /**
+     * Read-only file system of a file, opening the workbook stream at any offset : the blocks
+     * chain is followed to the block of the offset, without reading the blocks before it.
+     */
+    private static final class SeekableFileSystem extends POIFSFileSystem {
+
+        SeekableFileSystem(File file) throws IOException {
+            super(file, true);
+        }
+
+        DocumentProperty getWorkbookProperty() throws IOException {
+            final String name = HSSFWorkbook.getWorkbookDirEntryName(this.getRoot());
+            for (Property property : this.getPropertyTable().getRoot()) {
+                if (property.isDirectory() || !name.equals(property.getName())) {
+                    continue;
+                }
+                return (DocumentProperty) property;
+            }
+            throw new FileNotFoundException("No workbook stream - " + name);
+        }
+
+        InputStream openAt(DocumentProperty document, int offset) throws IOException {
+            final int blockSize = this.getBigBlockSize();
+
+            int block = document.getStartBlock();
+            for (int i = 0; i < offset / blockSize; i++) {
+                block = this.getNextBlock(block);
+            }
+            return new BlocksInputStream(block, offset % blockSize, document.getSize() - offset);
+        }
+
+
+        /**
+         * The bytes of a blocks chain, from an offset in its first block.
+         */
+        private final class BlocksInputStream extends InputStream {
+
+            private int block;
+            private ByteBuffer buffer;
+            private int remaining;
+
+            BlocksInputStream(int block, int offset, int remaining) throws IOException {
+                this.block = block;
+                this.buffer = getBlockAt(block);
+                this.buffer.position(buffer.position() + offset);
+                this.remaining = Math.max(remaining, 0);
+            }
+
+            @Override
+            public int available() {
+                return remaining;
+            }
+
+            @Override
+            public int read() throws IOException {
+                final byte[] b = new byte[1];
+                return this.read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (remaining == 0) {
+                    return -1;
+                }
+                if (!buffer.hasRemaining()) {
+                    block = getNextBlock(block);
+                    buffer = getBlockAt(block);
+                }
+
+                final int n = Math.min(Math.min(len, buffer.remaining()), remaining);
+                buffer.get(b, off, n);
+                remaining -= n;
+                return n;
+            }
+        }
+    }
+
+}
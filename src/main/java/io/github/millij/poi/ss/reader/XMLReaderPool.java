@@ -0,0 +1,72 @@
+package io.github.millij.poi.ss.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.util.XMLHelper;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of the SAX {@link XMLReader}s of the xlsx reads, shared by all the readers. Creating a
+ * reader (parser factory lookup, secure processing setup) costs more than parsing a small sheet,
+ * while a reader can parse any number of documents one after another.
+ *
+ * <p>
+ * Thread-safe : a reader is owned by a single read between {@link #borrow()} and
+ * {@link #release(XMLReader)}.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+final class XMLReaderPool {
+
+    /**
+     * Max no. of idle readers kept.
+     */
+    static final int MAX_IDLE = 64;
+
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
+
+    private static final BlockingQueue<XMLReader> IDLE = new ArrayBlockingQueue<>(MAX_IDLE);
+
+
+    private XMLReaderPool() {
+        // Utility Class
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return an idle reader, or a new one when there is none.
+     */
+    static XMLReader borrow() throws SAXException, ParserConfigurationException {
+        final XMLReader xmlReader = IDLE.poll();
+        return xmlReader != null ? xmlReader : XMLHelper.newXMLReader();
+    }
+
+    /**
+     * Returns the reader to the pool, dropping the references to the handlers of the last parse.
+     * Readers beyond {@link #MAX_IDLE} are left to the GC.
+     *
+     * @param xmlReader the borrowed reader, can be null.
+     */
+    static void release(XMLReader xmlReader) {
+        if (xmlReader == null) {
+            return;
+        }
+
+        xmlReader.setContentHandler(NO_OP_HANDLER);
+        xmlReader.setErrorHandler(NO_OP_HANDLER);
+        if (!IDLE.offer(xmlReader)) {
+            log.debug("XMLReader pool is full, dropping the reader");
+        }
+    }
+
+}
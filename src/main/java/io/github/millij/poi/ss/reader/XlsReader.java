@@ -1,30 +1,51 @@
 package io.github.millij.poi.ss.reader;
 
+import io.github.millij.poi.OperationCancelledException;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.checkpoint.Checkpointer;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.jfr.JfrEvents;
+import io.github.millij.poi.ss.jfr.RowEventRecorder;
 import io.github.millij.poi.ss.model.ColumnMapping;
+import io.github.millij.poi.ss.model.RowFilter;
 import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.ss.model.WorkbookInfo;
+import io.github.millij.poi.util.CancellationToken;
 import io.github.millij.poi.util.Spreadsheet;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Workbook;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.Predicate;
 
 import static io.github.millij.poi.util.Beans.isInstantiableType;
 
 /**
  * Reader impletementation of {@link Workbook} for an POIFS file (.xls).
  *
+ * <p>
+ * Instances are thread-safe once configured : all the state of a read lives in the call. A single
+ * reader can so serve concurrent reads.
+ * </p>
+ *
  * @author milli, Fang Gang
  * @see XlsxReader
  */
 @Slf4j
 public class XlsReader extends AbstractSpreadsheetReader {
 
+    private boolean evaluateFormulas;
+
+
     // Constructor
 
     public XlsReader() {
@@ -32,6 +53,23 @@ public class XlsReader extends AbstractSpreadsheetReader {
     }
 
 
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * By default formula cells are read as the result cached in the file, without any evaluation.
+     * When enabled, the formulas are evaluated with a {@link FormulaEvaluator} instead, which is
+     * way slower and only needed for files saved without the results.
+     *
+     * @param evaluateFormulas true to evaluate the formula cells
+     * @return this reader
+     */
+    public XlsReader setEvaluateFormulas(boolean evaluateFormulas) {
+        this.evaluateFormulas = evaluateFormulas;
+        return this;
+    }
+
+
     // WorkbookReader Impl
     // ------------------------------------------------------------------------
 
@@ -44,8 +82,8 @@ public class XlsReader extends AbstractSpreadsheetReader {
 
         String sheetName = "";
 
-        try {
-            final HSSFWorkbook wb = new HSSFWorkbook(is);
+        // The workbook gets closed on failures and cancellations too
+        try (HSSFWorkbook wb = this.openWorkbook(is)) {
             final int sheetCount = wb.getNumberOfSheets();
             log.debug("Total no. of sheets found in HSSFWorkbook : #{}", sheetCount);
 
@@ -58,9 +96,10 @@ public class XlsReader extends AbstractSpreadsheetReader {
                 // Process Sheet
                 this.processSheet(beanClz, sheet, 0, listener);
             }
-
-            // Close workbook
-            wb.close();
+        } catch (OperationCancelledException ex) {
+            log.debug("HSSFSheet to Bean({}) cancelled - Sheet[{}] {}", beanClz.getSimpleName(), sheetName,
+                    ex.getReason());
+            throw ex;
         } catch (Exception ex) {
             log.error("HSSFSheet to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), sheetName, ex.getMessage());
             throw new SpreadsheetReadException(sheetName, ex);
@@ -78,18 +117,113 @@ public class XlsReader extends AbstractSpreadsheetReader {
 
         String sheetName = "";
 
-        try {
-            HSSFWorkbook wb = new HSSFWorkbook(is);
+        try (HSSFWorkbook wb = this.openWorkbook(is)) {
             final HSSFSheet sheet = wb.getSheetAt(sheetNo);
             sheetName = sheet.getSheetName();
 
             // Process Sheet
             this.processSheet(beanClz, sheet, 0, listener);
+        } catch (OperationCancelledException ex) {
+            log.debug("HSSFSheet to Bean({}) cancelled - Sheet[{}] {}", beanClz.getSimpleName(), sheetName,
+                    ex.getReason());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("HSSFSheet to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), sheetName, ex.getMessage());
+            throw new SpreadsheetReadException(sheetName, ex);
+        }
+    }
+
+
+    @Override
+    public void readRows(InputStream is, int sheetNo, RowListener<SheetRow> listener)
+            throws SpreadsheetReadException {
+        String sheetName = "";
+
+        try (HSSFWorkbook wb = this.openWorkbook(is)) {
+            final HSSFSheet sheet = wb.getSheetAt(sheetNo);
+            sheetName = sheet.getSheetName();
+            final FormulaEvaluator evaluator = this.formulaEvaluator(wb);
+            final CancellationToken cancellation = listener.cancellation();
+
+            for (Row row : sheet) {
+                if (cancellation != null) {
+                    cancellation.check();
+                }
+
+                SheetRow sheetRow = SheetRow.buildFromHSSFRow((HSSFRow) row, evaluator);
+                if (sheetRow.isEmpty()) {
+                    continue;
+                }
+
+                // Row Callback
+                listener.row(row.getRowNum(), sheetRow);
+            }
+        } catch (OperationCancelledException ex) {
+            log.debug("HSSFSheet to SheetRow cancelled - Sheet[{}] {}", sheetName, ex.getReason());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("HSSFSheet to SheetRow Error - Sheet[{}] {}", sheetName, ex.getMessage());
+            throw new SpreadsheetReadException(sheetName, ex);
+        }
+    }
+
+
+    // Resumable
+
+    /**
+     * Reads all the sheets like {@link #read(Class, InputStream, RowListener)}, saving the progress
+     * through the {@link Checkpointer}. When the checkpointer has a saved checkpoint, the read
+     * resumes after it.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * @param checkpointer the {@link Checkpointer} of the import
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    public <T> void read(Class<T> beanClz, InputStream is, RowListener<T> listener, Checkpointer checkpointer)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsReader :: Invalid bean type passed!");
+        }
 
-            // Close workbook
-            wb.close();
+        String sheetName = "";
+
+        try {
+            checkpointer.start();
+
+            // The workbook gets closed on failures and cancellations too
+            try (HSSFWorkbook wb = this.openWorkbook(is)) {
+                final int sheetCount = wb.getNumberOfSheets();
+
+                // Iterate over sheets
+                for (int i = 0; i < sheetCount; i++) {
+                    if (checkpointer.isSheetDone(i)) {
+                        continue;
+                    }
+
+                    final HSSFSheet sheet = wb.getSheetAt(i);
+                    sheetName = sheet.getSheetName();
+                    log.debug("Processing HSSFSheet at No. : {}", i);
+
+                    // Process Sheet
+                    this.processSheet(beanClz, sheet, 0, checkpointer.getFromRow(i), checkpointer.wrap(i, listener));
+                }
+            }
+
+            checkpointer.complete();
+        } catch (OperationCancelledException ex) {
+            log.debug("HSSFSheet to Bean({}) cancelled - Sheet[{}] {}", beanClz.getSimpleName(), sheetName,
+                    ex.getReason());
+            checkpointer.flush();
+            throw ex;
         } catch (Exception ex) {
             log.error("HSSFSheet to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), sheetName, ex.getMessage());
+            checkpointer.flush();
             throw new SpreadsheetReadException(sheetName, ex);
         }
     }
@@ -98,28 +232,113 @@ public class XlsReader extends AbstractSpreadsheetReader {
     // Sheet Process
 
     protected <T> void processSheet(Class<T> beanClz, HSSFSheet sheet, int headerRowNo, RowListener<T> rowListener) {
+        this.processSheet(beanClz, sheet, headerRowNo, 0, rowListener);
+    }
+
+    protected <T> void processSheet(Class<T> beanClz, HSSFSheet sheet, int headerRowNo, int fromRow,
+            RowListener<T> rowListener) {
         // Get header row data
-        final SheetRow headerRow = SheetRow.buildFromHSSFRow(sheet.getRow(headerRowNo));
-        final ColumnMapping<T> columnMapping = new ColumnMapping(beanClz, headerRow);
+        final FormulaEvaluator evaluator = this.formulaEvaluator(sheet.getWorkbook());
+        final SheetRow headerRow = SheetRow.buildFromHSSFRow(sheet.getRow(headerRowNo), evaluator);
+        final boolean date1904 = sheet.getWorkbook().getInternalWorkbook().isUsing1904DateWindowing();
+        final ColumnMapping<T> columnMapping = new ColumnMapping<>(beanClz, headerRow, date1904);
+        final RowFilter filter = rowListener.rowFilter();
+        final Predicate<SheetRow> rowFilter = filter != null ? filter.bind(headerRow) : null;
+
+        final JfrEvents.Sheet sheetEvent =
+                JfrEvents.sheetRead(sheet.getSheetName(), sheet.getWorkbook().getSheetIndex(sheet), beanClz.getName());
+        sheetEvent.begin();
+        final RowEventRecorder recorder = JfrEvents.rowEvents(beanClz);
+        final CancellationToken cancellation = rowListener.cancellation();
+        final ValidationPolicy validationPolicy = rowListener.validationPolicy();
 
+        long rowCount = 0;
+        T reusableBean = null;
         for (Row row : sheet) {
+            if (cancellation != null) {
+                cancellation.check();
+            }
+
             // Process Row Data
             int rowNum = row.getRowNum();
-            // Skip Header row
-            if (rowNum <= 0) {
+            // Skip Header row, and the rows before the range
+            if (rowNum <= 0 || rowNum < fromRow) {
                 continue;
             }
 
-            SheetRow sheetRow = SheetRow.buildFromHSSFRow((HSSFRow) row);
+            SheetRow sheetRow = SheetRow.buildFromHSSFRow((HSSFRow) row, evaluator);
             if (sheetRow.isEmpty()) {
                 log.warn("Row(idx{}) data is empty.", row.getRowNum());
                 continue;
             }
 
-            // Row data as Bean
-            T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping);
+            // Skip rows rejected by the filter, before building the bean
+            if (rowFilter != null && !rowFilter.test(sheetRow)) {
+                continue;
+            }
+
+            // Skip (or fail on) the invalid rows, per the policy
+            if (!validationPolicy.accept(columnMapping.getValidator(), sheetRow)) {
+                continue;
+            }
+
+            // Row data as Bean, refilling the same bean in the flyweight mode
+            final long bindStart = recorder.bindStart();
+            T rowBean = Spreadsheet.rowAsBean(sheetRow, columnMapping, reusableBean);
+            recorder.bindEnd(bindStart);
+            if (rowListener.reuseBean()) {
+                reusableBean = rowBean;
+            }
             // Row Callback
-            rowListener.row(rowNum, rowBean);
+            recorder.row(rowListener, rowNum, rowBean);
+            rowCount++;
+        }
+
+        recorder.finish();
+        sheetEvent.commit(rowCount);
+    }
+
+
+    // Probe
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads the sheet names, extents and header rows of the workbook from the BIFF records,
+     * without building the {@link HSSFWorkbook}. The file is read in place : only the workbook
+     * globals and the header rows are read, jumping to each sheet, whatever the no. of rows.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @return the {@link WorkbookInfo}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file is not
+     *         readable.
+     */
+    public WorkbookInfo probe(File file) throws SpreadsheetReadException {
+        try {
+            return WorkbookProbe.probeXls(file);
+        } catch (Exception ex) {
+            log.error("HSSFWorkbook probe Error - {}", ex.getMessage());
+            throw new SpreadsheetReadException(null, ex);
+        }
+    }
+
+    /**
+     * Reads the sheet names, extents and header rows of the workbook from the BIFF records,
+     * without building the {@link HSSFWorkbook}. The stream is buffered in memory, and the records
+     * are walked up to the header row of the last sheet : prefer {@link #probe(File)}.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @return the {@link WorkbookInfo}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    public WorkbookInfo probe(InputStream is) throws SpreadsheetReadException {
+        try {
+            return WorkbookProbe.probeXls(is);
+        } catch (Exception ex) {
+            log.error("HSSFWorkbook probe Error - {}", ex.getMessage());
+            throw new SpreadsheetReadException(null, ex);
         }
     }
 
@@ -127,4 +346,17 @@ public class XlsReader extends AbstractSpreadsheetReader {
     // Private Methods
     // ------------------------------------------------------------------------
 
+    private HSSFWorkbook openWorkbook(InputStream is) throws IOException {
+        final JfrEvents.Workbook openEvent = JfrEvents.workbookOpen("xls");
+        openEvent.begin();
+
+        final HSSFWorkbook wb = new HSSFWorkbook(is);
+        openEvent.commit(wb.getNumberOfSheets());
+        return wb;
+    }
+
+    private FormulaEvaluator formulaEvaluator(HSSFWorkbook wb) {
+        return evaluateFormulas ? wb.getCreationHelper().createFormulaEvaluator() : null;
+    }
+
 }
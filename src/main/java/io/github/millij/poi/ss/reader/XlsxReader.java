@@ -1,23 +1,43 @@
 package io.github.millij.poi.ss.reader;
 
+import io.github.millij.poi.OperationCancelledException;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.checkpoint.Checkpointer;
 import io.github.millij.poi.ss.handler.RowContentsHandler;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.RowRangeEndException;
+import io.github.millij.poi.ss.handler.SheetRowContentsHandler;
+import io.github.millij.poi.ss.index.RowOffsetIndex;
+import io.github.millij.poi.ss.jfr.JfrEvents;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.WorkbookInfo;
+import io.github.millij.poi.ss.snapshot.SheetSnapshotWriter;
+import io.github.millij.poi.util.StringPool;
 import lombok.Cleanup;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntFunction;
 
 import static io.github.millij.poi.util.Beans.isInstantiableType;
 
@@ -26,11 +46,26 @@ import static io.github.millij.poi.util.Beans.isInstantiableType;
  * Reader impletementation of {@link Workbook} for an OOXML .xlsx file. This implementation is
  * suitable for low memory sax parsing or similar.
  *
+ * <p>
+ * Instances are thread-safe once configured : all the state of a read lives in the call, and the
+ * SAX parsers are pooled across the reads. A single reader can so serve concurrent reads.
+ * </p>
+ *
  * @see XlsReader
  */
 @Slf4j
 public class XlsxReader extends AbstractSpreadsheetReader {
 
+    /**
+     * Default max no. of distinct strings pooled per read.
+     */
+    public static final int DEFAULT_STRING_POOL_SIZE = 4096;
+
+    private int stringPoolSize = DEFAULT_STRING_POOL_SIZE;
+
+    private boolean isoDates;
+
+
     // Constructor
 
     public XlsxReader() {
@@ -38,6 +73,37 @@ public class XlsxReader extends AbstractSpreadsheetReader {
     }
 
 
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * Sets the max no. of distinct strings pooled per read. Cells with equal values (same shared
+     * string, or equal inline value) then share one string instance, which cuts the heap retained
+     * by the read beans. <code>0</code> disables the pooling.
+     *
+     * @param stringPoolSize max no. of distinct strings pooled per read
+     * @return this reader
+     */
+    public XlsxReader setStringPoolSize(int stringPoolSize) {
+        this.stringPoolSize = stringPoolSize;
+        return this;
+    }
+
+    /**
+     * When enabled, date styled cells are read as ISO dates (<code>2020-01-31</code>) or date times
+     * (<code>2020-01-31T10:15:30</code>) converted from the serial number, instead of being
+     * formatted with the cell style. Such values bind to <code>LocalDate</code>,
+     * <code>LocalDateTime</code> and <code>Instant</code> bean properties, whatever the locale.
+     *
+     * @param isoDates true to read the dates as ISO strings
+     * @return this reader
+     */
+    public XlsxReader setIsoDates(boolean isoDates) {
+        this.isoDates = isoDates;
+        return this;
+    }
+
+
     // SpreadsheetReader Impl
     // ------------------------------------------------------------------------
 
@@ -61,22 +127,418 @@ public class XlsxReader extends AbstractSpreadsheetReader {
             throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed!");
         }
 
+        SheetContentsHandler sheetHandler = new RowContentsHandler<T>(beanClz, listener, 0);
+        this.processSheets(is, sheetNo, i -> sheetHandler, beanClz.getSimpleName());
+    }
+
+
+    // Resumable
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads all the sheets like {@link #read(Class, InputStream, RowListener)}, saving the progress
+     * through the {@link Checkpointer}. When the checkpointer has a saved checkpoint, the read
+     * resumes after it.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * @param checkpointer the {@link Checkpointer} of the import
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    public <T> void read(Class<T> beanClz, InputStream is, RowListener<T> listener, Checkpointer checkpointer)
+            throws SpreadsheetReadException {
+        this.readResumable(beanClz, is, null, listener, checkpointer);
+    }
+
+    /**
+     * Reads the requested sheet like {@link #read(Class, InputStream, int, RowListener)}, saving the
+     * progress through the {@link Checkpointer}. When the checkpointer has a saved checkpoint, the
+     * read resumes after it.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * @param checkpointer the {@link Checkpointer} of the import
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    public <T> void read(Class<T> beanClz, InputStream is, int sheetNo, RowListener<T> listener,
+            Checkpointer checkpointer) throws SpreadsheetReadException {
+        this.readResumable(beanClz, is, sheetNo, listener, checkpointer);
+    }
+
+    private <T> void readResumable(Class<T> beanClz, InputStream is, Integer sheetNo, RowListener<T> listener,
+            Checkpointer checkpointer) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed!");
+        }
+
+        try {
+            checkpointer.start();
+        } catch (IOException ex) {
+            throw new SpreadsheetReadException(null, ex);
+        }
+
+        try {
+            this.processSheets(is, sheetNo, i -> {
+                if (checkpointer.isSheetDone(i)) {
+                    return null;
+                }
+
+                RowContentsHandler<T> sheetHandler = new RowContentsHandler<T>(beanClz, checkpointer.wrap(i, listener));
+                sheetHandler.setRowRange(checkpointer.getFromRow(i), Integer.MAX_VALUE);
+                return sheetHandler;
+            }, beanClz.getSimpleName());
+        } catch (SpreadsheetReadException | OperationCancelledException ex) {
+            checkpointer.flush();
+            throw ex;
+        }
+
+        try {
+            checkpointer.complete();
+        } catch (IOException ex) {
+            log.warn("Failed to clear the checkpoint of import - {} : {}", checkpointer.getImportId(), ex.getMessage());
+        }
+    }
+
+
+    // Raw Rows
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads the requested sheet as raw {@link SheetRow}s, without mapping the rows to beans. The
+     * header row is passed to the listener as well.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener {@link RowListener} for the raw row callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    @Override
+    public void readRows(InputStream is, int sheetNo, RowListener<SheetRow> listener)
+            throws SpreadsheetReadException {
+        final SheetContentsHandler sheetHandler = new SheetRowContentsHandler(listener);
+        this.processSheets(is, sheetNo, i -> sheetHandler, SheetRow.class.getSimpleName());
+    }
+
+    /**
+     * Reads the requested sheet as raw {@link SheetRow}s, like
+     * {@link #readRows(InputStream, int, RowListener)}. The file is read in place, the workbook is
+     * not loaded in memory.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param listener {@link RowListener} for the raw row callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    @Override
+    public void readRows(File file, int sheetNo, RowListener<SheetRow> listener) throws SpreadsheetReadException {
+        final SheetContentsHandler sheetHandler = new SheetRowContentsHandler(listener);
+        this.processSheets(() -> OPCPackage.open(file, PackageAccess.READ), sheetNo, i -> sheetHandler,
+                SheetRow.class.getSimpleName(), null);
+    }
+
+
+    // Snapshot
+    // ------------------------------------------------------------------------
+
+    /**
+     * Converts the requested sheet to a binary snapshot file, which can later be read with the
+     * {@link SnapshotReader} without parsing the workbook again.
+     * <p>
+     * The columns are typed from the cells : numeric (not date styled) and boolean columns are
+     * stored as <code>Double</code> and <code>Boolean</code> blocks, and read back as such, like
+     * the .xls reads. Other columns keep the formatted strings.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be converted (index starts from 0)
+     * @param snapshotFile the snapshot {@link File} to be written.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or the snapshot could not be written.
+     */
+    public void writeSnapshot(InputStream is, int sheetNo, File snapshotFile) throws SpreadsheetReadException {
         String sheetName = "";
+        final int headerRowNum = 0;
+        try (SheetSnapshotWriter snapshotWriter = new SheetSnapshotWriter(headerRowNum)) {
+            sheetName = this.processSheets(() -> OPCPackage.open(is), sheetNo,
+                    i -> new SheetRowContentsHandler(snapshotWriter), "Snapshot", headerRowNum);
+
+            snapshotWriter.setSheetName(sheetName);
+            snapshotWriter.writeTo(snapshotFile);
+        } catch (IOException | UncheckedIOException ex) {
+            log.error("XSSFSheet to Snapshot({}) Error - Sheet[{}] {}", snapshotFile, sheetName, ex.getMessage());
+            throw new SpreadsheetReadException(sheetName, ex);
+        }
+    }
 
+
+    // Row Range
+    // ------------------------------------------------------------------------
+
+    /**
+     * Returns the {@link RowOffsetIndex} of the file, loaded from beside the file when it is still
+     * valid, or else built with a first pass over the sheets and saved beside the file.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param interval no. of rows between the index checkpoints
+     * @return the {@link RowOffsetIndex}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    public RowOffsetIndex getRowIndex(File file, int interval) throws SpreadsheetReadException {
+        final File indexFile = RowOffsetIndex.indexFileOf(file);
+        if (indexFile.exists()) {
+            try {
+                final RowOffsetIndex index = RowOffsetIndex.load(indexFile);
+                if (index.isValidFor(file) && index.getInterval() == interval) {
+                    return index;
+                }
+            } catch (IOException ex) {
+                log.warn("Ignoring the unreadable row index - {} : {}", indexFile, ex.getMessage());
+            }
+        }
+
+        final RowOffsetIndex index = this.buildRowIndex(file, interval);
+        try {
+            index.save(indexFile);
+        } catch (IOException ex) {
+            log.warn("Failed to save the row index - {} : {}", indexFile, ex.getMessage());
+        }
+        return index;
+    }
+
+    /**
+     * Builds the {@link RowOffsetIndex} of all the sheets of the file.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @param interval no. of rows between the index checkpoints
+     * @return the {@link RowOffsetIndex}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    public RowOffsetIndex buildRowIndex(File file, int interval) throws SpreadsheetReadException {
+        final RowOffsetIndex index = new RowOffsetIndex(file, interval);
+
+        OPCPackage opcPkg = null;
+        String sheetName = "";
+        try {
+            opcPkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader.SheetIterator worksheets = (XSSFReader.SheetIterator) new XSSFReader(opcPkg).getSheetsData();
+            while (worksheets.hasNext()) {
+                try (InputStream sheetInpStream = worksheets.next()) {
+                    log.debug("Indexing the XSSFSheet : {}.", sheetName = worksheets.getSheetName());
+                    index.addSheet(sheetInpStream);
+                }
+            }
+        } catch (Exception ex) {
+            log.error("XSSFSheet Index Error - Sheet[{}] {}", sheetName, ex.getMessage());
+            throw new SpreadsheetReadException(sheetName, ex);
+        } finally {
+            if (opcPkg != null) {
+                opcPkg.revert();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reads the rows in the range (both inclusive) of the requested sheet. With a
+     * {@link RowOffsetIndex}, parsing starts at the nearest indexed row instead of the first row.
+     * In all the cases the parsing stops at the end of the range.
+     *
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 0)
+     * @param fromRow first row number (indexed from 0)
+     * @param toRow last row number (indexed from 0)
+     * @param index the {@link RowOffsetIndex} of the file, can be null.
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable or row data to bean mapping failed.
+     */
+    public <T> void read(Class<T> beanClz, File file, int sheetNo, int fromRow, int toRow, RowOffsetIndex index,
+            RowListener<T> listener) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed!");
+        }
+        if (index != null && !index.isValidFor(file)) {
+            log.warn("Ignoring the row index, the file changed since - {}", file);
+            index = null;
+        }
+
+        String sheetName = "";
+        OPCPackage opcPkg = null;
+        XMLReader xmlParser = null;
+        try {
+            opcPkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader xssfReader = new XSSFReader(opcPkg);
+
+            // Content Handler
+            StylesTable styles = xssfReader.getStylesTable();
+            SharedStrings ssTable = this.sharedStrings(opcPkg);
+            RowContentsHandler<T> sheetHandler = new RowContentsHandler<T>(beanClz, listener, 0);
+            sheetHandler.setRowRange(fromRow, toRow);
+
+            xmlParser = XMLReaderPool.borrow();
+            DataFormatter formatter = this.dataFormatter(xssfReader);
+            xmlParser.setContentHandler(
+                    new XSSFSheetXMLHandler(styles, ssTable, this.pooled(sheetHandler), formatter, false));
+
+            XSSFReader.SheetIterator worksheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            for (int i = 0; worksheets.hasNext(); i++) {
+                @Cleanup InputStream sheetInpStream = worksheets.next();
+                if (sheetNo != i) {
+                    continue;
+                }
+                log.info("Reading the XSSFSheet(idx{}): {}, rows {} - {}.", i, sheetName = worksheets.getSheetName(),
+                        fromRow, toRow);
+
+                final RowOffsetIndex.SheetIndex sheetIndex = index != null ? index.getSheet(i) : null;
+                InputStream inpStream = sheetIndex != null ? sheetIndex.open(sheetInpStream, fromRow) : sheetInpStream;
+                try {
+                    xmlParser.parse(new InputSource(inpStream));
+                } catch (RowRangeEndException ex) {
+                    log.debug("XSSFSheet(idx{}) read up to row {}.", i, toRow);
+                }
+                break;
+            }
+        } catch (OperationCancelledException ex) {
+            log.debug("XSSFSheet to Bean({}) cancelled - Sheet[{}] {}", beanClz.getSimpleName(), sheetName,
+                    ex.getReason());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("XSSFSheet to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), sheetName, ex.getMessage());
+            throw new SpreadsheetReadException(sheetName, ex);
+        } finally {
+            XMLReaderPool.release(xmlParser);
+            if (opcPkg != null) {
+                opcPkg.revert();
+            }
+        }
+    }
+
+    public <T> List<T> read(Class<T> beanClz, File file, int sheetNo, int fromRow, int toRow, RowOffsetIndex index)
+            throws SpreadsheetReadException {
+        final List<T> sheetBeans = new ArrayList<T>();
+        this.read(beanClz, file, sheetNo, fromRow, toRow, index, (rowNum, rowObj) -> {
+            if (rowObj != null) {
+                sheetBeans.add(rowObj);
+            }
+        });
+        return sheetBeans;
+    }
+
+
+    // Probe
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads the sheet names, extents and header rows of the workbook, without parsing the sheets
+     * data. The package is opened read-only and only the required parts are inflated.
+     *
+     * @param file {@link File} object of the spreadsheet file
+     * @return the {@link WorkbookInfo}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file is not
+     *         readable.
+     */
+    public WorkbookInfo probe(File file) throws SpreadsheetReadException {
+        OPCPackage opcPkg = null;
+        try {
+            opcPkg = OPCPackage.open(file, PackageAccess.READ);
+            return WorkbookProbe.probeXlsx(opcPkg);
+        } catch (Exception ex) {
+            log.error("XSSFWorkbook probe Error - {}", ex.getMessage());
+            throw new SpreadsheetReadException(null, ex);
+        } finally {
+            if (opcPkg != null) {
+                opcPkg.revert();
+            }
+        }
+    }
+
+    /**
+     * Reads the sheet names, extents and header rows of the workbook, without parsing the sheets
+     * data. Note that the whole stream is read to open the package, prefer
+     * {@link #probe(File)} for large files.
+     *
+     * @param is {@link InputStream} of the spreadsheet file
+     * @return the {@link WorkbookInfo}
+     *
+     * @throws SpreadsheetReadException an exception is thrown in cases where the file data is not
+     *         readable.
+     */
+    public WorkbookInfo probe(InputStream is) throws SpreadsheetReadException {
         try (final OPCPackage opcPkg = OPCPackage.open(is)) {
+            return WorkbookProbe.probeXlsx(opcPkg);
+        } catch (Exception ex) {
+            log.error("XSSFWorkbook probe Error - {}", ex.getMessage());
+            throw new SpreadsheetReadException(null, ex);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Parses the sheets of the workbook, each with the {@link SheetContentsHandler} returned for
+     * its index. Sheets for which no handler is returned are skipped.
+     */
+    private String processSheets(InputStream is, Integer sheetNo, IntFunction<SheetContentsHandler> sheetHandlers,
+            String target) throws SpreadsheetReadException {
+        return this.processSheets(() -> OPCPackage.open(is), sheetNo, sheetHandlers, target, null);
+    }
+
+    /**
+     * With a <code>typedAfterRow</code>, the handlers must be {@link SheetRowContentsHandler}s,
+     * passed the typed cell values of the rows after it, see {@link TypedSheetXMLHandler}.
+     *
+     * @param packageOpener opens the package, read from a stream (held in memory) or from a file
+     *        (read in place, the package is then reverted, never saved).
+     */
+    private String processSheets(Callable<OPCPackage> packageOpener, Integer sheetNo,
+            IntFunction<SheetContentsHandler> sheetHandlers, String target, Integer typedAfterRow)
+            throws SpreadsheetReadException {
+        String sheetName = "";
+        OPCPackage opcPkg = null;
+        XMLReader xmlParser = null;
+
+        final JfrEvents.Workbook openEvent = JfrEvents.workbookOpen("xlsx");
+        openEvent.begin();
+        try {
+            opcPkg = packageOpener.call();
             // XSSF Reader
             XSSFReader xssfReader = new XSSFReader(opcPkg);
+            openEvent.commit(
+                    openEvent.isEnabled() ? WorkbookProbe.sheetCount(xssfReader) : JfrEvents.Workbook.UNKNOWN_SHEETS);
 
             // Content Handler
             StylesTable styles = xssfReader.getStylesTable();
-            ReadOnlySharedStringsTable ssTable = new ReadOnlySharedStringsTable(opcPkg, false);
-            SheetContentsHandler sheetHandler = new RowContentsHandler<T>(beanClz, listener, 0);
-
-            ContentHandler handler = new XSSFSheetXMLHandler(styles, ssTable, sheetHandler, true);
+            SharedStrings ssTable = this.sharedStrings(opcPkg);
+            StringPool stringPool = new StringPool(stringPoolSize);
+            DataFormatter formatter = this.dataFormatter(xssfReader);
 
             // XML Reader
-            XMLReader xmlParser = XMLHelper.newXMLReader();
-            xmlParser.setContentHandler(handler);
+            xmlParser = XMLReaderPool.borrow();
 
             // Iterate over sheets
             XSSFReader.SheetIterator worksheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
@@ -87,14 +549,81 @@ public class XlsxReader extends AbstractSpreadsheetReader {
                 if (sheetNo != null && sheetNo != i) {
                     continue;
                 }
+
+                final SheetContentsHandler sheetHandler = sheetHandlers.apply(i);
+                if (sheetHandler == null) {
+                    log.info("Skipping the XSSFSheet(idx{}): {}.", i, worksheets.getSheetName());
+                    continue;
+                }
                 log.info("Reading the XSSFSheet(idx{}): {}.", i, sheetName = worksheets.getSheetName());
-                // Parse Sheet
-                xmlParser.parse(new InputSource(sheetInpStream));
+
+                // Parse Sheet, counting the rows only when recording
+                final JfrEvents.Sheet sheetEvent = JfrEvents.sheetRead(sheetName, i, target);
+                sheetEvent.begin();
+                final CountingContentsHandler counting =
+                        sheetEvent.isEnabled() ? new CountingContentsHandler(sheetHandler, sheetInpStream) : null;
+
+                final ContentHandler handler;
+                if (typedAfterRow != null) {
+                    final SheetContentsHandler rows = counting != null ? counting : sheetHandler;
+                    handler = new TypedSheetXMLHandler(styles, ssTable, rows, (SheetRowContentsHandler) sheetHandler,
+                            formatter, typedAfterRow);
+                } else {
+                    SheetContentsHandler pooledHandler =
+                            this.pooled(counting != null ? counting : sheetHandler, stringPool);
+                    handler = new XSSFSheetXMLHandler(styles, ssTable, pooledHandler, formatter, false);
+                }
+                xmlParser.setContentHandler(handler);
+                xmlParser.parse(new InputSource(counting != null ? counting.getInputStream() : sheetInpStream));
+
+                if (counting != null) {
+                    sheetEvent.commit(counting.getRowCount(), counting.getByteCount());
+                }
             }
+        } catch (OperationCancelledException ex) {
+            log.debug("XSSFSheet to Bean({}) cancelled - Sheet[{}] {}", target, sheetName, ex.getReason());
+            throw ex;
         } catch (Exception ex) {
-            log.error("XSSFSheet to Bean({}) Error - Sheet[{}] {}", beanClz.getSimpleName(), sheetName, ex.getMessage());
+            log.error("XSSFSheet to Bean({}) Error - Sheet[{}] {}", target, sheetName, ex.getMessage());
             throw new SpreadsheetReadException(sheetName, ex);
+        } finally {
+            XMLReaderPool.release(xmlParser);
+            closePackage(opcPkg);
+        }
+
+        return sheetName;
+    }
+
+    private static void closePackage(OPCPackage opcPkg) {
+        if (opcPkg == null) {
+            return;
+        }
+        if (opcPkg.getPackageAccess() == PackageAccess.READ) {
+            opcPkg.revert();
+            return;
         }
+        try {
+            opcPkg.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close the OPCPackage - {}", ex.getMessage());
+        }
+    }
+
+    private DataFormatter dataFormatter(XSSFReader xssfReader) throws Exception {
+        return isoDates ? new IsoDateFormatter(WorkbookProbe.isDate1904(xssfReader)) : new DataFormatter();
+    }
+
+    private SharedStrings sharedStrings(OPCPackage opcPkg) throws IOException, SAXException {
+        final ReadOnlySharedStringsTable ssTable = new ReadOnlySharedStringsTable(opcPkg, false);
+        return stringPoolSize > 0 ? new PooledSharedStrings(ssTable, stringPoolSize) : ssTable;
+    }
+
+    private SheetContentsHandler pooled(SheetContentsHandler sheetHandler) {
+        return this.pooled(sheetHandler, new StringPool(stringPoolSize));
+    }
+
+    private SheetContentsHandler pooled(SheetContentsHandler sheetHandler, StringPool stringPool) {
+        return stringPoolSize > 0 ? new PooledContentsHandler(sheetHandler, stringPool) : sheetHandler;
     }
 
 }
@@ -0,0 +1,266 @@
+package io.github.millij.poi.ss.snapshot;
+
+import io.github.millij.poi.ss.model.SheetRow;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a columnar binary sheet snapshot, written by {@link SheetSnapshotWriter}.
+ *
+ * <p>
+ * Layout (big endian) :
+ * </p>
+ * <pre>
+ * int     magic, short version
+ * string  sheet name
+ * int     header row number
+ * int     column count, then per column : int column index, string reference, string name, byte type
+ * int     row count, then int[row count] row numbers
+ * blocks  per column, depending on the type :
+ *         STRING  - int dictionary size, dictionary strings, int[row count] codes (-1 for null)
+ *         DOUBLE  - presence bitmap, double[row count]
+ *         BOOLEAN - presence bitmap, value bitmap
+ * </pre>
+ * Strings are written as int length (-1 for null) followed by the UTF-8 bytes, bitmaps as
+ * <code>(row count + 63) / 64</code> longs.
+ *
+ * <p>
+ * Snapshot files are memory-mapped, so at most 2GB per file.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+public final class SheetSnapshot implements Closeable {
+
+    static final int MAGIC = 0x454F4D53;
+    static final short VERSION = 1;
+
+    static final byte TYPE_STRING = 1;
+    static final byte TYPE_DOUBLE = 2;
+    static final byte TYPE_BOOLEAN = 3;
+
+    private final ByteBuffer buffer;
+    private final FileChannel channel;
+
+    @Getter
+    private final String sheetName;
+
+    @Getter
+    private final int headerRowNum;
+
+    @Getter
+    private final int rowCount;
+
+    private final Column[] columns;
+    private final int rowNumsOffset;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private SheetSnapshot(ByteBuffer buffer, FileChannel channel) throws IOException {
+        this.buffer = buffer;
+        this.channel = channel;
+
+        final ByteBuffer in = buffer.duplicate();
+        if (in.getInt() != MAGIC || in.getShort() != VERSION) {
+            throw new IOException("Not a sheet snapshot, or unsupported snapshot version");
+        }
+
+        this.sheetName = readString(in);
+        this.headerRowNum = in.getInt();
+
+        this.columns = new Column[in.getInt()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = new Column(in.getInt(), readString(in), readString(in), in.get());
+        }
+
+        this.rowCount = in.getInt();
+        this.rowNumsOffset = in.position();
+        in.position(rowNumsOffset + rowCount * 4);
+
+        final int words = bitmapWords(rowCount);
+        for (Column column : columns) {
+            switch (column.type) {
+                case TYPE_STRING:
+                    column.dictionary = new String[in.getInt()];
+                    for (int d = 0; d < column.dictionary.length; d++) {
+                        column.dictionary[d] = readString(in);
+                    }
+                    column.dataOffset = in.position();
+                    in.position(column.dataOffset + rowCount * 4);
+                    break;
+                case TYPE_DOUBLE:
+                    column.presenceOffset = in.position();
+                    column.dataOffset = column.presenceOffset + words * 8;
+                    in.position(column.dataOffset + rowCount * 8);
+                    break;
+                case TYPE_BOOLEAN:
+                    column.presenceOffset = in.position();
+                    column.dataOffset = column.presenceOffset + words * 8;
+                    in.position(column.dataOffset + words * 8);
+                    break;
+                default:
+                    throw new IOException("Unknown snapshot column type - " + column.type);
+            }
+        }
+    }
+
+
+    // Static Factories
+    // ------------------------------------------------------------------------
+
+    /**
+     * Memory-maps the snapshot file. The file is kept open until the snapshot is closed.
+     *
+     * @param file the snapshot {@link File}
+     * @return the {@link SheetSnapshot}
+     * @throws IOException if the file is not readable or is not a snapshot.
+     */
+    public static SheetSnapshot open(File file) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large to be mapped - " + file);
+            }
+
+            return new SheetSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), channel);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Wraps the snapshot bytes that are already in memory.
+     *
+     * @param bytes the snapshot bytes
+     * @return the {@link SheetSnapshot}
+     * @throws IOException if the bytes are not a snapshot.
+     */
+    public static SheetSnapshot wrap(byte[] bytes) throws IOException {
+        return new SheetSnapshot(ByteBuffer.wrap(bytes), null);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Builds the header row, i.e., the column names at their column references.
+     *
+     * @return the header {@link SheetRow}
+     */
+    public SheetRow getHeaderRow() {
+        final SheetRow headerRow = new SheetRow(headerRowNum);
+        for (Column column : columns) {
+            headerRow.addCell(column.colIdx, column.colRef, column.colName);
+        }
+        return headerRow;
+    }
+
+    /**
+     * Row number in the sheet of the row at the passed position.
+     *
+     * @param idx position of the row in the snapshot (indexed from 0)
+     * @return the row number in the sheet (indexed from 0)
+     */
+    public int getRowNum(int idx) {
+        return buffer.getInt(rowNumsOffset + idx * 4);
+    }
+
+    /**
+     * Builds the data row at the passed position.
+     *
+     * @param idx position of the row in the snapshot (indexed from 0)
+     * @return the {@link SheetRow}, with only the non-null cells.
+     */
+    public SheetRow getRow(int idx) {
+        final SheetRow sheetRow = new SheetRow(getRowNum(idx));
+        for (Column column : columns) {
+            final Object value = getValue(column, idx);
+            if (value != null) {
+                sheetRow.addCell(column.colIdx, column.colRef, value);
+            }
+        }
+        return sheetRow;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private Object getValue(Column column, int idx) {
+        switch (column.type) {
+            case TYPE_STRING:
+                final int code = buffer.getInt(column.dataOffset + idx * 4);
+                return code < 0 ? null : column.dictionary[code];
+            case TYPE_DOUBLE:
+                return isSet(column.presenceOffset, idx) ? buffer.getDouble(column.dataOffset + idx * 8) : null;
+            case TYPE_BOOLEAN:
+                return isSet(column.presenceOffset, idx) ? isSet(column.dataOffset, idx) : null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isSet(int bitmapOffset, int idx) {
+        final long word = buffer.getLong(bitmapOffset + (idx >>> 6) * 8);
+        return ((word >>> (idx & 63)) & 1L) != 0;
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int bitmapWords(int rowCount) {
+        return (rowCount + 63) >>> 6;
+    }
+
+
+    private static class Column {
+
+        final int colIdx;
+        final String colRef;
+        final String colName;
+        final byte type;
+
+        String[] dictionary;
+        int presenceOffset;
+        int dataOffset;
+
+        Column(int colIdx, String colRef, String colName, byte type) {
+            this.colIdx = colIdx;
+            this.colRef = colRef;
+            this.colName = colName;
+            this.type = type;
+        }
+    }
+
+}
@@ -0,0 +1,357 @@
+package io.github.millij.poi.ss.snapshot;
+
+import io.github.millij.poi.ColumnNotFoundException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetRow;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.util.NumberToTextConverter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.millij.poi.ss.snapshot.SheetSnapshot.*;
+
+/**
+ * Collects the raw rows of a sheet and writes them as a columnar binary snapshot, see
+ * {@link SheetSnapshot} for the layout.
+ * <p>
+ * Only the columns present in the header row are kept. The cell values are spooled column-wise
+ * to temporary files as they come, and {@link #writeTo(File)} streams the column blocks from
+ * them : only the string dictionaries and the row numbers are held in memory.
+ * <p>
+ * A column is written as a <code>DOUBLE</code> (or <code>BOOLEAN</code>) block when all its
+ * values are <code>Double</code>s (or <code>Boolean</code>s), else as a <code>STRING</code>
+ * block, the numbers and booleans rendered as Excel displays them in the <code>General</code>
+ * format. {@link #close()} deletes the spooled files.
+ *
+ * @author Fang Gang
+ */
+@Slf4j
+public class SheetSnapshotWriter implements RowListener<SheetRow>, Closeable {
+
+    private static final byte TYPE_NULL = 0;
+
+    private final int headerRowNum;
+
+    @Setter
+    private String sheetName;
+
+    private final List<Column> columns;
+
+    private int[] rowNums;
+
+    private int rowCount;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SheetSnapshotWriter(int headerRowNum) {
+        this.headerRowNum = headerRowNum;
+        this.columns = new ArrayList<>();
+        this.rowNums = new int[64];
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void row(int rowNum, SheetRow sheetRow) {
+        // Skip rows before header row
+        if (rowNum < headerRowNum) {
+            return;
+        }
+
+        try {
+            if (rowNum == headerRowNum) {
+                for (String colRef : sheetRow.getCellColRefs()) {
+                    final SheetRow.Cell cell = sheetRow.getCell(colRef);
+                    columns.add(new Column(cell.getAddress().getColumn(), colRef, String.valueOf(cell.getValue())));
+                }
+                columns.sort(Comparator.comparingInt(c -> c.colIdx));
+                return;
+            }
+
+            if (columns.isEmpty()) {
+                throw new ColumnNotFoundException(headerRowNum);
+            }
+
+            if (rowCount == rowNums.length) {
+                rowNums = Arrays.copyOf(rowNums, rowCount * 2);
+            }
+            rowNums[rowCount++] = rowNum;
+
+            for (Column column : columns) {
+                column.add(sheetRow.getCellValue(column.colRef));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to spool the snapshot row - " + rowNum, ex);
+        }
+    }
+
+
+    // Write
+    // ------------------------------------------------------------------------
+
+    /**
+     * Writes the collected rows to the snapshot file.
+     *
+     * @param file the snapshot {@link File} to be written.
+     * @throws IOException if the file could not be written.
+     */
+    public void writeTo(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            // Header
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeString(out, sheetName);
+            out.writeInt(headerRowNum);
+
+            out.writeInt(columns.size());
+            for (Column column : columns) {
+                column.finish();
+
+                out.writeInt(column.colIdx);
+                writeString(out, column.colRef);
+                writeString(out, column.colName);
+                out.writeByte(column.type);
+            }
+
+            // Rows
+            out.writeInt(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                out.writeInt(rowNums[i]);
+            }
+
+            // Column Blocks
+            for (Column column : columns) {
+                column.writeBlock(out, rowCount);
+            }
+        }
+        log.info("Sheet[{}] snapshot written to {} : {} rows, {} columns", sheetName, file, rowCount, columns.size());
+    }
+
+    /**
+     * Deletes the spooled column files.
+     */
+    @Override
+    public void close() {
+        for (Column column : columns) {
+            column.close();
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeBitmap(DataOutputStream out, long[] words) throws IOException {
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+
+    /**
+     * Column spool : a type tag per row, followed by the dictionary code, the double or the
+     * boolean. Strings are dictionary coded while collecting.
+     */
+    private static class Column implements Closeable {
+
+        final int colIdx;
+        final String colRef;
+        final String colName;
+
+        final Path spool;
+        final DataOutputStream spoolOut;
+
+        final Map<String, Integer> dictionary = new HashMap<>();
+        final List<String> entries = new ArrayList<>();
+
+        boolean hasString;
+        boolean hasDouble;
+        boolean hasBoolean;
+
+        byte type;
+
+        Column(int colIdx, String colRef, String colName) throws IOException {
+            this.colIdx = colIdx;
+            this.colRef = colRef;
+            this.colName = colName;
+            this.spool = Files.createTempFile("snapshot-column-", ".spool");
+            this.spoolOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spool)));
+        }
+
+        void add(Object value) throws IOException {
+            if (value == null) {
+                spoolOut.writeByte(TYPE_NULL);
+            } else if (value instanceof Double) {
+                hasDouble = true;
+                spoolOut.writeByte(TYPE_DOUBLE);
+                spoolOut.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                hasBoolean = true;
+                spoolOut.writeByte(TYPE_BOOLEAN);
+                spoolOut.writeBoolean((Boolean) value);
+            } else {
+                hasString = true;
+                spoolOut.writeByte(TYPE_STRING);
+                spoolOut.writeInt(code(String.valueOf(value)));
+            }
+        }
+
+        void finish() throws IOException {
+            spoolOut.close();
+
+            if (hasDouble && !hasBoolean && !hasString) {
+                type = TYPE_DOUBLE;
+            } else if (hasBoolean && !hasDouble && !hasString) {
+                type = TYPE_BOOLEAN;
+            } else {
+                type = TYPE_STRING;
+            }
+        }
+
+        void writeBlock(DataOutputStream out, int rowCount) throws IOException {
+            switch (type) {
+                case TYPE_DOUBLE:
+                    writeDoubles(out, rowCount);
+                    break;
+                case TYPE_BOOLEAN:
+                    writeBooleans(out, rowCount);
+                    break;
+                default:
+                    writeStrings(out, rowCount);
+                    break;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                spoolOut.close();
+                Files.deleteIfExists(spool);
+            } catch (IOException ex) {
+                log.warn("Failed to delete the snapshot spool - {} : {}", spool, ex.getMessage());
+            }
+        }
+
+        private int code(String value) {
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                code = entries.size();
+                dictionary.put(value, code);
+                entries.add(value);
+            }
+            return code;
+        }
+
+        private DataInputStream openSpool() throws IOException {
+            return new DataInputStream(new BufferedInputStream(Files.newInputStream(spool)));
+        }
+
+        private void writeStrings(DataOutputStream out, int rowCount) throws IOException {
+            // Mixed columns : the numbers and booleans as strings, coded in a first pass
+            if (hasDouble || hasBoolean) {
+                try (DataInputStream in = openSpool()) {
+                    for (int i = 0; i < rowCount; i++) {
+                        readAsString(in);
+                    }
+                }
+            }
+
+            out.writeInt(entries.size());
+            for (String entry : entries) {
+                writeString(out, entry);
+            }
+            try (DataInputStream in = openSpool()) {
+                for (int i = 0; i < rowCount; i++) {
+                    out.writeInt(readAsString(in));
+                }
+            }
+        }
+
+        /**
+         * @return the dictionary code of the next spooled value, <code>-1</code> for null.
+         */
+        private int readAsString(DataInputStream in) throws IOException {
+            switch (in.readByte()) {
+                case TYPE_STRING:
+                    return in.readInt();
+                case TYPE_DOUBLE:
+                    return code(NumberToTextConverter.toText(in.readDouble()));
+                case TYPE_BOOLEAN:
+                    return code(in.readBoolean() ? "TRUE" : "FALSE");
+                default:
+                    return -1;
+            }
+        }
+
+        private void writeDoubles(DataOutputStream out, int rowCount) throws IOException {
+            final long[] present = new long[bitmapWords(rowCount)];
+            try (DataInputStream in = openSpool()) {
+                for (int i = 0; i < rowCount; i++) {
+                    if (in.readByte() != TYPE_NULL) {
+                        present[i >>> 6] |= 1L << (i & 63);
+                        in.readDouble();
+                    }
+                }
+            }
+
+            writeBitmap(out, present);
+            try (DataInputStream in = openSpool()) {
+                for (int i = 0; i < rowCount; i++) {
+                    out.writeDouble(in.readByte() != TYPE_NULL ? in.readDouble() : 0D);
+                }
+            }
+        }
+
+        private void writeBooleans(DataOutputStream out, int rowCount) throws IOException {
+            final long[] present = new long[bitmapWords(rowCount)];
+            final long[] bits = new long[bitmapWords(rowCount)];
+            try (DataInputStream in = openSpool()) {
+                for (int i = 0; i < rowCount; i++) {
+                    if (in.readByte() != TYPE_NULL) {
+                        present[i >>> 6] |= 1L << (i & 63);
+                        if (in.readBoolean()) {
+                            bits[i >>> 6] |= 1L << (i & 63);
+                        }
+                    }
+                }
+            }
+
+            writeBitmap(out, present);
+            writeBitmap(out, bits);
+        }
+    }
+
+}
@@ -0,0 +1,408 @@
+package io.github.millij.poi.ss.transform;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+import io.github.millij.poi.ss.writer.StreamingSpreadsheetWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Streaming "read, transform, write" of a sheet. The rows are read, passed through the
+ * {@link #map(Function)} / {@link #filter(Predicate)} stages and written to a
+ * {@link StreamingSpreadsheetWriter}, without collecting the sheet in memory.
+ *
+ * <p>
+ * Parsing, transform and write run on their own threads, connected by bounded queues of
+ * {@link #setBufferSize(int)} rows : at most twice that many beans are in flight, and a slow stage
+ * holds back the ones before it.
+ * </p>
+ *
+ * <pre>
+ * SheetPipeline.from(new XlsxReader(), Employee.class, inFile, 0)
+ *         .filter(e -&gt; e.getAge() != null)
+ *         .map(e -&gt; new Company(e.getName(), e.getAge(), e.getAddress()))
+ *         .writeTo(outFile, Company.class);
+ * </pre>
+ *
+ * @param <S> the bean type of the source rows
+ * @param <T> the bean type of the rows at the end of the stages
+ * @author Fang Gang
+ */
+@Slf4j
+public final class SheetPipeline<S, T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final Object END = new Object();
+
+    private static final long OFFER_WAIT_MILLIS = 100;
+
+    private final SpreadsheetReader reader;
+    private final Class<S> sourceType;
+    private final File sourceFile;
+    private final int sheetNo;
+
+    private final List<Function<Object, Object>> stages = new ArrayList<>();
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private ExecutorService executor;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private SheetPipeline(SpreadsheetReader reader, Class<S> sourceType, File sourceFile, int sheetNo) {
+        this.reader = reader;
+        this.sourceType = sourceType;
+        this.sourceFile = sourceFile;
+        this.sheetNo = sheetNo;
+    }
+
+    /**
+     * @param <S> the bean type of the source rows
+     * @param reader the reader of the source file
+     * @param sourceType the bean type of the source rows
+     * @param sourceFile the source spreadsheet file
+     * @param sheetNo index of the sheet to read (index starts from 0)
+     * @return the pipeline, without any stage.
+     */
+    public static <S> SheetPipeline<S, S> from(SpreadsheetReader reader, Class<S> sourceType, File sourceFile,
+            int sheetNo) {
+        // Sanity checks
+        if (reader == null || sourceType == null || sourceFile == null) {
+            throw new IllegalArgumentException("SheetPipeline :: reader, source type and file are mandatory");
+        }
+        return new SheetPipeline<>(reader, sourceType, sourceFile, sheetNo);
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param bufferSize capacity (in rows) of the queues between the stages
+     * @return this pipeline
+     */
+    public SheetPipeline<S, T> setBufferSize(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("SheetPipeline :: invalid buffer size - " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * @param executor executor to run the parsing and transform on (2 tasks per run), not shut
+     *        down by the pipeline. It needs 2 free threads for each run : the rows are waited for
+     *        until the tasks run, or the executor terminates. By default two threads are started
+     *        for each run.
+     * @return this pipeline
+     */
+    public SheetPipeline<S, T> setExecutor(ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor && ((ThreadPoolExecutor) executor).getMaximumPoolSize() < 2) {
+            throw new IllegalArgumentException("SheetPipeline :: executor with less than 2 threads");
+        }
+        this.executor = executor;
+        return this;
+    }
+
+
+    // Stages
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param predicate rows not matching it are dropped
+     * @return this pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public SheetPipeline<S, T> filter(Predicate<? super T> predicate) {
+        stages.add(row -> predicate.test((T) row) ? row : null);
+        return this;
+    }
+
+    /**
+     * @param <R> the bean type of the mapped rows
+     * @param mapper row mapping, a <code>null</code> result drops the row
+     * @return this pipeline, with the mapped row type
+     */
+    @SuppressWarnings("unchecked")
+    public <R> SheetPipeline<S, R> map(Function<? super T, ? extends R> mapper) {
+        stages.add(row -> mapper.apply((T) row));
+        return (SheetPipeline<S, R>) this;
+    }
+
+
+    // Run
+    // ------------------------------------------------------------------------
+
+    /**
+     * Runs the pipeline into a new file, with a single sheet. In case of failure, the file is
+     * deleted rather than left with a truncated workbook.
+     *
+     * @param file the output file
+     * @param beanType the bean type of the written rows
+     * @return the no. of rows written
+     *
+     * @throws SpreadsheetReadException when the source file read fails.
+     * @throws IOException when the write fails.
+     */
+    public long writeTo(File file, Class<T> beanType) throws SpreadsheetReadException, IOException {
+        final StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(file);
+        boolean completed = false;
+        try {
+            final long written = this.writeTo(writer, beanType, null);
+            writer.close();
+            completed = true;
+            return written;
+        } finally {
+            if (!completed) {
+                writer.abort();
+                if (file.exists() && !file.delete()) {
+                    log.warn("SheetPipeline :: failed to delete the incomplete file - {}", file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the pipeline, writing the rows as a new sheet of the writer. The writer is left open
+     * for more sheets. In case of failure, the sheet holds the rows written until then.
+     *
+     * @param writer the writer
+     * @param beanType the bean type of the written rows
+     * @param sheetName name of the sheet, the <code>@Sheet</code> one when null.
+     * @return the no. of rows written
+     *
+     * @throws SpreadsheetReadException when the source file read fails.
+     * @throws IOException when the write fails.
+     */
+    public long writeTo(StreamingSpreadsheetWriter writer, Class<T> beanType, String sheetName)
+            throws SpreadsheetReadException, IOException {
+        final ExecutorService exec = executor != null ? executor : newExecutor();
+        final Run run = new Run(exec);
+        try {
+            exec.execute(run::parse);
+            exec.execute(run::transform);
+
+            if (sheetName == null) {
+                writer.addSheet(beanType, run::written);
+            } else {
+                writer.addSheet(beanType, run::written, sheetName);
+            }
+        } catch (PipelineFailure ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof SpreadsheetReadException) {
+                throw (SpreadsheetReadException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SpreadsheetReadException(sheetName, cause);
+        } finally {
+            run.cancelled = true;
+            if (exec != executor) {
+                exec.shutdownNow();
+            }
+        }
+
+        log.debug("SheetPipeline of {} - rows read {}, written {}", sourceFile, run.readCount, run.writtenCount);
+        return run.writtenCount.get();
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static ExecutorService newExecutor() {
+        final AtomicInteger threadNo = new AtomicInteger();
+        return Executors.newFixedThreadPool(2, r -> {
+            final Thread thread = new Thread(r, "sheet-pipeline-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * State of a single run : the queues between the stages.
+     */
+    private final class Run {
+
+        final ExecutorService exec;
+
+        final BlockingQueue<Object> parsed = new ArrayBlockingQueue<>(bufferSize);
+        final BlockingQueue<Object> transformed = new ArrayBlockingQueue<>(bufferSize);
+
+        final AtomicLong readCount = new AtomicLong();
+        final AtomicLong writtenCount = new AtomicLong();
+
+        volatile boolean cancelled;
+
+        Run(ExecutorService exec) {
+            this.exec = exec;
+        }
+
+        void parse() {
+            try {
+                reader.read(sourceType, sourceFile, sheetNo, (rowNum, rowObj) -> {
+                    if (rowObj != null) {
+                        readCount.incrementAndGet();
+                        this.offer(parsed, rowObj);
+                    }
+                });
+                this.offer(parsed, END);
+            } catch (CancellationException ex) {
+                log.debug("SheetPipeline parsing cancelled - {}", sourceFile);
+            } catch (Throwable ex) {
+                this.offerQuietly(parsed, new Failure(ex));
+            }
+        }
+
+        void transform() {
+            try {
+                while (true) {
+                    final Object item = parsed.poll(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (item == null) {
+                        if (cancelled) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    if (item == END || item instanceof Failure) {
+                        this.offer(transformed, item);
+                        return;
+                    }
+
+                    Object row = item;
+                    for (int i = 0; i < stages.size() && row != null; i++) {
+                        row = stages.get(i).apply(row);
+                    }
+                    if (row != null) {
+                        this.offer(transformed, row);
+                    }
+                }
+            } catch (CancellationException ex) {
+                log.debug("SheetPipeline transform cancelled - {}", sourceFile);
+            } catch (Throwable ex) {
+                this.offerQuietly(transformed, new Failure(ex));
+            }
+        }
+
+        Iterator<T> written() {
+            return new Iterator<T>() {
+
+                private Object next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        next = take();
+                    }
+                    if (next instanceof Failure) {
+                        throw new PipelineFailure(((Failure) next).cause);
+                    }
+                    return next != END;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final T row = (T) next;
+                    next = null;
+                    writtenCount.incrementAndGet();
+                    return row;
+                }
+            };
+        }
+
+        private Object take() {
+            try {
+                while (true) {
+                    final Object item = transformed.poll(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (item != null) {
+                        return item;
+                    }
+
+                    // Stages not running (anymore), ex. the executor was shut down before they ran
+                    if (cancelled || exec.isTerminated()) {
+                        final Object last = transformed.poll();
+                        if (last != null) {
+                            return last;
+                        }
+                        throw new PipelineFailure(new CancellationException("SheetPipeline :: stages not running"));
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new PipelineFailure(ex);
+            }
+        }
+
+        private void offer(BlockingQueue<Object> queue, Object item) {
+            try {
+                while (!queue.offer(item, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (cancelled) {
+                        throw new CancellationException();
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+
+        private void offerQuietly(BlockingQueue<Object> queue, Object item) {
+            try {
+                this.offer(queue, item);
+            } catch (CancellationException ex) {
+                log.debug("SheetPipeline cancelled, dropping - {}", item);
+            }
+        }
+    }
+
+    private static final class Failure {
+
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure(" + cause + ")";
+        }
+    }
+
+    private static final class PipelineFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        PipelineFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package io.github.millij.poi.ss.writer;
 
+import io.github.millij.poi.OperationCancelledException;
 import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.util.CancellationToken;
 import io.github.millij.poi.util.Spreadsheet;
 
 import java.io.File;
@@ -32,6 +34,8 @@ public class SpreadsheetWriter {
     private final XSSFWorkbook workbook;
     private final OutputStream outputStrem;
 
+    private CancellationToken cancellation;
+
 
     // Constructors
     // ------------------------------------------------------------------------
@@ -52,6 +56,20 @@ public class SpreadsheetWriter {
     }
 
 
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param cancellation the token stopping the write, checked before each row. Once cancelled,
+     *        the workbook is closed and an {@link OperationCancelledException} is thrown.
+     * @return this writer
+     */
+    public SpreadsheetWriter setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+
     // Methods
     // ------------------------------------------------------------------------
 
@@ -117,6 +135,7 @@ public class SpreadsheetWriter {
             // Data Rows
             Map<String, List<String>> rowsData = this.prepareSheetRowsData(headers, rowObjects);
             for (int i = 0, rowNum = 1; i < rowObjects.size(); i++, rowNum++) {
+                this.checkCancellation();
                 final XSSFRow row = sheet.createRow(rowNum);
 
                 int cellNo = 0;
@@ -128,6 +147,8 @@ public class SpreadsheetWriter {
                 }
             }
 
+        } catch (OperationCancelledException ex) {
+            throw ex;
         } catch (Exception ex) {
             String errMsg = String.format("Error while preparing sheet with passed row objects : %s", ex.getMessage());
             LOGGER.error(errMsg, ex);
@@ -142,6 +163,7 @@ public class SpreadsheetWriter {
     // Write
 
     public void write() throws IOException {
+        this.checkCancellation();
         workbook.write(outputStrem);
         workbook.close();
     }
@@ -157,6 +179,7 @@ public class SpreadsheetWriter {
 
         // Iterate over Objects
         for (EB excelBean : rowObjects) {
+            this.checkCancellation();
             Map<String, String> row = Spreadsheet.asRowDataMap(excelBean, headers);
 
             for (String header : headers) {
@@ -171,6 +194,21 @@ public class SpreadsheetWriter {
         return sheetData;
     }
 
+    private void checkCancellation() throws IOException {
+        if (cancellation == null) {
+            return;
+        }
+
+        try {
+            cancellation.check();
+        } catch (OperationCancelledException ex) {
+            // Release the workbook, nothing gets written
+            LOGGER.debug("Write cancelled : {}", ex.getReason());
+            workbook.close();
+            throw ex;
+        }
+    }
+
 
 
 }
@@ -0,0 +1,522 @@
+package io.github.millij.poi.ss.writer;
+
+import io.github.millij.poi.OperationCancelledException;
+import io.github.millij.poi.UnsupportedException;
+import io.github.millij.poi.ss.jfr.JfrEvents;
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.util.CancellationToken;
+import io.github.millij.poi.util.Spreadsheet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.util.CellReference;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streaming writer of OOXML .xlsx files. Rows are written to the output as they come, only the
+ * shared strings table is held in memory until {@link #close()}.
+ *
+ * <p>
+ * String cells are deduplicated through the shared strings table, up to
+ * {@link #setMaxSharedStrings(int)} distinct values. Once the table is full, and for values longer
+ * than {@link #setMaxSharedStringLength(int)}, new strings are written inline. Low cardinality
+ * columns (enums, status codes) are so written once in the whole file.
+ * </p>
+ *
+ * <p>
+ * Sheets are written one at a time : {@link #startSheet(String, List)}, then
+ * {@link #writeRow(List)} for each row, then {@link #endSheet()}.
+ * </p>
+ *
+ * <p>
+ * With a {@link #setCancellation(CancellationToken)} token, each row first checks the token : once
+ * cancelled or expired, the output is closed right away (leaving an incomplete file, to be
+ * discarded) and an {@link OperationCancelledException} is thrown.
+ * </p>
+ *
+ * @author Fang Gang
+ * @see SpreadsheetWriter
+ */
+@Slf4j
+public class StreamingSpreadsheetWriter implements Closeable {
+
+    public static final int DEFAULT_MAX_SHARED_STRINGS = 65536;
+    public static final int DEFAULT_MAX_SHARED_STRING_LENGTH = 256;
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String NS_MAIN = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String NS_REL = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String NS_PKG_REL = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private final ZipOutputStream zipOut;
+    private final Writer writer;
+
+    private int maxSharedStrings = DEFAULT_MAX_SHARED_STRINGS;
+    private int maxSharedStringLength = DEFAULT_MAX_SHARED_STRING_LENGTH;
+
+    private CancellationToken cancellation;
+
+    private final Map<String, Integer> sharedStringIndex = new HashMap<>();
+    private final List<String> sharedStrings = new ArrayList<>();
+    private long sharedStringRefs;
+    private long inlineStrings;
+
+    private final List<String> sheetNames = new ArrayList<>();
+    private boolean inSheet;
+    private int rowNum;
+    private ZipEntry sheetEntry;
+    private JfrEvents.Sheet sheetEvent;
+
+    private boolean closed;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public StreamingSpreadsheetWriter(File file) throws IOException {
+        this(new FileOutputStream(file));
+    }
+
+    public StreamingSpreadsheetWriter(OutputStream outputStream) {
+        super();
+
+        this.zipOut = new ZipOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+        this.writer = new OutputStreamWriter(zipOut, StandardCharsets.UTF_8);
+    }
+
+
+    // Configuration
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param maxSharedStrings max no. of distinct strings in the shared strings table,
+     *        <code>0</code> to write all the strings inline.
+     * @return this writer
+     */
+    public StreamingSpreadsheetWriter setMaxSharedStrings(int maxSharedStrings) {
+        this.maxSharedStrings = maxSharedStrings;
+        return this;
+    }
+
+    /**
+     * @param maxSharedStringLength strings longer than this are always written inline.
+     * @return this writer
+     */
+    public StreamingSpreadsheetWriter setMaxSharedStringLength(int maxSharedStringLength) {
+        this.maxSharedStringLength = maxSharedStringLength;
+        return this;
+    }
+
+    /**
+     * @param cancellation the token stopping the write, checked before each row.
+     * @return this writer
+     */
+    public StreamingSpreadsheetWriter setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+    public int getSharedStringCount() {
+        return sharedStrings.size();
+    }
+
+    public long getInlineStringCount() {
+        return inlineStrings;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    // Sheet :: Add
+
+    public <EB> void addSheet(Class<EB> beanType, Iterable<EB> rowObjects) throws IOException {
+        // SheetName
+        Sheet sheet = beanType.getAnnotation(Sheet.class);
+        String sheetName = sheet != null ? sheet.value() : null;
+
+        this.addSheet(beanType, rowObjects, sheetName);
+    }
+
+    public <EB> void addSheet(Class<EB> beanType, Iterable<EB> rowObjects, String sheetName) throws IOException {
+        // Sanity checks
+        if (beanType == null) {
+            throw new IllegalArgumentException("StreamingSpreadsheetWriter :: ExcelBean type should not be null");
+        }
+
+        final List<String> headers = Spreadsheet.getColumnNames(beanType);
+        this.startSheet(sheetName, headers);
+        for (EB rowObject : rowObjects) {
+            this.writeBean(rowObject, headers);
+        }
+        this.endSheet();
+    }
+
+
+    // Sheet :: Streaming
+
+    /**
+     * Starts a new sheet and writes its header row.
+     *
+     * @param sheetName name of the sheet, a default name is used when empty.
+     * @param headers the header row values
+     * @throws IOException when the output fails.
+     */
+    public void startSheet(String sheetName, List<String> headers) throws IOException {
+        if (closed || inSheet) {
+            throw new IllegalStateException("StreamingSpreadsheetWriter :: a sheet is already open, or writer closed");
+        }
+
+        final String name = StringUtils.isEmpty(sheetName) ? "Sheet" + (sheetNames.size() + 1) : sheetName;
+        if (sheetNames.contains(name)) {
+            String errMsg = String.format("A Sheet with the passed name already exists : %s", name);
+            throw new IllegalArgumentException(errMsg);
+        }
+
+        sheetEvent = JfrEvents.sheetWrite(name);
+        sheetEvent.begin();
+
+        sheetNames.add(name);
+        sheetEntry = new ZipEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml");
+        zipOut.putNextEntry(sheetEntry);
+        writer.write(XML_HEADER);
+        writer.write("<worksheet xmlns=\"" + NS_MAIN + "\"><sheetData>\n");
+
+        inSheet = true;
+        rowNum = 0;
+        if (headers != null && !headers.isEmpty()) {
+            this.writeRow(headers);
+        }
+        log.debug("Added new Sheet[name] to the workbook : {}", name);
+    }
+
+    /**
+     * Writes the next row of the current sheet. {@link String} values are written as (shared or
+     * inline) strings, {@link Number}s as numbers, {@link Boolean}s as booleans, others by their
+     * <code>toString()</code>. Null values leave the cell empty.
+     *
+     * @param values the cell values, from the first column
+     * @throws IOException when the output fails.
+     * @throws OperationCancelledException when the write is cancelled, the output is then closed.
+     */
+    public void writeRow(List<?> values) throws IOException {
+        if (!inSheet) {
+            throw new IllegalStateException("StreamingSpreadsheetWriter :: no open sheet");
+        }
+        this.checkCancellation();
+
+        final int r = ++rowNum;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(r));
+        writer.write("\">");
+        for (int c = 0; c < values.size(); c++) {
+            final Object value = values.get(c);
+            if (value == null) {
+                continue;
+            }
+
+            final String cellRef = CellReference.convertNumToColString(c) + r;
+            if (value instanceof Number) {
+                writer.write("<c r=\"" + cellRef + "\"><v>");
+                writer.write(value.toString());
+                writer.write("</v></c>");
+            } else if (value instanceof Boolean) {
+                writer.write("<c r=\"" + cellRef + "\" t=\"b\"><v>");
+                writer.write((Boolean) value ? "1" : "0");
+                writer.write("</v></c>");
+            } else {
+                this.writeString(cellRef, value.toString());
+            }
+        }
+        writer.write("</row>\n");
+    }
+
+    /**
+     * Ends the current sheet.
+     *
+     * @throws IOException when the output fails.
+     */
+    public void endSheet() throws IOException {
+        if (!inSheet) {
+            throw new IllegalStateException("StreamingSpreadsheetWriter :: no open sheet");
+        }
+
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zipOut.closeEntry();
+        inSheet = false;
+
+        sheetEvent.commit(rowNum, sheetEntry.getSize());
+        sheetEvent = null;
+        sheetEntry = null;
+    }
+
+
+    // Close
+
+    /**
+     * Writes the workbook parts (including the shared strings table) and closes the output.
+     *
+     * @throws IOException when the output fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            if (inSheet) {
+                this.endSheet();
+            }
+            if (sheetNames.isEmpty()) {
+                this.startSheet(null, null);
+                this.endSheet();
+            }
+
+            this.writeSharedStrings();
+            this.writePackageParts();
+            log.debug("Shared strings - {} distinct, {} refs; inline strings - {}", sharedStrings.size(),
+                    sharedStringRefs, inlineStrings);
+        } finally {
+            closed = true;
+            writer.close();
+        }
+    }
+
+    /**
+     * Closes the output without writing the workbook parts, when the write is given up : the
+     * output is left incomplete (not a valid workbook). Does nothing once closed.
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        inSheet = false;
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            log.debug("Error closing the aborted output : {}", ex.getMessage());
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void checkCancellation() throws IOException {
+        if (cancellation == null) {
+            return;
+        }
+
+        try {
+            cancellation.check();
+        } catch (OperationCancelledException ex) {
+            // Release the output without writing the workbook parts
+            log.debug("Write cancelled at sheet {}, row {} : {}", sheetNames.size(), rowNum, ex.getReason());
+            closed = true;
+            inSheet = false;
+            writer.close();
+            throw ex;
+        }
+    }
+
+    private void writeBean(Object rowObject, List<String> headers) throws IOException {
+        final Map<String, String> rowData;
+        try {
+            rowData = Spreadsheet.asRowDataMap(rowObject, headers);
+        } catch (Exception ex) {
+            String errMsg = String.format("Error while reading the row object : %s", ex.getMessage());
+            throw new UnsupportedException(errMsg);
+        }
+
+        final List<Object> values = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            values.add(rowData.get(header));
+        }
+        this.writeRow(values);
+    }
+
+    private void writeString(String cellRef, String value) throws IOException {
+        final Integer idx = this.sharedStringIndex(value);
+        if (idx != null) {
+            sharedStringRefs++;
+            writer.write("<c r=\"" + cellRef + "\" t=\"s\"><v>");
+            writer.write(idx.toString());
+            writer.write("</v></c>");
+            return;
+        }
+
+        inlineStrings++;
+        writer.write("<c r=\"" + cellRef + "\" t=\"inlineStr\"><is>");
+        this.writeText(value);
+        writer.write("</is></c>");
+    }
+
+    private Integer sharedStringIndex(String value) {
+        if (value.length() > maxSharedStringLength) {
+            return null;
+        }
+
+        Integer idx = sharedStringIndex.get(value);
+        if (idx == null && sharedStrings.size() < maxSharedStrings) {
+            idx = sharedStrings.size();
+            sharedStrings.add(value);
+            sharedStringIndex.put(value, idx);
+        }
+        return idx;
+    }
+
+    private void writeSharedStrings() throws IOException {
+        zipOut.putNextEntry(new ZipEntry("xl/sharedStrings.xml"));
+        writer.write(XML_HEADER);
+        writer.write("<sst xmlns=\"" + NS_MAIN + "\" count=\"" + sharedStringRefs + "\" uniqueCount=\""
+                + sharedStrings.size() + "\">");
+        for (String value : sharedStrings) {
+            writer.write("<si>");
+            this.writeText(value);
+            writer.write("</si>");
+        }
+        writer.write("</sst>");
+        writer.flush();
+        zipOut.closeEntry();
+    }
+
+    private void writePackageParts() throws IOException {
+        // Content Types
+        final StringBuilder types = new StringBuilder(XML_HEADER);
+        types.append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">");
+        types.append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>");
+        types.append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+        types.append(override("/xl/workbook.xml", "spreadsheetml.sheet.main+xml"));
+        types.append(override("/xl/styles.xml", "spreadsheetml.styles+xml"));
+        types.append(override("/xl/sharedStrings.xml", "spreadsheetml.sharedStrings+xml"));
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            types.append(override("/xl/worksheets/sheet" + i + ".xml", "spreadsheetml.worksheet+xml"));
+        }
+        types.append("</Types>");
+        this.writeEntry("[Content_Types].xml", types);
+
+        // Package Relationships
+        final StringBuilder rels = new StringBuilder(XML_HEADER);
+        rels.append("<Relationships xmlns=\"" + NS_PKG_REL + "\">");
+        rels.append("<Relationship Id=\"rId1\" Type=\"" + NS_REL + "/officeDocument\" Target=\"xl/workbook.xml\"/>");
+        rels.append("</Relationships>");
+        this.writeEntry("_rels/.rels", rels);
+
+        // Workbook
+        final StringBuilder workbook = new StringBuilder(XML_HEADER);
+        workbook.append("<workbook xmlns=\"" + NS_MAIN + "\" xmlns:r=\"" + NS_REL + "\"><sheets>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            workbook.append("<sheet name=\"").append(escape(sheetNames.get(i - 1))).append("\" sheetId=\"").append(i)
+                    .append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        workbook.append("</sheets></workbook>");
+        this.writeEntry("xl/workbook.xml", workbook);
+
+        // Workbook Relationships
+        final int n = sheetNames.size();
+        final StringBuilder wbRels = new StringBuilder(XML_HEADER);
+        wbRels.append("<Relationships xmlns=\"" + NS_PKG_REL + "\">");
+        for (int i = 1; i <= n; i++) {
+            wbRels.append("<Relationship Id=\"rId").append(i).append("\" Type=\"" + NS_REL + "/worksheet\"")
+                    .append(" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        wbRels.append("<Relationship Id=\"rId").append(n + 1).append("\" Type=\"" + NS_REL + "/styles\"")
+                .append(" Target=\"styles.xml\"/>");
+        wbRels.append("<Relationship Id=\"rId").append(n + 2).append("\" Type=\"" + NS_REL + "/sharedStrings\"")
+                .append(" Target=\"sharedStrings.xml\"/>");
+        wbRels.append("</Relationships>");
+        this.writeEntry("xl/_rels/workbook.xml.rels", wbRels);
+
+        // Styles, the minimal default ones
+        final StringBuilder styles = new StringBuilder(XML_HEADER);
+        styles.append("<styleSheet xmlns=\"" + NS_MAIN + "\">");
+        styles.append("<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>");
+        styles.append("<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>");
+        styles.append("<fill><patternFill patternType=\"gray125\"/></fill></fills>");
+        styles.append("<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>");
+        styles.append("<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/>");
+        styles.append("</cellStyleXfs><cellXfs count=\"1\">");
+        styles.append("<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/></cellXfs>");
+        styles.append("</styleSheet>");
+        this.writeEntry("xl/styles.xml", styles);
+    }
+
+    private void writeEntry(String name, CharSequence content) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(name));
+        writer.append(content);
+        writer.flush();
+        zipOut.closeEntry();
+    }
+
+    private void writeText(String value) throws IOException {
+        final boolean preserve = !value.isEmpty()
+                && (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1)));
+        writer.write(preserve ? "<t xml:space=\"preserve\">" : "<t>");
+        writer.write(escape(value));
+        writer.write("</t>");
+    }
+
+    private static String override(String partName, String type) {
+        return "<Override PartName=\"" + partName + "\" ContentType=\"application/vnd.openxmlformats-officedocument."
+                + type + "\"/>";
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            final String replacement;
+            switch (ch) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                default:
+                    // Characters not allowed in XML 1.0 are dropped
+                    final boolean invalid = (ch < 0x20 && ch != '\t' && ch != '\n' && ch != '\r') || ch == 0xFFFE
+                            || ch == 0xFFFF;
+                    replacement = invalid ? "" : null;
+                    break;
+            }
+
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(ch);
+                }
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+}
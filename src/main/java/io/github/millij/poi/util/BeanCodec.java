@@ -0,0 +1,248 @@
+package io.github.millij.poi.util;
+
+import io.github.millij.poi.UnsupportedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compact binary codec of beans, field by field, compiled once per bean type. Common field types
+ * (strings, numbers, booleans, dates, enums) are written directly, other {@link Serializable}
+ * values fall back to java serialization.
+ *
+ * @param <T> Class Type
+ * @author Fang Gang
+ */
+final class BeanCodec<T> {
+
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte CHAR = 9;
+    private static final byte DATE = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte ENUM = 13;
+    private static final byte OBJECT = 14;
+
+    private final Class<T> beanClz;
+    private final Field[] fields;
+    private final byte[] kinds;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    BeanCodec(Class<T> beanClz) {
+        this.beanClz = beanClz;
+
+        final List<Field> beanFields = new ArrayList<>();
+        for (Class<?> clz = beanClz; clz != null && clz != Object.class; clz = clz.getSuperclass()) {
+            for (Field f : clz.getDeclaredFields()) {
+                final int modifiers = f.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || f.isSynthetic()) {
+                    continue;
+                }
+                f.setAccessible(true);
+                beanFields.add(f);
+            }
+        }
+
+        this.fields = beanFields.toArray(new Field[0]);
+        this.kinds = new byte[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            kinds[i] = kindOf(fields[i].getType());
+        }
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    void encode(T bean, DataOutput out) throws IOException {
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                final Object value = fields[i].get(bean);
+                if (!fields[i].getType().isPrimitive()) {
+                    out.writeBoolean(value != null);
+                    if (value == null) {
+                        continue;
+                    }
+                }
+                write(kinds[i], value, out);
+            }
+        } catch (IllegalAccessException ex) {
+            throw new UnsupportedException("BeanCodec :: failed to read the fields of - " + beanClz, ex);
+        }
+    }
+
+    T decode(DataInput in) throws IOException {
+        try {
+            final T bean = beanClz.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < fields.length; i++) {
+                if (!fields[i].getType().isPrimitive() && !in.readBoolean()) {
+                    continue;
+                }
+                fields[i].set(bean, read(kinds[i], fields[i].getType(), in));
+            }
+            return bean;
+        } catch (ReflectiveOperationException ex) {
+            throw new UnsupportedException("BeanCodec :: failed to create bean - " + beanClz, ex);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static byte kindOf(Class<?> type) {
+        if (type == String.class) {
+            return STRING;
+        } else if (type == int.class || type == Integer.class) {
+            return INT;
+        } else if (type == long.class || type == Long.class) {
+            return LONG;
+        } else if (type == double.class || type == Double.class) {
+            return DOUBLE;
+        } else if (type == float.class || type == Float.class) {
+            return FLOAT;
+        } else if (type == short.class || type == Short.class) {
+            return SHORT;
+        } else if (type == byte.class || type == Byte.class) {
+            return BYTE;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type == char.class || type == Character.class) {
+            return CHAR;
+        } else if (type == Date.class) {
+            return DATE;
+        } else if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        } else if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        } else if (type.isEnum()) {
+            return ENUM;
+        }
+        return OBJECT;
+    }
+
+    private static void write(byte kind, Object value, DataOutput out) throws IOException {
+        switch (kind) {
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case CHAR:
+                out.writeChar((Character) value);
+                break;
+            case DATE:
+                out.writeLong(((Date) value).getTime());
+                break;
+            case BIG_DECIMAL:
+            case BIG_INTEGER:
+                writeString(value.toString(), out);
+                break;
+            case ENUM:
+                writeString(((Enum<?>) value).name(), out);
+                break;
+            default:
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                    oos.writeObject(value);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+                break;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object read(byte kind, Class<?> type, DataInput in) throws IOException, ClassNotFoundException {
+        switch (kind) {
+            case STRING:
+                return readString(in);
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case CHAR:
+                return in.readChar();
+            case DATE:
+                return new Date(in.readLong());
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case ENUM:
+                return Enum.valueOf((Class<? extends Enum>) type, readString(in));
+            default:
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return ois.readObject();
+                }
+        }
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -1,9 +1,14 @@
 package io.github.millij.poi.util;
 
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.beanutils.MethodUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,4 +92,56 @@ public final class Beans {
     }
 
 
+    /**
+     * Resolves the public setters of the bean properties.
+     *
+     * @param clz the bean {@link Class}
+     * @return property name to its setter, for the properties with an accessible setter.
+     */
+    public static Map<String, Method> getWriteMethods(Class<?> clz) {
+        final Map<String, Method> writeMethods = new HashMap<>();
+        try {
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(clz).getPropertyDescriptors()) {
+                final Method writeMethod = MethodUtils.getAccessibleMethod(clz, pd.getWriteMethod());
+                if (writeMethod != null) {
+                    writeMethods.put(pd.getName(), writeMethod);
+                }
+            }
+        } catch (IntrospectionException ex) {
+            LOGGER.warn("Failed to introspect the bean - {} : {}", clz, ex.getMessage());
+        }
+        return writeMethods;
+    }
+
+    /**
+     * Parses a string cell value to a numeric property value, with the {@link NumberParser}.
+     *
+     * @param value the cell value
+     * @param type type of the property
+     * @return the parsed number, or null when the value is not a string, the type not a
+     *         <code>double</code>, <code>long</code> or <code>int</code> one, or the value does not
+     *         parse (left to the bean converters then).
+     */
+    public static Object parseNumber(Object value, Class<?> type) {
+        // Sanity checks
+        if (!(value instanceof String) || type == null) {
+            return null;
+        }
+
+        final String str = (String) value;
+        try {
+            if (type == Double.class || type == double.class) {
+                return NumberParser.parseDouble(str);
+            } else if (type == Long.class || type == long.class) {
+                return NumberParser.parseLong(str);
+            } else if (type == Integer.class || type == int.class) {
+                final long longValue = NumberParser.parseLong(str);
+                return (int) longValue == longValue ? Integer.valueOf((int) longValue) : null;
+            }
+        } catch (NumberFormatException ex) {
+            LOGGER.debug("Not a number of type {} : {}", type, str);
+        }
+        return null;
+    }
+
 }
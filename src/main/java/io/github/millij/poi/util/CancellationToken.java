@@ -0,0 +1,90 @@
+package io.github.millij.poi.util;
+
+import io.github.millij.poi.OperationCancelledException;
+import io.github.millij.poi.OperationCancelledException.Reason;
+
+import java.time.Duration;
+
+/**
+ * Cooperative cancellation of a read or write, with an optional deadline. The readers and
+ * writers check the token before each row, and stop with an {@link OperationCancelledException}
+ * once it is cancelled (from any thread), past its deadline, or when the running thread is
+ * interrupted. The workbook being read or written is closed on the way out.
+ *
+ * <pre>
+ * CancellationToken token = CancellationToken.withTimeout(Duration.ofMinutes(5));
+ * reader.read(Employee.class, file, RowListener.cancellable(token, listener));
+ * </pre>
+ *
+ * @author Fang Gang
+ */
+public final class CancellationToken {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long deadlineNanos;
+
+    private volatile boolean cancelled;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private CancellationToken(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return a token without deadline, stopped by {@link #cancel()} or interrupts only.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken(NO_DEADLINE);
+    }
+
+    /**
+     * @param timeout the time limit, from now
+     * @return a token expiring after the timeout.
+     */
+    public static CancellationToken withTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("CancellationToken :: invalid timeout - " + timeout);
+        }
+        return new CancellationToken(System.nanoTime() + timeout.toNanos());
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Requests the cancellation, the operation stops at its next row.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * @return true when cancelled or past the deadline.
+     */
+    public boolean isCancelled() {
+        return cancelled || (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos >= 0);
+    }
+
+    /**
+     * Checks the token, and the interrupt status of the current thread (left set).
+     *
+     * @throws OperationCancelledException when the operation should stop.
+     */
+    public void check() {
+        if (cancelled) {
+            throw new OperationCancelledException(Reason.CANCELLED);
+        }
+        if (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos >= 0) {
+            throw new OperationCancelledException(Reason.DEADLINE_EXCEEDED);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new OperationCancelledException(Reason.INTERRUPTED);
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.github.millij.poi.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * Excel serial dates to <code>java.time</code> conversions, with plain epoch-day arithmetic (no
+ * {@link java.util.Calendar}, no date formats).
+ *
+ * <p>
+ * Excel dates carry no zone, an {@link Instant} is the date time at UTC.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+public final class ExcelDates {
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    // 1900 system : serial 1 is 1900-01-01, with the (fake) 1900-02-29 as serial 60
+    private static final long EPOCH_DAY_1900 = LocalDate.of(1899, 12, 30).toEpochDay();
+    // 1904 system : serial 0 is 1904-01-01
+    private static final long EPOCH_DAY_1904 = LocalDate.of(1904, 1, 1).toEpochDay();
+
+    private ExcelDates() {
+        // Utility Class
+    }
+
+
+    // Serial Dates
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param serial the Excel serial date
+     * @param date1904 true for the 1904 date system
+     * @return the date time, rounded to the millisecond
+     */
+    public static LocalDateTime toLocalDateTime(double serial, boolean date1904) {
+        // Sanity checks
+        if (!(serial >= 0)) {
+            throw new IllegalArgumentException("Invalid Excel serial date - " + serial);
+        }
+
+        long days = (long) serial;
+        long millis = Math.round((serial - days) * MILLIS_PER_DAY);
+        if (millis == MILLIS_PER_DAY) {
+            days++;
+            millis = 0;
+        }
+
+        final long epochDay;
+        if (date1904) {
+            epochDay = EPOCH_DAY_1904 + days;
+        } else {
+            // Serials up to the fake leap day are a day behind
+            epochDay = EPOCH_DAY_1900 + days + (days < 61 ? 1 : 0);
+        }
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(millis * 1_000_000L));
+    }
+
+    /**
+     * @param serial the Excel serial date, only the fraction of the day is used
+     * @return the time of the day, rounded to the millisecond
+     */
+    public static LocalTime toLocalTime(double serial) {
+        // Sanity checks
+        if (!(serial >= 0)) {
+            throw new IllegalArgumentException("Invalid Excel serial date - " + serial);
+        }
+
+        final long millis = Math.round((serial - Math.floor(serial)) * MILLIS_PER_DAY) % MILLIS_PER_DAY;
+        return LocalTime.ofNanoOfDay(millis * 1_000_000L);
+    }
+
+    /**
+     * @param serial the Excel serial date
+     * @param date1904 true for the 1904 date system
+     * @return the ISO date (<code>2020-01-31</code>) when there is no time part, or else the ISO date
+     *         time (<code>2020-01-31T10:15:30</code>)
+     */
+    public static String toIsoString(double serial, boolean date1904) {
+        final LocalDateTime dateTime = toLocalDateTime(serial, date1904);
+        return dateTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? dateTime.toLocalDate().toString()
+                : dateTime.toString();
+    }
+
+
+    // Bean Values
+    // ------------------------------------------------------------------------
+
+    public static boolean isTemporalType(Class<?> type) {
+        return type == LocalDate.class || type == LocalDateTime.class || type == Instant.class
+                || type == LocalTime.class;
+    }
+
+    /**
+     * Converts a cell value to the temporal type, with serial dates of the 1900 date system. See
+     * {@link #toTemporal(Object, Class, boolean)}.
+     *
+     * @param value the cell value
+     * @param type one of {@link LocalDate}, {@link LocalDateTime}, {@link Instant} or
+     *        {@link LocalTime}
+     * @return the temporal value, or null for a null or blank value.
+     * @throws java.time.format.DateTimeParseException when the string is not an ISO date.
+     */
+    public static Object toTemporal(Object value, Class<?> type) {
+        return toTemporal(value, type, false);
+    }
+
+    /**
+     * Converts a cell value to the temporal type. Strings are taken as ISO dates, date times or
+     * times (for {@link LocalTime} only), and numbers as serial dates of the workbook date system.
+     *
+     * @param value the cell value
+     * @param type one of {@link LocalDate}, {@link LocalDateTime}, {@link Instant} or
+     *        {@link LocalTime}
+     * @param date1904 true for the 1904 date system
+     * @return the temporal value, or null for a null or blank value.
+     * @throws java.time.format.DateTimeParseException when the string is not an ISO date.
+     */
+    public static Object toTemporal(Object value, Class<?> type, boolean date1904) {
+        final LocalDateTime dateTime;
+        if (value == null) {
+            return null;
+        } else if (value instanceof Number) {
+            final double serial = ((Number) value).doubleValue();
+            if (type == LocalTime.class) {
+                return toLocalTime(serial);
+            }
+            dateTime = toLocalDateTime(serial, date1904);
+        } else {
+            final String str = value.toString().trim();
+            if (str.isEmpty()) {
+                return null;
+            }
+            if (type == LocalTime.class && str.indexOf('-') < 0) {
+                return LocalTime.parse(str);
+            }
+            dateTime = str.indexOf('T') > 0 ? LocalDateTime.parse(str) : LocalDate.parse(str).atStartOfDay();
+        }
+
+        if (type == LocalTime.class) {
+            return dateTime.toLocalTime();
+        } else if (type == LocalDate.class) {
+            return dateTime.toLocalDate();
+        } else if (type == Instant.class) {
+            return dateTime.toInstant(ZoneOffset.UTC);
+        }
+        return dateTime;
+    }
+
+}
@@ -0,0 +1,142 @@
+package io.github.millij.poi.util;
+
+/**
+ * Parsers of the decimal cell values, straight from the characters.
+ *
+ * <p>
+ * Plain values, the bulk of the numeric cells (<code>42</code>, <code>-1.68</code>,
+ * <code>1.5E-3</code>), take a fast path : up to 19 significant digits read into a long, then a
+ * single multiplication or division by an exact power of ten when both the digits (&le; 2^53) and
+ * the power (&le; 10^22) are exact doubles, which is correctly rounded (Clinger's fast path). All
+ * other values fall back to {@link Double#parseDouble(String)} / {@link Long#parseLong(String)},
+ * with their exact semantics and errors.
+ * </p>
+ *
+ * @author Fang Gang
+ */
+public final class NumberParser {
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private NumberParser() {
+        // Utility Class
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param chars the decimal value
+     * @return the double value, correctly rounded.
+     * @throws NumberFormatException when the value is not a number.
+     */
+    public static double parseDouble(CharSequence chars) {
+        final int len = chars.length();
+        int i = 0;
+
+        boolean negative = false;
+        if (len > 0 && (chars.charAt(0) == '-' || chars.charAt(0) == '+')) {
+            negative = chars.charAt(0) == '-';
+            i++;
+        }
+
+        // Digits, with the decimal point
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean point = false;
+        for (; i < len; i++) {
+            final char ch = chars.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                anyDigit = true;
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + (ch - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    if (point) {
+                        exponent--;
+                    }
+                } else if (ch != '0') {
+                    // Beyond the long precision
+                    return Double.parseDouble(chars.toString());
+                } else if (!point) {
+                    exponent++;
+                }
+            } else if (ch == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+
+        // Exponent
+        if (i < len && anyDigit && (chars.charAt(i) == 'e' || chars.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < len && (chars.charAt(i) == '-' || chars.charAt(i) == '+')) {
+                negativeExp = chars.charAt(i) == '-';
+                i++;
+            }
+
+            int exp = 0;
+            final int expStart = i;
+            for (; i < len && i - expStart < 4; i++) {
+                final char ch = chars.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                exp = exp * 10 + (ch - '0');
+            }
+            if (i == expStart) {
+                return Double.parseDouble(chars.toString());
+            }
+            exponent += negativeExp ? -exp : exp;
+        }
+
+        // Fast path, or the JDK for everything else (blanks, NaN, hex, huge exponents..)
+        if (i != len || !anyDigit || mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(chars.toString());
+        }
+
+        final double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * @param chars the decimal integer value
+     * @return the long value
+     * @throws NumberFormatException when the value is not an integer, or out of the long range.
+     */
+    public static long parseLong(CharSequence chars) {
+        final int len = chars.length();
+        int i = 0;
+
+        boolean negative = false;
+        if (len > 0 && (chars.charAt(0) == '-' || chars.charAt(0) == '+')) {
+            negative = chars.charAt(0) == '-';
+            i++;
+        }
+
+        // Up to 18 digits can not overflow
+        if (i == len || len - i > 18) {
+            return Long.parseLong(chars.toString());
+        }
+
+        long value = 0;
+        for (; i < len; i++) {
+            final char ch = chars.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return Long.parseLong(chars.toString());
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return negative ? -value : value;
+    }
+
+}
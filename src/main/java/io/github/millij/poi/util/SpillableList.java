@@ -0,0 +1,227 @@
+package io.github.millij.poi.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An append-only {@link List} of beans that keeps the first beans on heap, and spills the rest,
+ * encoded by a compact {@link BeanCodec}, to a temp file. Spilled beans are still randomly
+ * accessible through an offset index, each {@link #get(int)} decodes a new bean instance. The
+ * spilled beans are appended to an in-memory buffer, written to the file in blocks.
+ *
+ * <p>
+ * The temp file is deleted on {@link #close()}, the spilled beans are not accessible after.
+ * </p>
+ *
+ * @param <T> Class Type
+ * @author Fang Gang
+ */
+@Slf4j
+public class SpillableList<T> extends AbstractList<T> implements Closeable {
+
+    /**
+     * Size of the appended bytes written to the spill file at once.
+     */
+    private static final int WRITE_BLOCK = 64 * 1024;
+
+    private final int maxInMemory;
+
+    private final List<T> heapBeans;
+
+    private final BeanCodec<T> codec;
+
+    private final Buffer buffer = new Buffer();
+    private final DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+    private File spillFile;
+    private FileChannel channel;
+
+    /**
+     * End of the bytes written to the spill file, the rest of the spilled beans are in the buffer.
+     */
+    private long written;
+
+    /**
+     * Start offsets of the spilled beans, and the end of the last one.
+     */
+    private long[] offsets = new long[64];
+    private int spilledCount;
+
+    private boolean closed;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param beanClz the bean type
+     * @param maxInMemory max no. of beans kept on heap
+     */
+    public SpillableList(Class<T> beanClz, int maxInMemory) {
+        if (maxInMemory < 0) {
+            throw new IllegalArgumentException("SpillableList :: invalid max in memory - " + maxInMemory);
+        }
+
+        this.maxInMemory = maxInMemory;
+        this.heapBeans = new ArrayList<>(Math.min(maxInMemory, 1024));
+        this.codec = new BeanCodec<>(beanClz);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public boolean isSpilled() {
+        return spilledCount > 0;
+    }
+
+    public int getSpilledCount() {
+        return spilledCount;
+    }
+
+    @Override
+    public boolean add(T bean) {
+        if (closed) {
+            throw new IllegalStateException("SpillableList :: list is closed");
+        }
+
+        if (spilledCount == 0 && heapBeans.size() < maxInMemory) {
+            heapBeans.add(bean);
+        } else {
+            this.spill(bean);
+        }
+
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        final int heapSize = heapBeans.size();
+        return index < heapSize ? heapBeans.get(index) : this.readSpilled(index - heapSize);
+    }
+
+    @Override
+    public int size() {
+        return heapBeans.size() + spilledCount;
+    }
+
+    /**
+     * Deletes the spill file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+            Files.deleteIfExists(spillFile.toPath());
+        } catch (IOException ex) {
+            log.warn("Failed to delete the spill file - {}", spillFile, ex);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void spill(T bean) {
+        try {
+            if (channel == null) {
+                spillFile = File.createTempFile("spillable-list", ".bin");
+                spillFile.deleteOnExit();
+                channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+
+            if (bean != null) {
+                bufferOut.writeBoolean(true);
+                codec.encode(bean, bufferOut);
+            } else {
+                bufferOut.writeBoolean(false);
+            }
+
+            if (spilledCount + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[++spilledCount] = written + buffer.size();
+
+            if (buffer.size() >= WRITE_BLOCK) {
+                this.writeBuffer();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(buffer.array(), 0, buffer.size());
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes, written);
+        }
+        buffer.reset();
+    }
+
+    private T readSpilled(int idx) {
+        if (closed) {
+            throw new IllegalStateException("SpillableList :: list is closed");
+        }
+
+        try {
+            // Bean still in the buffer
+            if (offsets[idx + 1] > written) {
+                this.writeBuffer();
+            }
+
+            final ByteBuffer bytes = ByteBuffer.allocate((int) (offsets[idx + 1] - offsets[idx]));
+            long position = offsets[idx];
+            while (bytes.hasRemaining()) {
+                final int read = channel.read(bytes, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of the spill file");
+                }
+                position += read;
+            }
+
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.array()));
+            return in.readBoolean() ? codec.decode(in) : null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+
+    private static class Buffer extends ByteArrayOutputStream {
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+}
@@ -1,17 +1,20 @@
 package io.github.millij.poi.util;
 
-import io.github.millij.poi.CellEmptyException;
 import io.github.millij.poi.UnsupportedException;
+import io.github.millij.poi.ss.binder.SheetBinder;
+import io.github.millij.poi.ss.binder.SheetBinders;
 import io.github.millij.poi.ss.model.ColumnMapping;
 import io.github.millij.poi.ss.model.SheetRow;
 import io.github.millij.poi.ss.model.annotations.SheetColumn;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.util.NumberToTextConverter;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.DateTimeException;
 import java.util.*;
 
 /**
@@ -35,8 +38,12 @@ public final class Spreadsheet {
      * @return returns the column index "D" from the cell reference "D3"
      */
     public static String getCellColumnReference(String cellRef) {
-        String cellColRef = cellRef.split("[0-9]*$")[0];
-        return cellColRef;
+        // Trailing row number, scanned rather than split with a regex (called for every cell)
+        int end = cellRef.length();
+        while (end > 0 && Character.isDigit(cellRef.charAt(end - 1))) {
+            end--;
+        }
+        return cellRef.substring(0, end);
     }
 
 
@@ -51,6 +58,16 @@ public final class Spreadsheet {
         // Property to Column name Mapping
         final Map<String, String> mapping = new HashMap<String, String>();
 
+        // Generated binder
+        final SheetBinder<?> binder = SheetBinders.find(beanType);
+        if (binder != null) {
+            for (SheetBinder.Column column : binder.getColumns()) {
+                mapping.put(column.getProperty(), column.getColumnName());
+            }
+            log.info("Bean property to Excel Column of - {} : {}", beanType, mapping);
+            return Collections.unmodifiableMap(mapping);
+        }
+
         // Fields
         Field[] fields = beanType.getDeclaredFields();
         for (Field f : fields) {
@@ -99,6 +116,24 @@ public final class Spreadsheet {
         // RowData map
         final Map<String, String> rowDataMap = new HashMap<String, String>();
 
+        // Generated binder
+        @SuppressWarnings("unchecked")
+        final SheetBinder<Object> binder = (SheetBinder<Object>) SheetBinders.find(beanType);
+        if (binder != null) {
+            for (SheetBinder.Column column : binder.getColumns()) {
+                if (!column.isAnnotated() || !colHeaders.contains(column.getColumnName())) {
+                    continue;
+                }
+
+                final String fieldName = column.getProperty();
+                final Object value = column.isReadable() ? binder.get(beanObj, fieldName) : null;
+                rowDataMap.put(column.getColumnName(), column.isReadable()
+                        ? (value != null ? String.valueOf(value) : null)
+                        : Beans.getFieldValueAsString(beanObj, fieldName));
+            }
+            return rowDataMap;
+        }
+
         // Fields
         for (Field f : beanType.getDeclaredFields()) {
             if (!f.isAnnotationPresent(SheetColumn.class)) {
@@ -141,6 +176,21 @@ public final class Spreadsheet {
     // ------------------------------------------------------------------------
 
     public static <T> T rowAsBean(SheetRow sheetRow, ColumnMapping<T> columnMapping) {
+        return rowAsBean(sheetRow, columnMapping, null);
+    }
+
+    /**
+     * Maps the row data to a bean. All the mapped properties are set, so a reused bean ends up
+     * holding the same values as a new one. The row is not validated here : the readers check it
+     * once, per the {@link io.github.millij.poi.ss.model.ValidationPolicy}, before the call.
+     *
+     * @param <T> the bean type
+     * @param sheetRow the row data
+     * @param columnMapping the column mapping of the bean type
+     * @param reuse the bean to refill, or null for a new bean.
+     * @return the bean, or null when the row (or the mapping) is empty.
+     */
+    public static <T> T rowAsBean(SheetRow sheetRow, ColumnMapping<T> columnMapping, T reuse) {
 
         final Class<T> beanClz = columnMapping.getBeanClz();
         // Sanity checks
@@ -150,26 +200,35 @@ public final class Spreadsheet {
             return null;
         }
 
-        T rowBean = newBeanInstance(beanClz);
+        final SheetBinder<T> binder = columnMapping.getBinder();
+        T rowBean = reuse != null ? reuse : binder != null ? binder.newInstance() : newBeanInstance(beanClz);
 
         // Fill in the data
         for (String colName : columnMapping.getCellColNames()) {
 
             ColumnMapping.Property property = columnMapping.get(colName);
-            final String colRef = property.getColumnReference();
-            Object cellValue = sheetRow.getCell(colRef).getValue();
+            Object cellValue = sheetRow.getCellValue(property.getColumnReference());
 
-            if (!property.isNullable()) {
-                if (cellValue == null || StringUtils.isEmpty(cellValue.toString())) {
-                    final String cellRef = colRef + sheetRow.getPhysicalRowNum();
-                    throw new CellEmptyException(cellRef, property.getColumnName());
+            try {
+                // java.time properties, from ISO strings or serial dates
+                if (ExcelDates.isTemporalType(property.getFieldType())) {
+                    cellValue = ExcelDates.toTemporal(cellValue, property.getFieldType(), columnMapping.isDate1904());
+                }
+
+                // Numbers, parsed and set through the setter, without the bean converters
+                final Object number = Beans.parseNumber(cellValue, property.getFieldType());
+                final Object value = number != null ? number : cellValue;
+                if (binder != null && binder.set(rowBean, property.getFieldName(), value)) {
+                    continue;
+                }
+                if (number != null && property.getWriteMethod() != null) {
+                    property.getWriteMethod().invoke(rowBean, number);
+                    continue;
                 }
-            }
 
-            try {
                 // Set the property value in the current row object bean
                 BeanUtils.setProperty(rowBean, property.getFieldName(), cellValue);
-            } catch (IllegalAccessException | InvocationTargetException ex) {
+            } catch (IllegalAccessException | InvocationTargetException | DateTimeException ex) {
                 String errMsg = String.format("Failed to set bean property - %s, value - %s, sheetRow - %s.",
                         property.getFieldName(), cellValue, sheetRow);
                 log.error(errMsg, ex);
@@ -180,6 +239,23 @@ public final class Spreadsheet {
         return rowBean;
     }
 
+    /**
+     * Text of a typed cell value (number or boolean), as displayed in the General format : the
+     * text the xlsx reads give for the cell.
+     *
+     * @param cellValue the cell value
+     * @return the text of the numbers and booleans, other values as is.
+     */
+    public static Object asGeneralText(Object cellValue) {
+        if (cellValue instanceof Double) {
+            return NumberToTextConverter.toText((Double) cellValue);
+        }
+        if (cellValue instanceof Boolean) {
+            return (Boolean) cellValue ? "TRUE" : "FALSE";
+        }
+        return cellValue;
+    }
+
     private static <T> T newBeanInstance(Class<T> beanClz) {
         T rowBean;
         try {
@@ -0,0 +1,58 @@
+package io.github.millij.poi.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded pool of strings, so equal values share a single instance. Once full, new values are
+ * returned as is (the pooled values are kept). Not thread-safe, meant to live as long as a read.
+ *
+ * @author Fang Gang
+ */
+public final class StringPool {
+
+    private final int maxSize;
+
+    private final Map<String, String> pool;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param maxSize max no. of distinct values kept
+     */
+    public StringPool(int maxSize) {
+        this.maxSize = maxSize;
+        this.pool = new HashMap<>(Math.min(maxSize, 256));
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param value the string
+     * @return the pooled instance equal to the value, or the value itself.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        if (pool.size() < maxSize) {
+            pool.put(value, value);
+        }
+        return value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+}
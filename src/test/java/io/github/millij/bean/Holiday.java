@@ -0,0 +1,28 @@
+package io.github.millij.bean;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Sheet("Holidays")
+public class Holiday {
+
+    @SheetColumn("Name")
+    private String name;
+
+    @SheetColumn("Date")
+    private LocalDate date;
+
+    @SheetColumn("Starts")
+    private LocalDateTime starts;
+
+    @SheetColumn("Ends")
+    private Instant ends;
+
+}
@@ -0,0 +1,83 @@
+package io.github.millij.poi.ss.binder;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.ss.model.ColumnMapping;
+import io.github.millij.poi.ss.model.SheetRow;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+import io.github.millij.poi.util.Spreadsheet;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class SheetBindersTest {
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_generated_binder() throws Exception {
+        // Generated at the test compile
+        final SheetBinder<Employee> binder = SheetBinders.find(Employee.class);
+        Assert.assertNotNull(binder);
+        Assert.assertEquals(SheetBinders.binderName(Employee.class), binder.getClass().getName());
+        Assert.assertEquals(6, binder.getColumns().size());
+
+        // Row to bean, through the binder
+        final SheetRow headerRow = new SheetRow(0);
+        headerRow.addCell("A1", "ID");
+        headerRow.addCell("B1", "Name");
+        headerRow.addCell("C1", "Height (mts)");
+        final ColumnMapping<Employee> mapping = new ColumnMapping<>(Employee.class, headerRow);
+        Assert.assertSame(binder, mapping.getBinder());
+
+        final SheetRow row = new SheetRow(1);
+        row.addCell("A2", "1");
+        row.addCell("B2", "foo");
+        row.addCell("C2", "1.68");
+        final Employee employee = Spreadsheet.rowAsBean(row, mapping);
+        Assert.assertEquals("1", employee.getId());
+        Assert.assertEquals("foo", employee.getName());
+        Assert.assertEquals(Double.valueOf(1.68), employee.getHeight());
+
+        // Bean to row data
+        final Map<String, String> rowData = Spreadsheet.asRowDataMap(employee, Arrays.asList("ID", "Name", "Age"));
+        Assert.assertEquals("foo", rowData.get("Name"));
+        Assert.assertNull(rowData.get("Age"));
+        Assert.assertFalse(rowData.containsKey("Height (mts)"));
+    }
+
+    @Test
+    public void test_generated_binder_without_sheet() throws Exception {
+        // Only @SheetColumn fields, no @Sheet
+        final SheetBinder<Plain> binder = SheetBinders.find(Plain.class);
+        Assert.assertNotNull(binder);
+        Assert.assertEquals(1, binder.getColumns().size());
+
+        final Plain plain = binder.newInstance();
+        Assert.assertTrue(binder.set(plain, "code", "X1"));
+        Assert.assertEquals("X1", binder.get(plain, "code"));
+    }
+
+    @Test
+    public void test_no_binder() {
+        // Not a @Sheet bean
+        Assert.assertNull(SheetBinders.find(SheetRow.class));
+        Assert.assertNull(SheetBinders.find(null));
+    }
+
+
+    // Beans
+    // ------------------------------------------------------------------------
+
+    public static class Plain {
+
+        @SheetColumn("Code")
+        String code;
+
+    }
+
+}
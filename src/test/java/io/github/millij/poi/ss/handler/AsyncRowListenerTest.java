@@ -0,0 +1,121 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.bean.CompetitionData;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class AsyncRowListenerTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncRowListenerTest.class);
+
+    private final String _filepath_xlsx_competition = "src/test/resources/sample-files/competition_data.xlsx";
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_read_xlsx_async_ordered() throws SpreadsheetReadException {
+        final XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        final List<Integer> expected = new ArrayList<>();
+        reader.read(CompetitionData.class, file, 0, (rowNum, rowObj) -> expected.add(rowNum));
+
+        // Single listener thread, small queue : rows in the sheet order, off the parsing thread
+        final Thread parsingThread = Thread.currentThread();
+        final List<Integer> rows = new ArrayList<>();
+        final AsyncRowListener<CompetitionData> async = new AsyncRowListener<CompetitionData>((rowNum, rowObj) -> {
+            Assert.assertNotSame(parsingThread, Thread.currentThread());
+            rows.add(rowNum);
+        }).setQueueSize(4);
+        try (AsyncRowListener<CompetitionData> listener = async) {
+            reader.read(CompetitionData.class, file, 0, listener);
+        }
+        LOGGER.info("test_read_xlsx_async_ordered :: rows delivered - {}", async.getDeliveredCount());
+        Assert.assertEquals(expected.size(), async.getDeliveredCount());
+        Assert.assertFalse(rows.isEmpty());
+        Assert.assertEquals(expected, rows);
+    }
+
+    @Test
+    public void test_read_xlsx_async_fail_fast() throws InterruptedException {
+        final XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        // Listener held until the read is over : the queue overflows
+        final CountDownLatch readDone = new CountDownLatch(1);
+        final AsyncRowListener<CompetitionData> async = new AsyncRowListener<CompetitionData>((rowNum, rowObj) -> {
+            try {
+                readDone.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }).setQueueSize(2).setOverflow(AsyncRowListener.Overflow.FAIL);
+
+        try (AsyncRowListener<CompetitionData> listener = async) {
+            try {
+                reader.read(CompetitionData.class, file, 0, listener);
+                Assert.fail("Read should fail on the queue overflow");
+            } catch (SpreadsheetReadException ex) {
+                Assert.assertNotNull(causeOf(ex, RejectedExecutionException.class));
+            } finally {
+                // Released before the close, which waits for the queued rows
+                readDone.countDown();
+            }
+        }
+        Assert.assertTrue(async.getDeliveredCount() <= 3);
+    }
+
+    @Test(timeout = 30000)
+    public void test_read_xlsx_async_interrupted() {
+        final XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        // Listener thread interrupted at the first row : the blocked read and the close fail
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        final AsyncRowListener<CompetitionData> async =
+                new AsyncRowListener<CompetitionData>((rowNum, rowObj) -> executor.shutdownNow(), executor, 1)
+                        .setQueueSize(2);
+        try {
+            reader.read(CompetitionData.class, file, 0, async);
+            Assert.fail("Read should fail on the interrupted listener thread");
+        } catch (SpreadsheetReadException ex) {
+            Assert.assertNotNull(causeOf(ex, InterruptedException.class));
+        }
+
+        try {
+            async.close();
+            Assert.fail("Close should throw the listener failure");
+        } catch (RuntimeException ex) {
+            Assert.assertNotNull(causeOf(ex, InterruptedException.class));
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static Throwable causeOf(Throwable ex, Class<? extends Throwable> type) {
+        Throwable cause = ex;
+        while (cause != null && !type.isInstance(cause)) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.github.millij.poi.ss.ingest;
+
+import io.github.millij.bean.Employee;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class BulkIngestTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkIngestTest.class);
+
+    private static final String _filepath_xlsx_single_sheet = "src/test/resources/sample-files/xlsx_sample_single_sheet.xlsx";
+    private static final String _filepath_xls_single_sheet = "src/test/resources/sample-files/xls_sample_single_sheet.xls";
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_ingest_files_over_budget() throws InterruptedException, ExecutionException {
+        List<File> files = Arrays.asList(new File(_filepath_xlsx_single_sheet), new File(_filepath_xls_single_sheet),
+                new File(_filepath_xlsx_single_sheet), new File(_filepath_xls_single_sheet));
+
+        // Budget smaller than any file, reads are admitted one at a time, in order
+        try (BulkIngest ingest = new BulkIngest(4, 1)) {
+            List<CompletableFuture<IngestResult<Employee>>> futures = ingest.submitAll(Employee.class, files);
+            for (CompletableFuture<IngestResult<Employee>> future : futures) {
+                try (IngestResult<Employee> result = future.get()) {
+                    LOGGER.info("test_ingest_files_over_budget :: Output - {}", result.getBeans());
+                    Assert.assertFalse(result.getBeans().isEmpty());
+
+                    // Held until the result is closed
+                    Assert.assertTrue(ingest.getBudget().getUsedBytes() > 0);
+                }
+            }
+            Assert.assertEquals(0, ingest.getBudget().getUsedBytes());
+            Assert.assertEquals(1, ingest.getBudget().getPeakReservations());
+        }
+    }
+
+    @Test
+    public void test_ingest_file_failure() throws InterruptedException {
+        try (BulkIngest ingest = new BulkIngest(2, 64L * 1024 * 1024)) {
+            CompletableFuture<IngestResult<Employee>> future = ingest.submit(Employee.class, new File("missing.xlsx"));
+            try {
+                future.get();
+                Assert.fail("Missing file read without an error");
+            } catch (ExecutionException ex) {
+                LOGGER.info("test_ingest_file_failure :: Output - {}", ex.getCause().getMessage());
+            }
+            Assert.assertTrue(future.isCompletedExceptionally());
+            Assert.assertEquals(0, ingest.getBudget().getUsedBytes());
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.github.millij.poi.ss.jfr;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class FlightRecorderEventsTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecorderEventsTest.class);
+
+    private final String _filepath_xlsx_single_sheet = "src/test/resources/sample-files/xlsx_sample_single_sheet.xlsx";
+    private final String _path_test_output = "test-cases/output/";
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() {
+        // prepare
+        File output_dir = new File(_path_test_output);
+        if (!output_dir.exists()) {
+            output_dir.mkdirs();
+        }
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_jfr_available() {
+        Assert.assertTrue(JfrEvents.isAvailable());
+    }
+
+    @Test
+    public void test_read_xlsx_recorded_events() throws IOException, SpreadsheetReadException {
+        final File file = new File(_filepath_xlsx_single_sheet);
+        final Path dump = new File(_path_test_output.concat("read_events.jfr")).toPath();
+
+        final List<Employee> employees;
+        try (Recording recording = new Recording()) {
+            recording.enable(WorkbookOpenEvent.class);
+            recording.enable(SheetReadEvent.class);
+            recording.enable(RowBindBatchEvent.class);
+            recording.enable(SlowRowListenerEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            employees = new XlsxReader().read(Employee.class, file, 0);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        LOGGER.info("test_read_xlsx_recorded_events :: events - {}", events.size());
+
+        final List<RecordedEvent> sheetEvents = ofType(events, "io.github.millij.poi.SheetRead");
+        Assert.assertEquals(1, sheetEvents.size());
+        Assert.assertEquals(employees.size() + 1, sheetEvents.get(0).getLong("rowCount"));
+        Assert.assertTrue(sheetEvents.get(0).getLong("bytes") > 0);
+
+        final List<RecordedEvent> openEvents = ofType(events, "io.github.millij.poi.WorkbookOpen");
+        Assert.assertEquals(1, openEvents.size());
+        Assert.assertEquals(1, openEvents.get(0).getInt("sheetCount"));
+
+        final List<RecordedEvent> bindEvents = ofType(events, "io.github.millij.poi.RowBindBatch");
+        Assert.assertEquals(employees.size(), bindEvents.stream().mapToInt(e -> e.getInt("rowCount")).sum());
+        Assert.assertEquals(employees.size(), ofType(events, "io.github.millij.poi.SlowRowListener").size());
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.millij.poi.ss.model;
+
+import io.github.millij.bean.CompetitionData;
+import io.github.millij.poi.CellEmptyException;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class RowValidatorTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowValidatorTest.class);
+
+    private ColumnMapping<CompetitionData> _mapping;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() {
+        SheetRow headerRow = new SheetRow(0);
+        headerRow.addCell("A1", "学员编号");
+        headerRow.addCell("B1", "学员姓名");
+        headerRow.addCell("C1", "总分");
+        headerRow.addCell("D1", "奖项");
+        headerRow.addCell("E1", "城市");
+        headerRow.addCell("F1", "证书编号");
+
+        _mapping = new ColumnMapping<>(CompetitionData.class, headerRow);
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_validate_valid_row() {
+        SheetRow row = new SheetRow(1);
+        row.addCell("A2", "711");
+        row.addCell("B2", "Eric");
+        row.addCell("C2", "20");
+        row.addCell("D2", "-");
+        row.addCell("E2", "-");
+        row.addCell("F2", "YC2020SC0700");
+
+        RowValidator validator = _mapping.getValidator();
+        Assert.assertTrue(validator.hasRules());
+        Assert.assertTrue(validator.isValid(row));
+        Assert.assertTrue(validator.check(row).isEmpty());
+        validator.validate(row);
+    }
+
+    @Test
+    public void test_validate_reports_all_violations() {
+        SheetRow row = new SheetRow(1);
+        row.addCell("A2", "711");
+        row.addCell("B2", "");
+        row.addCell("D2", "-");
+        row.addCell("E2", "-");
+        row.addCell("F2", "YC2020SC0700");
+
+        RowValidator validator = _mapping.getValidator();
+        Assert.assertFalse(validator.isValid(row));
+
+        List<CellEmptyException> violations = validator.check(row);
+        LOGGER.info("test_validate_reports_all_violations :: Output - {}", violations);
+        Assert.assertEquals(2, violations.size());
+
+        try {
+            validator.validate(row);
+            Assert.fail("Invalid row passed the validation");
+        } catch (CellEmptyException ex) {
+            Assert.assertEquals(1, ex.getSuppressed().length);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.OperationCancelledException;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.RowFilter;
+import io.github.millij.poi.util.CancellationToken;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class CachingSpreadsheetReaderTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingSpreadsheetReaderTest.class);
+
+    private String _filepath_xlsx_multiple_sheets;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() throws ParseException {
+        // sample files
+        _filepath_xlsx_multiple_sheets = "src/test/resources/sample-files/xlsx_sample_multiple_sheets.xlsx";
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_read_cached_in_memory() throws SpreadsheetReadException {
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 10, 1024 * 1024, 0);
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        List<Employee> first = reader.read(Employee.class, file, 0);
+        List<Employee> second = reader.read(Employee.class, file, 0);
+        LOGGER.info("test_read_cached_in_memory :: Stats - {}", reader.getStats());
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(1, reader.getStats().getMisses());
+        Assert.assertEquals(1, reader.getStats().getHits());
+        Assert.assertTrue(reader.getStats().getCachedBytes() > 0);
+    }
+
+    @Test
+    public void test_read_cached_over_bytes() throws SpreadsheetReadException {
+        // Bound below a single read, nothing is kept
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 10, 64, 0);
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        reader.read(Employee.class, file, 0);
+        final List<Employee> rows = new ArrayList<>();
+        reader.read(Employee.class, file, 0, (rowNum, rowObj) -> rows.add(rowObj));
+
+        Assert.assertEquals(new XlsxReader().read(Employee.class, file, 0).size(), rows.size());
+        Assert.assertEquals(2, reader.getStats().getMisses());
+        Assert.assertEquals(0, reader.getStats().getCachedBytes());
+    }
+
+    @Test
+    public void test_read_cached_filtered() throws SpreadsheetReadException {
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 10, 1024 * 1024, 0);
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        // Filtered reads go to the delegate, and are not cached
+        final List<Employee> males = new ArrayList<>();
+        reader.read(Employee.class, file, 0,
+                RowListener.filtering(RowFilter.whereEquals("Gender", "MALE"), (rowNum, rowObj) -> males.add(rowObj)));
+        final List<Employee> all = reader.read(Employee.class, file, 0);
+
+        Assert.assertTrue(males.size() < all.size());
+        Assert.assertEquals(1, reader.getStats().getMisses());
+        Assert.assertEquals(0, reader.getStats().getHits());
+    }
+
+    @Test
+    public void test_read_cached_cancelled() throws SpreadsheetReadException {
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 10, 1024 * 1024, 0);
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        final CancellationToken token = CancellationToken.create();
+        token.cancel();
+
+        // Miss, the token is passed on to the delegate
+        final List<Employee> missed = new ArrayList<>();
+        try {
+            reader.read(Employee.class, file, 0,
+                    RowListener.cancellable(token, (rowNum, rowObj) -> missed.add(rowObj)));
+            Assert.fail("Read should be cancelled");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.CANCELLED, ex.getReason());
+        }
+        Assert.assertTrue(missed.isEmpty());
+
+        // Hit, the replay stops too
+        reader.read(Employee.class, file, 0);
+        final List<Employee> hit = new ArrayList<>();
+        try {
+            reader.read(Employee.class, file, 0, RowListener.cancellable(token, (rowNum, rowObj) -> hit.add(rowObj)));
+            Assert.fail("Read should be cancelled");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.CANCELLED, ex.getReason());
+        }
+        Assert.assertTrue(hit.isEmpty());
+        Assert.assertEquals(1, reader.getStats().getHits());
+    }
+
+    @Test
+    public void test_read_cached_on_disk() throws Exception {
+        final File cacheDir = Files.createTempDirectory("read-cache").toFile();
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 0, 0, 0)
+                .enableDiskCache(cacheDir, 1024 * 1024);
+        List<Employee> first = reader.read(Employee.class, file, 0);
+
+        // A new reader, only the snapshots on disk are shared
+        CachingSpreadsheetReader other = new CachingSpreadsheetReader(new XlsxReader(), 0, 0, 0)
+                .enableDiskCache(cacheDir, 1024 * 1024);
+        List<Employee> second = other.read(Employee.class, file, 0);
+        LOGGER.info("test_read_cached_on_disk :: Stats - {}", other.getStats());
+
+        Assert.assertEquals(first.size(), second.size());
+        Assert.assertEquals(1, other.getStats().getDiskHits());
+        Assert.assertTrue(other.getStats().getCachedDiskBytes() > 0);
+    }
+
+    @Test
+    public void test_read_cached_on_disk_over_bytes() throws Exception {
+        final File cacheDir = Files.createTempDirectory("read-cache").toFile();
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        // Bound below a single snapshot, read and then dropped
+        CachingSpreadsheetReader reader = new CachingSpreadsheetReader(new XlsxReader(), 0, 0, 0)
+                .enableDiskCache(cacheDir, 64);
+        List<Employee> first = reader.read(Employee.class, file, 0);
+        List<Employee> second = reader.read(Employee.class, file, 0);
+
+        Assert.assertEquals(new XlsxReader().read(Employee.class, file, 0).size(), first.size());
+        Assert.assertEquals(first.size(), second.size());
+        Assert.assertEquals(2, reader.getStats().getMisses());
+        Assert.assertEquals(0, reader.getStats().getCachedDiskBytes());
+        Assert.assertEquals(0, cacheDir.listFiles((dir, name) -> name.endsWith(".snapshot")).length);
+    }
+
+}
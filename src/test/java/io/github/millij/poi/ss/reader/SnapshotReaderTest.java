@@ -0,0 +1,109 @@
+package io.github.millij.poi.ss.reader;
+
+import io.github.millij.bean.CompetitionData;
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.model.SheetRow;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class SnapshotReaderTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotReaderTest.class);
+
+    private String _filepath_xlsx_competition;
+    private String _filepath_xlsx_single_sheet;
+    private File _snapshot_file;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() throws ParseException, IOException {
+        // sample files
+        _filepath_xlsx_competition = "src/test/resources/sample-files/competition_data.xlsx";
+        _filepath_xlsx_single_sheet = "src/test/resources/sample-files/xlsx_sample_single_sheet.xlsx";
+        _snapshot_file = File.createTempFile("competition_data", ".snapshot");
+    }
+
+    @After
+    public void teardown() {
+        _snapshot_file.delete();
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_read_snapshot_matches_xlsx() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_snapshot_matches_xlsx :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader xlsxReader = new XlsxReader();
+
+        // Snapshot
+        try (InputStream fis = new FileInputStream(_filepath_xlsx_competition)) {
+            xlsxReader.writeSnapshot(fis, 0, _snapshot_file);
+        }
+        Assert.assertTrue(_snapshot_file.length() > 0);
+
+        // Read
+        List<CompetitionData> expected = xlsxReader.read(CompetitionData.class, new File(_filepath_xlsx_competition));
+        List<CompetitionData> fromFile = new SnapshotReader().read(CompetitionData.class, _snapshot_file);
+        Assert.assertEquals(expected, fromFile);
+
+        try (InputStream sis = new FileInputStream(_snapshot_file)) {
+            List<CompetitionData> fromStream = new SnapshotReader().read(CompetitionData.class, sis);
+            Assert.assertEquals(expected, fromStream);
+        }
+    }
+
+    @Test
+    public void test_snapshot_typed_columns() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_snapshot_typed_columns :: Reading file - {}", _filepath_xlsx_single_sheet);
+        XlsxReader xlsxReader = new XlsxReader();
+
+        try (InputStream fis = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            xlsxReader.writeSnapshot(fis, 0, _snapshot_file);
+        }
+
+        // Numeric cells come back as doubles, from a DOUBLE block
+        final List<SheetRow> rows = new ArrayList<>();
+        try (InputStream sis = new FileInputStream(_snapshot_file)) {
+            new SnapshotReader().readRows(sis, 0, (rowNum, sheetRow) -> rows.add(sheetRow));
+        }
+        final String ageRef = rows.get(0).getColumnNameToReferenceMap().get("Age");
+        final String nameRef = rows.get(0).getColumnNameToReferenceMap().get("Name");
+        Assert.assertTrue(rows.size() > 1);
+        for (SheetRow row : rows.subList(1, rows.size())) {
+            final Object age = row.getCellValue(ageRef);
+            Assert.assertTrue(String.valueOf(age), age == null || age instanceof Double);
+            Assert.assertFalse(row.getCellValue(nameRef) instanceof Double);
+        }
+
+        // Same beans as the xlsx read
+        List<Employee> expected = xlsxReader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        List<Employee> fromFile = new SnapshotReader().read(Employee.class, _snapshot_file);
+        Assert.assertEquals(expected.toString(), fromFile.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_read_snapshot_invalid_sheet() throws SpreadsheetReadException {
+        new SnapshotReader().read(CompetitionData.class, _snapshot_file, 1);
+    }
+
+}
@@ -2,18 +2,33 @@ package io.github.millij.poi.ss.reader;
 
 import io.github.millij.bean.Company;
 import io.github.millij.bean.Employee;
+import io.github.millij.bean.Holiday;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.column.ColumnSchema;
+import io.github.millij.poi.ss.column.ColumnType;
+import io.github.millij.poi.ss.column.DoubleColumnVector;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.model.SheetInfo;
+import io.github.millij.poi.ss.model.WorkbookInfo;
 import io.github.millij.poi.ss.reader.XlsReader;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -178,4 +193,169 @@ public class XlsReaderTest {
         Assert.assertTrue(employees.size() > 0);
     }
 
+
+    // Columnar
+
+    @Test
+    public void test_read_xls_columns() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_xls_columns :: Reading file - {}", _filepath_xls_single_sheet);
+        XlsReader reader = new XlsReader();
+
+        ColumnSchema schema = new ColumnSchema() //
+                .add("Name", ColumnType.STRING) //
+                .add("Age", ColumnType.LONG) //
+                .add("Height (mts)", ColumnType.DOUBLE);
+
+        // Read
+        final List<Integer> batchSizes = new ArrayList<>();
+        final double[] heightSum = new double[1];
+        try (InputStream fis = new FileInputStream(_filepath_xls_single_sheet)) {
+            reader.readColumns(fis, 0, schema, 2, batch -> {
+                batchSizes.add(batch.getSize());
+                DoubleColumnVector heights = batch.getDoubleColumn("Height (mts)");
+                for (int i = 0; i < batch.getSize(); i++) {
+                    if (!heights.isNull(i)) {
+                        heightSum[0] += heights.get(i);
+                    }
+                }
+            });
+        }
+        LOGGER.info("test_read_xls_columns :: Batches - {}", batchSizes);
+
+        List<Employee> employees = reader.read(Employee.class, new File(_filepath_xls_single_sheet));
+        double expectedSum = 0;
+        for (Employee employee : employees) {
+            expectedSum += employee.getHeight() == null ? 0 : employee.getHeight();
+        }
+
+        Assert.assertEquals(employees.size(), batchSizes.stream().mapToInt(Integer::intValue).sum());
+        Assert.assertEquals(expectedSum, heightSum[0], 1e-9);
+    }
+
+
+    // Formula Cells
+
+    @Test
+    public void test_read_xls_formula_cells() throws SpreadsheetReadException, IOException {
+        // Workbook with formula cells, results cached on write
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (HSSFWorkbook wb = new HSSFWorkbook()) {
+            final HSSFSheet sheet = wb.createSheet("Employees");
+            final HSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("ID");
+            header.createCell(1).setCellValue("Name");
+            header.createCell(2).setCellValue("Age");
+
+            final HSSFRow row = sheet.createRow(1);
+            row.createCell(0).setCellValue("1");
+            row.createCell(1).setCellFormula("CONCATENATE(\"foo\",\" bar\")");
+            row.createCell(2).setCellFormula("6*2");
+
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            wb.write(out);
+        }
+
+        // Cached results
+        List<Employee> cached = new XlsReader().read(Employee.class, new ByteArrayInputStream(out.toByteArray()), 0);
+        Assert.assertEquals(1, cached.size());
+        Assert.assertEquals("foo bar", cached.get(0).getName());
+        Assert.assertEquals(Integer.valueOf(12), cached.get(0).getAge());
+
+        // Evaluated
+        XlsReader reader = new XlsReader().setEvaluateFormulas(true);
+        List<Employee> evaluated = reader.read(Employee.class, new ByteArrayInputStream(out.toByteArray()), 0);
+        Assert.assertEquals("foo bar", evaluated.get(0).getName());
+        Assert.assertEquals(Integer.valueOf(12), evaluated.get(0).getAge());
+    }
+
+
+    // Serial Dates
+
+    @Test
+    public void test_read_xls_serial_dates_1904() throws SpreadsheetReadException, IOException {
+        final LocalDate date = LocalDate.of(2020, 12, 24);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (HSSFWorkbook wb = new HSSFWorkbook()) {
+            final DateWindow1904Record dateWindow = (DateWindow1904Record) wb.getInternalWorkbook()
+                    .findFirstRecordBySid(DateWindow1904Record.sid);
+            dateWindow.setWindowing((short) 1);
+
+            final HSSFSheet sheet = wb.createSheet("Holidays");
+            final HSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Date");
+
+            // Plain serial, in the 1904 date system
+            final HSSFRow row = sheet.createRow(1);
+            row.createCell(0).setCellValue("Christmas");
+            row.createCell(1).setCellValue(date.toEpochDay() - LocalDate.of(1904, 1, 1).toEpochDay());
+            wb.write(out);
+        }
+
+        List<Holiday> holidays = new XlsReader().read(Holiday.class, new ByteArrayInputStream(out.toByteArray()), 0);
+        Assert.assertEquals(1, holidays.size());
+        Assert.assertEquals(date, holidays.get(0).getDate());
+    }
+
+
+    // Probe
+
+    @Test
+    public void test_probe_xls_multiple_sheets() throws SpreadsheetReadException {
+        LOGGER.info("test_probe_xls_multiple_sheets :: Probing file - {}", _filepath_xls_multiple_sheets);
+        XlsReader reader = new XlsReader();
+
+        WorkbookInfo workbookInfo = reader.probe(new File(_filepath_xls_multiple_sheets));
+        LOGGER.info("test_probe_xls_multiple_sheets :: Output - {}", workbookInfo);
+
+        Assert.assertEquals(2, workbookInfo.getSheets().size());
+
+        SheetInfo employees = workbookInfo.getSheets().get(0);
+        Assert.assertEquals(0, employees.getHeaderRowNum());
+        Assert.assertTrue(employees.getRowCount() > 1);
+        Assert.assertTrue(employees.getHeaders().contains("Name"));
+        Assert.assertTrue(employees.getHeaders().contains("Height (mts)"));
+
+        SheetInfo companies = workbookInfo.getSheets().get(1);
+        Assert.assertTrue(companies.getHeaders().contains("Company Name"));
+    }
+
+    @Test
+    public void test_probe_xls_large_sheets() throws SpreadsheetReadException, IOException {
+        // Sheets spanning many blocks, the probe jumps to each sheet header
+        final File file = File.createTempFile("probe", ".xls");
+        file.deleteOnExit();
+        try (HSSFWorkbook wb = new HSSFWorkbook()) {
+            for (int s = 0; s < 3; s++) {
+                final HSSFSheet sheet = wb.createSheet("Sheet" + s);
+                final HSSFRow header = sheet.createRow(s);
+                header.createCell(0).setCellValue("Id");
+                header.createCell(1).setCellValue("Name " + s);
+                for (int r = s + 1; r <= 5000; r++) {
+                    final HSSFRow row = sheet.createRow(r);
+                    row.createCell(0).setCellValue(r);
+                    row.createCell(1).setCellValue("name-" + r);
+                }
+            }
+            wb.write(file);
+        }
+
+        XlsReader reader = new XlsReader();
+        WorkbookInfo probed = reader.probe(file);
+        WorkbookInfo walked;
+        try (InputStream fis = new FileInputStream(file)) {
+            walked = reader.probe(fis);
+        }
+        LOGGER.info("test_probe_xls_large_sheets :: Output - {}", probed);
+
+        Assert.assertEquals(3, probed.getSheets().size());
+        for (int s = 0; s < 3; s++) {
+            final SheetInfo sheetInfo = probed.getSheets().get(s);
+            Assert.assertEquals("Sheet" + s, sheetInfo.getName());
+            Assert.assertEquals(s, sheetInfo.getHeaderRowNum());
+            Assert.assertEquals(Arrays.asList("Id", "Name " + s), sheetInfo.getHeaders());
+            Assert.assertEquals(walked.getSheets().get(s).toString(), sheetInfo.toString());
+        }
+    }
+
 }
@@ -3,22 +3,60 @@ package io.github.millij.poi.ss.reader;
 import io.github.millij.bean.Company;
 import io.github.millij.bean.CompetitionData;
 import io.github.millij.bean.Employee;
+import io.github.millij.bean.Holiday;
+import io.github.millij.poi.OperationCancelledException;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.column.ColumnSchema;
+import io.github.millij.poi.ss.column.ColumnType;
+import io.github.millij.poi.ss.column.DoubleColumnVector;
+import io.github.millij.poi.ss.column.GroupBy;
+import io.github.millij.poi.ss.column.GroupTable;
+import io.github.millij.poi.ss.column.OffHeapColumn;
+import io.github.millij.poi.ss.checkpoint.CheckpointStore;
+import io.github.millij.poi.ss.checkpoint.Checkpointer;
+import io.github.millij.poi.ss.checkpoint.FileCheckpointStore;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.RowMapListener;
+import io.github.millij.poi.ss.index.RowOffsetIndex;
+import io.github.millij.poi.ss.model.RowFilter;
+import io.github.millij.poi.ss.model.SheetInfo;
+import io.github.millij.poi.ss.model.ValidationPolicy;
+import io.github.millij.poi.ss.model.WorkbookInfo;
 import io.github.millij.poi.ss.reader.XlsxReader;
+import io.github.millij.poi.util.CancellationToken;
+import io.github.millij.poi.util.SpillableList;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -214,26 +252,618 @@ public class XlsxReaderTest {
 
 
 
+    // Read with disk spilling
+
+    @Test
+    public void test_read_xlsx_spillable() throws SpreadsheetReadException {
+        LOGGER.info("test_read_xlsx_spillable :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader reader = new XlsxReader();
+
+        List<CompetitionData> expected = reader.read(CompetitionData.class, new File(_filepath_xlsx_competition));
+        try (SpillableList<CompetitionData> spillable =
+                reader.readSpillable(CompetitionData.class, new File(_filepath_xlsx_competition), 100)) {
+            LOGGER.info("test_read_xlsx_spillable :: Spilled - {} of {}", spillable.getSpilledCount(),
+                    spillable.size());
+
+            Assert.assertTrue(spillable.isSpilled());
+            Assert.assertEquals(expected.size() - 100, spillable.getSpilledCount());
+            Assert.assertEquals(expected.get(expected.size() - 1), spillable.get(expected.size() - 1));
+            Assert.assertEquals(expected, spillable);
+        }
+    }
+
+
+
+    // String pooling
+
+    @Test
+    public void test_read_xlsx_pooled_strings() throws SpreadsheetReadException {
+        LOGGER.info("test_read_xlsx_pooled_strings :: Reading file - {}", _filepath_xlsx_competition);
+
+        List<CompetitionData> pooled = new XlsxReader().read(CompetitionData.class, new File(_filepath_xlsx_competition));
+        List<CompetitionData> unpooled = new XlsxReader().setStringPoolSize(0) //
+                .read(CompetitionData.class, new File(_filepath_xlsx_competition));
+        Assert.assertEquals(unpooled, pooled);
+
+        // Equal values share the instance
+        CompetitionData first = pooled.get(0);
+        for (CompetitionData data : pooled) {
+            if (first.getCity() != null && first.getCity().equals(data.getCity())) {
+                Assert.assertSame(first.getCity(), data.getCity());
+            }
+            if (first.getAward() != null && first.getAward().equals(data.getAward())) {
+                Assert.assertSame(first.getAward(), data.getAward());
+            }
+        }
+    }
+
+
+
     // Read to Map
 
 
     @Test
-    public void test_read_xlsx_as_Map() throws FileNotFoundException {
+    public void test_read_xlsx_as_Map() throws SpreadsheetReadException {
         // Excel Reader
         LOGGER.info("test_read_xlsx_as_Map :: Reading file - {}", _filepath_xlsx_single_sheet);
         XlsxReader ger = new XlsxReader();
 
         // Read
-        /*
-        List<Map<String, Object>> employees = ger.readAsMap(new File(_filepath_xlsx_single_sheet), 1);
+        List<Map<String, Object>> employees = ger.readAsMap(new File(_filepath_xlsx_single_sheet), 0);
+        List<Employee> expected = ger.read(Employee.class, new File(_filepath_xlsx_single_sheet), 0);
         Assert.assertNotNull(employees);
-        Assert.assertTrue(employees.size() > 0);
+        Assert.assertEquals(expected.size(), employees.size());
 
         for (Map<String, Object> emp : employees) {
-            LOGGER.info("test_read_xlsx_single_sheet :: Output - {}", emp);
+            LOGGER.info("test_read_xlsx_as_Map :: Output - {}", emp);
+            Assert.assertTrue(emp.containsKey("Name"));
+        }
+        Assert.assertEquals(expected.get(0).getName(), employees.get(0).get("Name"));
+    }
+
+    @Test
+    public void test_read_xlsx_as_Map_reused_across_sheets() throws SpreadsheetReadException, IOException {
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        // One listener, the header of each sheet is used for its own rows
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        final RowMapListener listener = new RowMapListener((rowNum, rowObj) -> rows.add(rowObj));
+        for (int sheetNo = 0; sheetNo < 2; sheetNo++) {
+            try (InputStream fis = new FileInputStream(file)) {
+                reader.readRows(fis, sheetNo, listener);
+            }
+        }
+
+        Assert.assertTrue(rows.get(0).containsKey("Name"));
+        Assert.assertTrue(rows.get(rows.size() - 1).containsKey("Company Name"));
+        Assert.assertFalse(rows.get(rows.size() - 1).containsKey("Name"));
+    }
+
+    @Test
+    public void test_read_xlsx_rows_from_file() throws SpreadsheetReadException, IOException {
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        // Read in place, same rows as the stream read
+        final List<Map<String, Object>> fileRows = new ArrayList<>();
+        reader.readRows(file, 1, new RowMapListener((rowNum, rowObj) -> fileRows.add(rowObj)));
+
+        final List<Map<String, Object>> streamRows = new ArrayList<>();
+        try (InputStream fis = new FileInputStream(file)) {
+            reader.readRows(fis, 1, new RowMapListener((rowNum, rowObj) -> streamRows.add(rowObj)));
+        }
+
+        Assert.assertFalse(fileRows.isEmpty());
+        Assert.assertEquals(streamRows, fileRows);
+    }
+
+
+    // Columnar
+
+    @Test
+    public void test_read_xlsx_columns() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_xlsx_columns :: Reading file - {}", _filepath_xlsx_single_sheet);
+        XlsxReader reader = new XlsxReader();
+
+        ColumnSchema schema = new ColumnSchema() //
+                .add("Name", ColumnType.STRING) //
+                .add("Age", ColumnType.LONG) //
+                .add("Height (mts)", ColumnType.DOUBLE);
+
+        // Read
+        final List<Integer> batchSizes = new ArrayList<>();
+        final double[] heightSum = new double[1];
+        try (InputStream fis = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            reader.readColumns(fis, 0, schema, 2, batch -> {
+                batchSizes.add(batch.getSize());
+                DoubleColumnVector heights = batch.getDoubleColumn("Height (mts)");
+                for (int i = 0; i < batch.getSize(); i++) {
+                    if (!heights.isNull(i)) {
+                        heightSum[0] += heights.get(i);
+                    }
+                }
+            });
+        }
+        LOGGER.info("test_read_xlsx_columns :: Batches - {}", batchSizes);
+
+        List<Employee> employees = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        double expectedSum = 0;
+        for (Employee employee : employees) {
+            expectedSum += employee.getHeight() == null ? 0 : employee.getHeight();
+        }
+
+        Assert.assertEquals(employees.size(), batchSizes.stream().mapToInt(Integer::intValue).sum());
+        Assert.assertEquals(expectedSum, heightSum[0], 1e-9);
+    }
+
+
+    @Test
+    public void test_read_xlsx_columns_off_heap() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_xlsx_columns_off_heap :: Reading file - {}", _filepath_xlsx_single_sheet);
+        XlsxReader reader = new XlsxReader();
+
+        ColumnSchema schema = new ColumnSchema() //
+                .add("Name", ColumnType.STRING) //
+                .add("Height (mts)", ColumnType.DOUBLE) //
+                .add("Address", ColumnType.STRING);
+
+        // Read
+        final List<String> names = new ArrayList<>();
+        final List<Double> heights = new ArrayList<>();
+        final List<Integer> addressNulls = new ArrayList<>();
+        final List<ByteBuffer> retained = new ArrayList<>();
+        try (InputStream fis = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            reader.readColumnsOffHeap(fis, 0, schema, 2, batch -> {
+                OffHeapColumn nameColumn = batch.getColumn("Name");
+                OffHeapColumn heightColumn = batch.getColumn("Height (mts)");
+                Assert.assertTrue(heightColumn.getDataBuffer().isDirect());
+                retained.add(nameColumn.getDataBuffer());
+                Assert.assertEquals((batch.getSize() + 1) * 4, nameColumn.getOffsetBuffer().remaining());
+
+                for (int i = 0; i < batch.getSize(); i++) {
+                    names.add(nameColumn.getString(i));
+                    heights.add(heightColumn.isNull(i) ? null : heightColumn.getDouble(i));
+                }
+                addressNulls.add(batch.getColumn("Address").getNullCount());
+            });
+        }
+        LOGGER.info("test_read_xlsx_columns_off_heap :: Output - {} {} {}", names, heights, addressNulls);
+
+        List<Employee> employees = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        Assert.assertEquals(employees.size(), names.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Assert.assertEquals(employees.get(i).getName(), names.get(i));
+            if (heights.get(i) != null) {
+                Assert.assertEquals(employees.get(i).getHeight(), heights.get(i));
+            }
+        }
+        Assert.assertEquals(employees.stream().filter(e -> e.getAddress() == null).count(),
+                addressNulls.stream().mapToInt(Integer::intValue).sum());
+
+        // Views held past the read are still backed by live memory
+        for (ByteBuffer view : retained) {
+            if (view.hasRemaining()) {
+                view.get(0);
+            }
+        }
+    }
+
+
+    // Probe
+
+    @Test
+    public void test_probe_xlsx_multiple_sheets() throws SpreadsheetReadException {
+        LOGGER.info("test_probe_xlsx_multiple_sheets :: Probing file - {}", _filepath_xlsx_multiple_sheets);
+        XlsxReader reader = new XlsxReader();
+
+        WorkbookInfo workbookInfo = reader.probe(new File(_filepath_xlsx_multiple_sheets));
+        LOGGER.info("test_probe_xlsx_multiple_sheets :: Output - {}", workbookInfo);
+
+        Assert.assertEquals(2, workbookInfo.getSheets().size());
+
+        SheetInfo employees = workbookInfo.getSheets().get(0);
+        Assert.assertEquals(0, employees.getHeaderRowNum());
+        Assert.assertTrue(employees.getRowCount() > 1);
+        Assert.assertTrue(employees.getHeaders().contains("Name"));
+        Assert.assertTrue(employees.getHeaders().contains("Height (mts)"));
+
+        SheetInfo companies = workbookInfo.getSheets().get(1);
+        Assert.assertTrue(companies.getHeaders().contains("Company Name"));
+    }
+
+
+    // Read Row Range
+
+    @Test
+    public void test_read_xlsx_row_range_with_index() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_xlsx_row_range_with_index :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        // Index, saved and loaded back
+        final File indexFile = File.createTempFile("competition_data", ".rowidx");
+        reader.buildRowIndex(file, 100).save(indexFile);
+        RowOffsetIndex index = RowOffsetIndex.load(indexFile);
+        indexFile.delete();
+        Assert.assertTrue(index.getSheet(0).getCheckpointCount() > 1);
+
+        // Read
+        List<CompetitionData> all = reader.read(CompetitionData.class, file, 0);
+        List<CompetitionData> scanned = reader.read(CompetitionData.class, file, 0, 501, 520, null);
+        List<CompetitionData> seeked = reader.read(CompetitionData.class, file, 0, 501, 520, index);
+
+        Assert.assertEquals(20, seeked.size());
+        Assert.assertEquals(all.subList(500, 520), scanned);
+        Assert.assertEquals(scanned, seeked);
+    }
+
+
+    // Read with ISO Dates
+
+    @Test
+    public void test_read_xlsx_iso_dates() throws SpreadsheetReadException, IOException {
+        final LocalDateTime starts = LocalDateTime.of(2020, 12, 24, 18, 30);
+        for (boolean date1904 : new boolean[] {false, true}) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (XSSFWorkbook wb = new XSSFWorkbook()) {
+                final CTWorkbook ctWorkbook = wb.getCTWorkbook();
+                (ctWorkbook.isSetWorkbookPr() ? ctWorkbook.getWorkbookPr() : ctWorkbook.addNewWorkbookPr())
+                        .setDate1904(date1904);
+                Assert.assertEquals(date1904, wb.isDate1904());
+                final CellStyle dateStyle = wb.createCellStyle();
+                dateStyle.setDataFormat(wb.createDataFormat().getFormat("dd/mm/yyyy"));
+                final CellStyle dateTimeStyle = wb.createCellStyle();
+                dateTimeStyle.setDataFormat(wb.createDataFormat().getFormat("d-mmm-yy h:mm"));
+
+                final XSSFSheet sheet = wb.createSheet("Holidays");
+                final XSSFRow header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Name");
+                header.createCell(1).setCellValue("Date");
+                header.createCell(2).setCellValue("Starts");
+                header.createCell(3).setCellValue("Ends");
+
+                final XSSFRow row = sheet.createRow(1);
+                row.createCell(0).setCellValue("Christmas");
+                row.createCell(1).setCellValue(starts.toLocalDate());
+                row.getCell(1).setCellStyle(dateStyle);
+                row.createCell(2).setCellValue(starts);
+                row.getCell(2).setCellStyle(dateTimeStyle);
+                row.createCell(3).setCellValue(starts.plusHours(4));
+                row.getCell(3).setCellStyle(dateTimeStyle);
+                wb.write(out);
+            }
+
+            XlsxReader reader = new XlsxReader().setIsoDates(true);
+            List<Holiday> holidays = reader.read(Holiday.class, new ByteArrayInputStream(out.toByteArray()), 0);
+            LOGGER.info("test_read_xlsx_iso_dates :: date1904 - {}, {}", date1904, holidays);
+
+            Assert.assertEquals(1, holidays.size());
+            Assert.assertEquals(starts.toLocalDate(), holidays.get(0).getDate());
+            Assert.assertEquals(starts, holidays.get(0).getStarts());
+            Assert.assertEquals(starts.plusHours(4).toInstant(ZoneOffset.UTC), holidays.get(0).getEnds());
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_iso_times() throws SpreadsheetReadException, IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            final CellStyle timeStyle = wb.createCellStyle();
+            timeStyle.setDataFormat(wb.createDataFormat().getFormat("h:mm"));
+
+            final XSSFSheet sheet = wb.createSheet("Shifts");
+            sheet.createRow(0).createCell(0).setCellValue("Starts");
+            final XSSFRow row = sheet.createRow(1);
+            row.createCell(0).setCellValue(0.5);
+            row.getCell(0).setCellStyle(timeStyle);
+            wb.write(out);
+        }
+
+        // Time-only format, no 1899-12-31 date
+        XlsxReader reader = new XlsxReader().setIsoDates(true);
+        List<Map<String, Object>> rows = reader.readAsMap(new ByteArrayInputStream(out.toByteArray()), 0);
+        Assert.assertEquals("12:00", rows.get(0).get("Starts"));
+    }
+
+
+    // Read Concurrently
+
+    @Test
+    public void test_read_xlsx_concurrently() throws Exception {
+        final XlsxReader reader = new XlsxReader();
+
+        // Expected, read one after another
+        final List<Callable<String>> reads = new ArrayList<>();
+        reads.add(() -> reader.read(Employee.class, new File(_filepath_xlsx_single_sheet), 0).toString());
+        reads.add(() -> reader.read(Employee.class, new File(_filepath_xlsx_multiple_sheets), 0).toString());
+        reads.add(() -> reader.read(Company.class, new File(_filepath_xlsx_multiple_sheets), 1).toString());
+        reads.add(() -> reader.read(CompetitionData.class, new File(_filepath_xlsx_competition), 0).toString());
+
+        final List<String> expected = new ArrayList<>();
+        for (Callable<String> read : reads) {
+            expected.add(read.call());
+        }
+
+        // Same reader, shared by the threads
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(reads.get(i % reads.size())));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(expected.get(i % reads.size()), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    // Read with a reused bean
+
+    @Test
+    public void test_read_xlsx_reusing_bean() throws SpreadsheetReadException {
+        LOGGER.info("test_read_xlsx_reusing_bean :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        final List<String> expected = new ArrayList<>();
+        reader.read(CompetitionData.class, file, 0, (rowNum, rowObj) -> expected.add(String.valueOf(rowObj)));
+
+        // Same bean instance, refilled for each row
+        final List<String> rows = new ArrayList<>();
+        final List<CompetitionData> instances = new ArrayList<>();
+        reader.read(CompetitionData.class, file, 0, RowListener.reusing((rowNum, rowObj) -> {
+            rows.add(String.valueOf(rowObj));
+            if (instances.isEmpty()) {
+                instances.add(rowObj);
+            }
+            Assert.assertSame(instances.get(0), rowObj);
+        }));
+        Assert.assertFalse(rows.isEmpty());
+        Assert.assertEquals(expected, rows);
+    }
+
+    @Test
+    public void test_read_xlsx_reusing_bean_across_sheets() throws SpreadsheetReadException, IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            final XSSFSheet first = wb.createSheet("First");
+            first.createRow(0).createCell(0).setCellValue("ID");
+            first.getRow(0).createCell(1).setCellValue("Age");
+            first.createRow(1).createCell(0).setCellValue("1");
+            first.getRow(1).createCell(1).setCellValue(30);
+
+            // No Age column
+            final XSSFSheet second = wb.createSheet("Second");
+            second.createRow(0).createCell(0).setCellValue("Name");
+            second.getRow(0).createCell(1).setCellValue("ID");
+            second.createRow(1).createCell(0).setCellValue("foo");
+            second.getRow(1).createCell(1).setCellValue("2");
+            wb.write(out);
+        }
+
+        // All the sheets, through the same handler
+        final List<Employee> beans = new ArrayList<>();
+        final List<String> rows = new ArrayList<>();
+        XlsxReader reader = new XlsxReader();
+        reader.read(Employee.class, new ByteArrayInputStream(out.toByteArray()),
+                RowListener.reusing((rowNum, rowObj) -> {
+                    beans.add(rowObj);
+                    rows.add(rowObj.getId() + "," + rowObj.getName() + "," + rowObj.getAge());
+                }));
+
+        // The bean of the first sheet is not refilled by the second
+        Assert.assertEquals(Arrays.asList("1,null,30", "2,foo,null"), rows);
+        Assert.assertNotSame(beans.get(0), beans.get(1));
+    }
+
+    @Test
+    public void test_read_xlsx_row_filter() throws SpreadsheetReadException {
+        LOGGER.info("test_read_xlsx_row_filter :: Reading file - {}", _filepath_xlsx_single_sheet);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_single_sheet);
+
+        final List<String> expected = new ArrayList<>();
+        reader.read(Employee.class, file, 0, (rowNum, rowObj) -> {
+            if ("MALE".equals(rowObj.getGender())) {
+                expected.add(String.valueOf(rowObj));
+            }
+        });
+
+        // Filtered on the raw cells
+        final List<String> rows = new ArrayList<>();
+        final RowFilter filter = RowFilter.whereEquals("Gender", "MALE").and("Name", name -> name != null);
+        reader.read(Employee.class, file, 0, RowListener.filtering(filter, (rowNum, rowObj) -> {
+            rows.add(String.valueOf(rowObj));
+        }));
+        Assert.assertFalse(rows.isEmpty());
+        Assert.assertEquals(expected, rows);
+    }
+
+
+    // Validation Policy
+
+    @Test
+    public void test_read_xlsx_validation_policy() throws SpreadsheetReadException, IOException {
+        // Row 3 has no ID, a required column
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            final XSSFSheet sheet = wb.createSheet("Employees");
+            final String[][] values = {{"ID", "Name"}, {"1", "Alice"}, {"", "Bob"}, {"3", "Carol"}};
+            for (int i = 0; i < values.length; i++) {
+                final XSSFRow row = sheet.createRow(i);
+                row.createCell(0).setCellValue(values[i][0]);
+                row.createCell(1).setCellValue(values[i][1]);
+            }
+            wb.write(out);
         }
-        */
+        final byte[] content = out.toByteArray();
+        XlsxReader reader = new XlsxReader();
+
+        // Fail, by default
+        try {
+            reader.read(Employee.class, new ByteArrayInputStream(content));
+            Assert.fail("Invalid row passed the validation");
+        } catch (SpreadsheetReadException ex) {
+            LOGGER.info("test_read_xlsx_validation_policy :: Failed - {}", ex.getMessage());
+        }
+
+        // Skip
+        final List<String> skipped = new ArrayList<>();
+        reader.read(Employee.class, new ByteArrayInputStream(content),
+                RowListener.validating(ValidationPolicy.SKIP, (rowNum, rowObj) -> skipped.add(rowObj.getName())));
+        Assert.assertEquals(Arrays.asList("Alice", "Carol"), skipped);
+
+        // Collect
+        final List<String> collected = new ArrayList<>();
+        final ValidationPolicy policy = ValidationPolicy.collecting();
+        reader.read(Employee.class, new ByteArrayInputStream(content),
+                RowListener.validating(policy, (rowNum, rowObj) -> collected.add(rowObj.getName())));
+        Assert.assertEquals(skipped, collected);
+        Assert.assertEquals(1, policy.getViolations().size());
+        Assert.assertEquals("A3", policy.getViolations().get(0).getCellReference());
     }
 
 
+    // Aggregation
+
+    @Test
+    public void test_aggregate_xlsx_group_by() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_aggregate_xlsx_group_by :: Reading file - {}", _filepath_xlsx_single_sheet);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_single_sheet);
+
+        final GroupBy groupBy = new GroupBy("Gender", ColumnType.STRING).measure("Height (mts)");
+        final GroupTable table;
+        try (InputStream is = new FileInputStream(file)) {
+            table = reader.aggregate(is, 0, groupBy);
+        }
+
+        // Expected, from the beans
+        final List<Employee> employees = reader.read(Employee.class, file, 0);
+        final int group = table.indexOf("MALE");
+        final List<Double> heights = new ArrayList<>();
+        for (Employee emp : employees) {
+            if ("MALE".equals(emp.getGender()) && emp.getHeight() != null) {
+                heights.add(emp.getHeight());
+            }
+        }
+        Assert.assertTrue(group >= 0);
+        Assert.assertEquals(employees.stream().filter(e -> "MALE".equals(e.getGender())).count(),
+                table.getCount(group));
+        Assert.assertEquals(heights.size(), table.getValueCount(group, 0));
+        Assert.assertEquals(heights.stream().mapToDouble(Double::doubleValue).sum(), table.getSum(group, 0), 1e-9);
+        Assert.assertEquals(heights.stream().mapToDouble(Double::doubleValue).max().getAsDouble(),
+                table.getMax(group, 0), 0D);
+
+        // Two partial aggregations of the same sheet, merged
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final GroupTable merged = reader.aggregate(file, new int[] {0, 0}, groupBy, executor);
+            Assert.assertEquals(table.getSize(), merged.getSize());
+            Assert.assertEquals(2 * table.getCount(group), merged.getCount(merged.indexOf("MALE")));
+            Assert.assertEquals(2 * table.getSum(group, 0), merged.getSum(merged.indexOf("MALE"), 0), 1e-9);
+            Assert.assertEquals(table.getMin(group, 0), merged.getMin(merged.indexOf("MALE"), 0), 0D);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+    // Cancellation
+
+    @Test
+    public void test_read_xlsx_cancelled() throws SpreadsheetReadException, IOException {
+        LOGGER.info("test_read_xlsx_cancelled :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        // Cancelled by the listener, the read stops at the next row
+        final CancellationToken token = CancellationToken.create();
+        final List<Integer> rowNums = new ArrayList<>();
+        try {
+            reader.read(CompetitionData.class, file, 0, RowListener.cancellable(token, (rowNum, rowObj) -> {
+                rowNums.add(rowNum);
+                if (rowNums.size() == 100) {
+                    token.cancel();
+                }
+            }));
+            Assert.fail("Read should be cancelled");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.CANCELLED, ex.getReason());
+        }
+        Assert.assertEquals(100, rowNums.size());
+
+        // Expired deadline, no row read
+        final List<Integer> expired = new ArrayList<>();
+        try (InputStream fis = new FileInputStream(file)) {
+            reader.readRows(fis, 0, RowListener.cancellable(CancellationToken.withTimeout(Duration.ZERO),
+                    (rowNum, sheetRow) -> expired.add(rowNum)));
+            Assert.fail("Read should be past its deadline");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.DEADLINE_EXCEEDED, ex.getReason());
+        }
+        Assert.assertTrue(expired.isEmpty());
+
+        // Collector based reads
+        final GroupBy groupBy = new GroupBy("Gender", ColumnType.STRING).measure("Height (mts)");
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            reader.aggregate(file, new int[] {0, 0}, groupBy, executor, token);
+            Assert.fail("Aggregation should be cancelled");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.CANCELLED, ex.getReason());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (InputStream fis = new FileInputStream(file)) {
+            reader.readAsMap(fis, 0, token);
+            Assert.fail("Read should be cancelled");
+        } catch (OperationCancelledException ex) {
+            Assert.assertEquals(OperationCancelledException.Reason.CANCELLED, ex.getReason());
+        }
+    }
+
+
+    // Read with Checkpoints
+
+    @Test
+    public void test_read_xlsx_resume_from_checkpoint() throws Exception {
+        LOGGER.info("test_read_xlsx_resume_from_checkpoint :: Reading file - {}", _filepath_xlsx_competition);
+        XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_competition);
+
+        final File storeDir = Files.createTempDirectory("checkpoints").toFile();
+        final CheckpointStore store = new FileCheckpointStore(storeDir);
+
+        // First attempt, fails at row 700
+        final List<Integer> rowNums = new ArrayList<>();
+        try (InputStream fis = new FileInputStream(file)) {
+            reader.read(CompetitionData.class, fis, 0, (rowNum, rowObj) -> {
+                if (rowNum == 700) {
+                    throw new IllegalStateException("Crash");
+                }
+                rowNums.add(rowNum);
+            }, new Checkpointer(store, "competition", 100));
+            Assert.fail("Read should have failed");
+        } catch (SpreadsheetReadException ex) {
+            LOGGER.info("test_read_xlsx_resume_from_checkpoint :: Failed - {}", ex.getMessage());
+        }
+        Assert.assertEquals(699, store.load("competition").getRowNum());
+
+        // Resume
+        final List<Integer> resumedRowNums = new ArrayList<>();
+        try (InputStream fis = new FileInputStream(file)) {
+            reader.read(CompetitionData.class, fis, 0, (rowNum, rowObj) -> resumedRowNums.add(rowNum),
+                    new Checkpointer(store, "competition", 100));
+        }
+        Assert.assertEquals(Integer.valueOf(700), resumedRowNums.get(0));
+        Assert.assertEquals(reader.read(CompetitionData.class, file, 0).size(), rowNums.size() + resumedRowNums.size());
+        Assert.assertNull(store.load("competition"));
+    }
+
 }
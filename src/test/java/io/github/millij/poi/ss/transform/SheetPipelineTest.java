@@ -0,0 +1,104 @@
+package io.github.millij.poi.ss.transform;
+
+import io.github.millij.bean.Company;
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class SheetPipelineTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SheetPipelineTest.class);
+
+    private final String _filepath_xlsx_single_sheet = "src/test/resources/sample-files/xlsx_sample_single_sheet.xlsx";
+    private final String _path_test_output = "test-cases/output/";
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() {
+        // prepare
+        File output_dir = new File(_path_test_output);
+        if (!output_dir.exists()) {
+            output_dir.mkdirs();
+        }
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_transform_xlsx_filter_map() throws IOException, SpreadsheetReadException {
+        final File source = new File(_filepath_xlsx_single_sheet);
+        final File target = new File(_path_test_output.concat("pipeline_companies.xlsx"));
+
+        // Pipeline, with a small buffer to have the stages wait on each other
+        final long written = SheetPipeline.from(new XlsxReader(), Employee.class, source, 0)
+                .setBufferSize(1)
+                .filter(e -> "MALE".equals(e.getGender()))
+                .map(e -> new Company(e.getName(), e.getAge(), e.getAddress()))
+                .writeTo(target, Company.class);
+        LOGGER.info("test_transform_xlsx_filter_map :: rows written - {}", written);
+
+        // Expected
+        final List<Employee> males = new XlsxReader().read(Employee.class, source, 0).stream()
+                .filter(e -> "MALE".equals(e.getGender()))
+                .collect(Collectors.toList());
+        Assert.assertTrue(males.size() > 0);
+        Assert.assertEquals(males.size(), written);
+
+        // Read back
+        final List<Company> companies = new XlsxReader().read(Company.class, target, 0);
+        Assert.assertEquals(males.size(), companies.size());
+        for (int i = 0; i < males.size(); i++) {
+            Assert.assertEquals(males.get(i).getName(), companies.get(i).getName());
+            Assert.assertEquals(males.get(i).getAddress(), companies.get(i).getAddress());
+        }
+    }
+
+    @Test
+    public void test_transform_xlsx_stage_failure() throws IOException, SpreadsheetReadException {
+        final File source = new File(_filepath_xlsx_single_sheet);
+        final File target = new File(_path_test_output.concat("pipeline_failure.xlsx"));
+
+        try {
+            SheetPipeline.from(new XlsxReader(), Employee.class, source, 0)
+                    .setBufferSize(1)
+                    .<Employee> map(e -> {
+                        throw new IllegalStateException("stage failure - " + e.getId());
+                    })
+                    .writeTo(target, Employee.class);
+            Assert.fail("Stage failure expected");
+        } catch (IllegalStateException ex) {
+            // No truncated workbook left
+            Assert.assertFalse(target.exists());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_transform_xlsx_single_thread_executor() {
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            SheetPipeline.from(new XlsxReader(), Employee.class, new File(_filepath_xlsx_single_sheet), 0)
+                    .setExecutor(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.github.millij.poi.ss.writer;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public class StreamingSpreadsheetWriterTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingSpreadsheetWriterTest.class);
+
+    private final String _path_test_output = "test-cases/output/";
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() {
+        // prepare
+        File output_dir = new File(_path_test_output);
+        if (!output_dir.exists()) {
+            output_dir.mkdirs();
+        }
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_write_xlsx_streaming_shared_strings() throws IOException, SpreadsheetReadException {
+        final File file = new File(_path_test_output.concat("streaming_shared_strings.xlsx"));
+
+        // Employees
+        List<Employee> employees = new ArrayList<Employee>();
+        for (int i = 0; i < 100; i++) {
+            employees.add(new Employee(String.valueOf(i), "name <" + i + "> & co", i, i % 2 == 0 ? "MALE" : "FEMALE",
+                    1.5 + i / 100.0));
+        }
+
+        // Write, with room in the shared strings for a few values only
+        StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(file).setMaxSharedStrings(10);
+        try {
+            writer.addSheet(Employee.class, employees);
+        } finally {
+            writer.close();
+        }
+        LOGGER.info("test_write_xlsx_streaming_shared_strings :: shared - {}, inline - {}",
+                writer.getSharedStringCount(), writer.getInlineStringCount());
+        Assert.assertEquals(10, writer.getSharedStringCount());
+        Assert.assertTrue(writer.getInlineStringCount() > 0);
+
+        // Read back
+        final List<Employee> read = new XlsxReader().read(Employee.class, file, 0);
+        Assert.assertEquals(employees.size(), read.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Assert.assertEquals(employees.get(i).getId(), read.get(i).getId());
+            Assert.assertEquals(employees.get(i).getName(), read.get(i).getName());
+            Assert.assertEquals(employees.get(i).getGender(), read.get(i).getGender());
+        }
+    }
+
+    @Test
+    public void test_write_xlsx_streaming_rows() throws IOException, SpreadsheetReadException {
+        final File file = new File(_path_test_output.concat("streaming_rows.xlsx"));
+
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(file)) {
+            writer.startSheet("Employees", Arrays.asList("ID", "Name", "Age", "Gender"));
+            writer.writeRow(Arrays.asList("1", " foo ", 12, "MALE"));
+            writer.writeRow(Arrays.asList("2", "bar", null, "MALE"));
+            writer.endSheet();
+        }
+
+        final List<Employee> read = new XlsxReader().read(Employee.class, file, 0);
+        Assert.assertEquals(2, read.size());
+        Assert.assertEquals(" foo ", read.get(0).getName());
+        Assert.assertEquals(Integer.valueOf(12), read.get(0).getAge());
+        Assert.assertEquals("MALE", read.get(1).getGender());
+    }
+
+}
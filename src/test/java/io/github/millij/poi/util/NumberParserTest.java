@@ -0,0 +1,54 @@
+package io.github.millij.poi.util;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class NumberParserTest {
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_parse_double_as_jdk() {
+        final String[] values = {"0", "-0", "1", "1.68", "-12.5", "0.001", "123456789012345678", "1.5E-3", "2e10",
+                "9007199254740993", "0.1", "3.14159265358979323846", "1e23", "4.9E-324", "1.7976931348623157E308",
+                " 7 ", ".5", "1.", "12.0", "1.5d"};
+        for (String value : values) {
+            Assert.assertEquals(value, Double.parseDouble(value), NumberParser.parseDouble(value), 0.0);
+            Assert.assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)),
+                    Double.doubleToLongBits(NumberParser.parseDouble(value)));
+        }
+
+        // Random values, in their shortest and fixed forms
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final double expected = random.nextDouble() * Math.pow(10, random.nextInt(20) - 8);
+            final String shortest = Double.toString(expected);
+            Assert.assertEquals(shortest, expected, NumberParser.parseDouble(shortest), 0.0);
+
+            final String fixed = String.format("%.6f", expected);
+            Assert.assertEquals(fixed, Double.parseDouble(fixed), NumberParser.parseDouble(fixed), 0.0);
+        }
+    }
+
+    @Test
+    public void test_parse_long_as_jdk() {
+        final String[] values = {"0", "-1", "+42", "123456789012345678", "9223372036854775807", "-9223372036854775808"};
+        for (String value : values) {
+            Assert.assertEquals(value, Long.parseLong(value), NumberParser.parseLong(value));
+        }
+
+        for (String invalid : new String[] {"", "-", "12.0", "1e3", "9223372036854775808", " 7"}) {
+            try {
+                NumberParser.parseLong(invalid);
+                Assert.fail("Should not parse - " + invalid);
+            } catch (NumberFormatException ex) {
+                // expected
+            }
+        }
+    }
+
+}